@@ -0,0 +1,102 @@
+import groovy.json.JsonSlurper
+
+plugins {
+	java
+	id("io.spring.dependency-management") version "1.1.7"
+	id("me.champeau.jmh") version "0.7.3"
+}
+
+group = "br.com.mswithspring.backend"
+version = "0.0.1-SNAPSHOT"
+
+java {
+	toolchain {
+		languageVersion = JavaLanguageVersion.of(21)
+	}
+}
+
+repositories {
+	mavenCentral()
+}
+
+extra["springCloudVersion"] = "2025.0.0"
+
+dependencies {
+	jmh(project(":ms-product"))
+	jmh(project(":ms-order"))
+	jmh("org.springframework:spring-web")
+	jmh("org.springframework.boot:spring-boot-autoconfigure")
+	jmh("com.fasterxml.jackson.core:jackson-databind")
+	jmh("com.fasterxml.jackson.datatype:jackson-datatype-jsr310")
+	jmh("io.micrometer:micrometer-core")
+	jmh("jakarta.persistence:jakarta.persistence-api")
+	jmh("jakarta.validation:jakarta.validation-api")
+}
+
+dependencyManagement {
+	imports {
+		mavenBom("org.springframework.boot:spring-boot-dependencies:3.5.3")
+		mavenBom("org.springframework.cloud:spring-cloud-dependencies:${property("springCloudVersion")}")
+	}
+}
+
+val baselineFile = layout.projectDirectory.file("baseline/jmh-baseline.json")
+val jmhResultsFile = layout.buildDirectory.file("results/jmh/results.json")
+
+jmh {
+	fork = 2
+	warmupIterations = 5
+	warmup = "1s"
+	iterations = 10
+	timeOnIteration = "1s"
+	threads = 1
+	profilers = listOf("gc")
+	resultFormat = "JSON"
+	resultsFile = jmhResultsFile
+	jvmArgs = listOf("-Xms1g", "-Xmx1g", "-XX:+UseG1GC", "-XX:+AlwaysPreTouch")
+	(findProperty("jmhIncludes") as String?)?.let { includes = listOf(it) }
+}
+
+tasks.register<Copy>("jmhBaseline") {
+	description = "Promove o último resultado do JMH a baseline (benchmarks/baseline/jmh-baseline.json)."
+	group = "benchmark"
+	from(jmhResultsFile)
+	into(baselineFile.asFile.parentFile)
+	rename { baselineFile.asFile.name }
+}
+
+tasks.register("jmhCompare") {
+	description = "Compara o último resultado do JMH com a baseline; -PmaxRegression=<percentual> falha a build acima do limite."
+	group = "benchmark"
+	doLast {
+		val baseline = baselineFile.asFile
+		val current = jmhResultsFile.get().asFile
+		check(baseline.exists()) { "Baseline não encontrada em ${baseline.path}. Execute ./gradlew :benchmarks:jmh :benchmarks:jmhBaseline." }
+		check(current.exists()) { "Resultado não encontrado em ${current.path}. Execute ./gradlew :benchmarks:jmh." }
+
+		fun scores(file: File): Map<String, Pair<Double, Boolean>> {
+			@Suppress("UNCHECKED_CAST")
+			val runs = JsonSlurper().parse(file) as List<Map<String, Any?>>
+			return runs.associate { run ->
+				val params = (run["params"] as Map<*, *>?)?.entries?.joinToString(",", "[", "]") { "${it.key}=${it.value}" } ?: ""
+				val metric = run["primaryMetric"] as Map<*, *>
+				"${run["benchmark"]}$params" to Pair((metric["score"] as Number).toDouble(), (metric["scoreUnit"] as String).startsWith("ops/"))
+			}
+		}
+
+		val maxRegression = (findProperty("maxRegression") as String?)?.toDouble()
+		val baselineScores = scores(baseline)
+		val regressions = mutableListOf<String>()
+		scores(current).forEach { (name, result) ->
+			val previous = baselineScores[name]?.first ?: return@forEach
+			val (score, higherIsBetter) = result
+			val change = (score - previous) / previous * 100
+			println(String.format("%-110s %14.2f %14.2f %+8.1f%%", name, previous, score, change))
+			val regression = if (higherIsBetter) -change else change
+			if (maxRegression != null && regression > maxRegression) {
+				regressions.add(name)
+			}
+		}
+		check(regressions.isEmpty()) { "Regressão acima de $maxRegression% em: $regressions" }
+	}
+}
@@ -0,0 +1,102 @@
+package br.com.mswithspring.backend.benchmarks;
+
+import br.com.mswithspring.backend.ms_order.dto.OrderConfirmationDto;
+import br.com.mswithspring.backend.ms_order.dto.OrderConfirmationItemDto;
+import br.com.mswithspring.backend.ms_order.dto.OrderDto;
+import br.com.mswithspring.backend.ms_order.dto.OrderItemDto;
+import br.com.mswithspring.backend.ms_product.model.dto.ProductDto;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JsonSerializationBenchmark {
+
+    private static final TypeReference<List<ProductDto>> PRODUCT_LIST = new TypeReference<>() {
+    };
+
+    @Param({"10", "100", "1000"})
+    private int size;
+
+    private ObjectMapper objectMapper;
+    private OrderDto orderDto;
+    private OrderConfirmationDto orderConfirmationDto;
+    private List<ProductDto> products;
+    private byte[] orderJson;
+    private byte[] orderConfirmationJson;
+    private byte[] productsJson;
+
+    @Setup
+    public void setUp() throws IOException {
+        try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext(JacksonAutoConfiguration.class)) {
+            objectMapper = context.getBean(ObjectMapper.class);
+        }
+
+        List<OrderItemDto> items = new ArrayList<>(size);
+        List<OrderConfirmationItemDto> confirmedItems = new ArrayList<>(size);
+        products = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            long productId = i + 1;
+            BigDecimal price = BigDecimal.valueOf(999 + productId * 137, 2);
+            int quantity = (i % 5) + 1;
+            items.add(new OrderItemDto(productId, quantity));
+            confirmedItems.add(new OrderConfirmationItemDto(productId, "Produto " + productId, price, quantity, price.multiply(BigDecimal.valueOf(quantity))));
+            products.add(new ProductDto("Produto " + productId, "Descrição do produto " + productId, price));
+        }
+        orderDto = new OrderDto(1L, items);
+        orderConfirmationDto = new OrderConfirmationDto("3f1c2d9e-8b7a-4c6d-9e0f-1a2b3c4d5e6f", 1L, new BigDecimal("12345.67"),
+                LocalDateTime.of(2025, 1, 1, 12, 0), confirmedItems, "SIMULATED_SUCCESS", "Pedido criado com sucesso.");
+
+        orderJson = objectMapper.writeValueAsBytes(orderDto);
+        orderConfirmationJson = objectMapper.writeValueAsBytes(orderConfirmationDto);
+        productsJson = objectMapper.writeValueAsBytes(products);
+    }
+
+    @Benchmark
+    public byte[] serializeOrder() throws IOException {
+        return objectMapper.writeValueAsBytes(orderDto);
+    }
+
+    @Benchmark
+    public OrderDto deserializeOrder() throws IOException {
+        return objectMapper.readValue(orderJson, OrderDto.class);
+    }
+
+    @Benchmark
+    public byte[] serializeOrderConfirmation() throws IOException {
+        return objectMapper.writeValueAsBytes(orderConfirmationDto);
+    }
+
+    @Benchmark
+    public OrderConfirmationDto deserializeOrderConfirmation() throws IOException {
+        return objectMapper.readValue(orderConfirmationJson, OrderConfirmationDto.class);
+    }
+
+    @Benchmark
+    public byte[] serializeProductList() throws IOException {
+        return objectMapper.writeValueAsBytes(products);
+    }
+
+    @Benchmark
+    public List<ProductDto> deserializeProductList() throws IOException {
+        return objectMapper.readValue(productsJson, PRODUCT_LIST);
+    }
+}
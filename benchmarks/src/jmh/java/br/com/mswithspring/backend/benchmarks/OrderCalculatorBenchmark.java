@@ -0,0 +1,72 @@
+package br.com.mswithspring.backend.benchmarks;
+
+import br.com.mswithspring.backend.ms_order.dto.OrderConfirmationDto;
+import br.com.mswithspring.backend.ms_order.dto.OrderConfirmationItemDto;
+import br.com.mswithspring.backend.ms_order.dto.OrderDto;
+import br.com.mswithspring.backend.ms_order.dto.OrderItemDto;
+import br.com.mswithspring.backend.ms_order.dto.ProductDto;
+import br.com.mswithspring.backend.ms_order.service.OrderCalculator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class OrderCalculatorBenchmark {
+
+    private static final int DISTINCT_PRODUCTS = 50;
+
+    @Param({"1", "10", "100", "1000"})
+    private int cartSize;
+
+    private final OrderCalculator orderCalculator = new OrderCalculator();
+    private OrderDto orderDto;
+    private Map<Long, ProductDto> products;
+
+    @Setup
+    public void setUp() {
+        products = new HashMap<>();
+        for (long id = 1; id <= DISTINCT_PRODUCTS; id++) {
+            products.put(id, new ProductDto("Produto " + id, BigDecimal.valueOf(999 + id * 137, 2)));
+        }
+        List<OrderItemDto> items = new ArrayList<>(cartSize);
+        for (int i = 0; i < cartSize; i++) {
+            items.add(new OrderItemDto((long) (i % DISTINCT_PRODUCTS) + 1, (i % 5) + 1));
+        }
+        orderDto = new OrderDto(1L, items);
+    }
+
+    @Benchmark
+    public OrderConfirmationDto minorUnits() {
+        return orderCalculator.calculate(orderDto, products);
+    }
+
+    @Benchmark
+    public OrderConfirmationDto bigDecimalBaseline() {
+        BigDecimal totalAmount = BigDecimal.ZERO;
+        List<OrderConfirmationItemDto> confirmedItems = new ArrayList<>();
+        for (OrderItemDto item : orderDto.items()) {
+            ProductDto product = products.get(item.productId());
+            BigDecimal itemSubtotal = product.price().multiply(BigDecimal.valueOf(item.quantity()));
+            totalAmount = totalAmount.add(itemSubtotal);
+            confirmedItems.add(new OrderConfirmationItemDto(item.productId(), product.name(), product.price(), item.quantity(), itemSubtotal));
+        }
+        return new OrderConfirmationDto(UUID.randomUUID().toString(), orderDto.customerId(), totalAmount, LocalDateTime.now(),
+                confirmedItems, "SIMULATED_SUCCESS", "Pedido criado com sucesso.");
+    }
+}
@@ -0,0 +1,113 @@
+package br.com.mswithspring.backend.benchmarks;
+
+import br.com.mswithspring.backend.ms_order.cache.ProductCache;
+import br.com.mswithspring.backend.ms_order.client.ProductClient;
+import br.com.mswithspring.backend.ms_order.config.OrderPersistenceProperties;
+import br.com.mswithspring.backend.ms_order.config.ProductCacheProperties;
+import br.com.mswithspring.backend.ms_order.config.ProductLookupProperties;
+import br.com.mswithspring.backend.ms_order.dto.OrderConfirmationDto;
+import br.com.mswithspring.backend.ms_order.dto.OrderDto;
+import br.com.mswithspring.backend.ms_order.dto.OrderItemDto;
+import br.com.mswithspring.backend.ms_order.dto.ProductDto;
+import br.com.mswithspring.backend.ms_order.service.OrderCalculator;
+import br.com.mswithspring.backend.ms_order.service.OrderService;
+import br.com.mswithspring.backend.ms_order.service.OrderWriteBehindQueue;
+import br.com.mswithspring.backend.ms_order.service.ProductLookupBatcher;
+import br.com.mswithspring.backend.ms_order.service.ProductLookupService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class OrderServiceBenchmark {
+
+    @Param({"1", "10", "100"})
+    private int cartSize;
+
+    @Param({"false", "true"})
+    private boolean productCacheEnabled;
+
+    private ExecutorService executor;
+    private ProductLookupBatcher productLookupBatcher;
+    private OrderService orderService;
+    private OrderDto orderDto;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+        ProductClient productClient = new StubProductClient(cartSize);
+        ProductLookupProperties lookupProperties = new ProductLookupProperties(ProductLookupProperties.Mode.BATCH, 16, Duration.ofMillis(2), 100, Duration.ofSeconds(5));
+        productLookupBatcher = new ProductLookupBatcher(productClient, lookupProperties, executor, meterRegistry);
+        productLookupBatcher.start();
+        ProductLookupService productLookupService = new ProductLookupService(productClient, lookupProperties, executor, productLookupBatcher);
+        ProductCache productCache = new ProductCache(productLookupService,
+                new ProductCacheProperties(productCacheEnabled, 10_000, Duration.ofMinutes(10), Duration.ofMinutes(1), false, Duration.ofHours(1)),
+                executor, meterRegistry);
+        OrderWriteBehindQueue orderWriteBehindQueue = new OrderWriteBehindQueue(null,
+                new OrderPersistenceProperties(false, 1, 1, Duration.ofMillis(50), Duration.ZERO, Duration.ZERO, Duration.ZERO, Duration.ZERO), meterRegistry);
+        orderService = new OrderService(productCache, new OrderCalculator(), orderWriteBehindQueue);
+
+        List<OrderItemDto> items = new ArrayList<>(cartSize);
+        for (int i = 0; i < cartSize; i++) {
+            items.add(new OrderItemDto((long) i + 1, (i % 5) + 1));
+        }
+        orderDto = new OrderDto(1L, items);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws InterruptedException {
+        productLookupBatcher.stop();
+        executor.close();
+    }
+
+    @Benchmark
+    public OrderConfirmationDto simulateOrder() {
+        return orderService.simulateOrder(orderDto);
+    }
+
+    private static final class StubProductClient implements ProductClient {
+
+        private final Map<Long, ProductDto> products = new HashMap<>();
+
+        private StubProductClient(int productCount) {
+            for (long id = 1; id <= productCount; id++) {
+                products.put(id, new ProductDto("Produto " + id, BigDecimal.valueOf(999 + id * 137, 2)));
+            }
+        }
+
+        @Override
+        public ProductDto getProductById(Long id) {
+            return products.get(id);
+        }
+
+        @Override
+        public Map<Long, ProductDto> getProductsByIds(Collection<Long> ids) {
+            Map<Long, ProductDto> found = new HashMap<>(ids.size() * 2);
+            ids.forEach(id -> found.put(id, products.get(id)));
+            return found;
+        }
+    }
+}
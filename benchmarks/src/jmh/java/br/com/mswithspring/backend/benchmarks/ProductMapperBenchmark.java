@@ -0,0 +1,42 @@
+package br.com.mswithspring.backend.benchmarks;
+
+import br.com.mswithspring.backend.ms_product.model.dto.ProductDto;
+import br.com.mswithspring.backend.ms_product.model.entity.Product;
+import br.com.mswithspring.backend.ms_product.service.mapper.ProductMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ProductMapperBenchmark {
+
+    private final ProductMapper productMapper = new ProductMapper();
+    private Product product;
+    private ProductDto productDto;
+
+    @Setup
+    public void setUp() {
+        product = new Product(1L, "Smartphone X", "Smartphone de última geração com câmera tripla.", new BigDecimal("1299.99"));
+        productDto = new ProductDto("Smartphone X", "Smartphone de última geração com câmera tripla.", new BigDecimal("1299.99"));
+    }
+
+    @Benchmark
+    public Optional<ProductDto> toDto() {
+        return productMapper.toDto(product);
+    }
+
+    @Benchmark
+    public Optional<Product> toEntity() {
+        return productMapper.toEntity(productDto);
+    }
+}
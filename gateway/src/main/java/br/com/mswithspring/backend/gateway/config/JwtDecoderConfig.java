@@ -0,0 +1,84 @@
+package br.com.mswithspring.backend.gateway.config;
+
+import br.com.mswithspring.backend.gateway.security.CachingReactiveJwtDecoder;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKMatcher;
+import com.nimbusds.jose.jwk.JWKSelector;
+import com.nimbusds.jose.jwk.source.JWKSource;
+import com.nimbusds.jose.jwk.source.JWKSourceBuilder;
+import com.nimbusds.jose.proc.SecurityContext;
+import com.nimbusds.jwt.SignedJWT;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.security.oauth2.resource.OAuth2ResourceServerProperties;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.oauth2.jwt.JwtValidators;
+import org.springframework.security.oauth2.jwt.NimbusReactiveJwtDecoder;
+import org.springframework.security.oauth2.jwt.ReactiveJwtDecoder;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.net.MalformedURLException;
+import java.net.URI;
+import java.net.URL;
+import java.time.Clock;
+import java.util.function.Function;
+
+@Configuration
+public class JwtDecoderConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(JwtDecoderConfig.class);
+
+    @Bean
+    public JWKSource<SecurityContext> jwkSource(OAuth2ResourceServerProperties resourceServerProperties, JwtDecoderProperties properties) {
+        return JWKSourceBuilder.<SecurityContext>create(jwkSetUrl(resourceServerProperties.getJwt().getJwkSetUri()))
+                .cache(properties.jwksCacheTtl().toMillis(), properties.jwksRefreshTimeout().toMillis())
+                .refreshAheadCache(properties.jwksRefreshAhead().toMillis(), true)
+                .outageTolerant(properties.jwksOutageTolerance().toMillis())
+                .retrying(true)
+                .build();
+    }
+
+    @Bean
+    public ReactiveJwtDecoder reactiveJwtDecoder(JWKSource<SecurityContext> jwkSource, OAuth2ResourceServerProperties resourceServerProperties,
+                                                 JwtDecoderProperties properties, MeterRegistry meterRegistry) {
+        NimbusReactiveJwtDecoder decoder = NimbusReactiveJwtDecoder.withJwkSource(matchingKeys(jwkSource)).build();
+        decoder.setJwtValidator(JwtValidators.createDefaultWithIssuer(resourceServerProperties.getJwt().getIssuerUri()));
+        if (!properties.cacheEnabled()) {
+            return decoder;
+        }
+        return new CachingReactiveJwtDecoder(decoder, properties.cacheMaximumSize(), properties.cacheMaxTtl(), meterRegistry,
+                Clock.systemUTC(), Ticker.systemTicker());
+    }
+
+    @Bean
+    public ApplicationListener<ApplicationReadyEvent> jwkSetPrefetcher(JWKSource<SecurityContext> jwkSource) {
+        return event -> Mono.fromCallable(() -> jwkSource.get(new JWKSelector(new JWKMatcher.Builder().build()), null))
+                .subscribeOn(Schedulers.boundedElastic())
+                .subscribe(keys -> log.info("JWKS pré-carregado com {} chave(s).", keys.size()),
+                        error -> log.warn("Falha ao pré-carregar o JWKS; nova tentativa na primeira requisição: {}", error.getMessage()));
+    }
+
+    private static Function<SignedJWT, Flux<JWK>> matchingKeys(JWKSource<SecurityContext> jwkSource) {
+        return jwt -> Mono.fromCallable(() -> jwkSource.get(new JWKSelector(JWKMatcher.forJWSHeader(jwt.getHeader())), null))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMapMany(Flux::fromIterable);
+    }
+
+    private static URL jwkSetUrl(String jwkSetUri) {
+        if (jwkSetUri == null || jwkSetUri.isBlank()) {
+            throw new IllegalStateException("A propriedade 'spring.security.oauth2.resourceserver.jwt.jwk-set-uri' é obrigatória.");
+        }
+        try {
+            return URI.create(jwkSetUri).toURL();
+        } catch (MalformedURLException | IllegalArgumentException e) {
+            throw new IllegalStateException(String.format("URI do JWKS inválida: %s", jwkSetUri), e);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package br.com.mswithspring.backend.gateway.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "gateway.jwt")
+public record JwtDecoderProperties(
+        @DefaultValue("15m") Duration jwksCacheTtl,
+        @DefaultValue("1m") Duration jwksRefreshAhead,
+        @DefaultValue("5s") Duration jwksRefreshTimeout,
+        @DefaultValue("1h") Duration jwksOutageTolerance,
+        @DefaultValue("true") boolean cacheEnabled,
+        @DefaultValue("10000") long cacheMaximumSize,
+        @DefaultValue("5m") Duration cacheMaxTtl
+) {
+}
@@ -1,22 +1,41 @@
 package br.com.mswithspring.backend.gateway.config;
 
+import org.springframework.boot.actuate.autoconfigure.web.server.ManagementServerProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.web.reactive.EnableWebFluxSecurity;
 import org.springframework.security.config.web.server.ServerHttpSecurity;
 import org.springframework.security.web.server.SecurityWebFilterChain;
+import org.springframework.security.web.server.util.matcher.ServerWebExchangeMatcher;
+import org.springframework.security.web.server.util.matcher.ServerWebExchangeMatchers;
+
+import java.net.InetSocketAddress;
 
 @Configuration
 @EnableWebFluxSecurity
 public class SecurityConfig {
 
     @Bean
-    public SecurityWebFilterChain securityWebFilterChain(ServerHttpSecurity http) {
+    public SecurityWebFilterChain securityWebFilterChain(ServerHttpSecurity http, ManagementServerProperties managementServerProperties) {
         http
                 .csrf(ServerHttpSecurity.CsrfSpec::disable)
-                .authorizeExchange(exchanges -> exchanges.anyExchange().authenticated())
+                .authorizeExchange(exchanges -> exchanges
+                        .pathMatchers("/actuator/health/**", "/actuator/info").permitAll()
+                        .matchers(prometheusOnManagementPort(managementServerProperties.getPort())).permitAll()
+                        .anyExchange().authenticated())
                 .oauth2ResourceServer(oauth2 -> oauth2.jwt(Customizer.withDefaults()));
         return http.build();
     }
-}
\ No newline at end of file
+
+    static ServerWebExchangeMatcher prometheusOnManagementPort(Integer managementPort) {
+        ServerWebExchangeMatcher prometheus = ServerWebExchangeMatchers.pathMatchers("/actuator/prometheus");
+        return exchange -> {
+            InetSocketAddress localAddress = exchange.getRequest().getLocalAddress();
+            if (managementPort == null || managementPort <= 0 || localAddress == null || localAddress.getPort() != managementPort) {
+                return ServerWebExchangeMatcher.MatchResult.notMatch();
+            }
+            return prometheus.matches(exchange);
+        };
+    }
+}
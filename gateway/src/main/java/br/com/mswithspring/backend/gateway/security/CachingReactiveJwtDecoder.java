@@ -0,0 +1,102 @@
+package br.com.mswithspring.backend.gateway.security;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.ReactiveJwtDecoder;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.concurrent.CompletableFuture;
+
+public class CachingReactiveJwtDecoder implements ReactiveJwtDecoder {
+
+    private final ReactiveJwtDecoder delegate;
+    private final AsyncCache<String, Jwt> verifiedTokens;
+    private final MeterRegistry meterRegistry;
+    private final Counter hits;
+    private final Counter misses;
+    private final Timer verificationSuccess;
+    private final Timer verificationFailure;
+
+    public CachingReactiveJwtDecoder(ReactiveJwtDecoder delegate, long maximumSize, Duration maxTtl, MeterRegistry meterRegistry,
+                                     Clock clock, Ticker ticker) {
+        this.delegate = delegate;
+        this.meterRegistry = meterRegistry;
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new UntilTokenExpiry(maxTtl, clock))
+                .ticker(ticker)
+                .buildAsync();
+        this.hits = Counter.builder("gateway.jwt.cache.requests").tag("result", "hit").register(meterRegistry);
+        this.misses = Counter.builder("gateway.jwt.cache.requests").tag("result", "miss").register(meterRegistry);
+        this.verificationSuccess = Timer.builder("gateway.jwt.verification").tag("outcome", "success").register(meterRegistry);
+        this.verificationFailure = Timer.builder("gateway.jwt.verification").tag("outcome", "failure").register(meterRegistry);
+        Gauge.builder("gateway.jwt.cache.size", verifiedTokens, cache -> cache.synchronous().estimatedSize()).register(meterRegistry);
+    }
+
+    @Override
+    public Mono<Jwt> decode(String token) {
+        String key = hash(token);
+        CompletableFuture<Jwt> cached = verifiedTokens.getIfPresent(key);
+        if (cached != null) {
+            hits.increment();
+            return Mono.fromFuture(cached, true);
+        }
+        misses.increment();
+        return Mono.fromFuture(verifiedTokens.get(key, (ignored, executor) -> verify(token)), true);
+    }
+
+    private CompletableFuture<Jwt> verify(String token) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        return delegate.decode(token)
+                .doOnSuccess(jwt -> sample.stop(verificationSuccess))
+                .doOnError(error -> sample.stop(verificationFailure))
+                .toFuture();
+    }
+
+    static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Algoritmo SHA-256 indisponível.", e);
+        }
+    }
+
+    private record UntilTokenExpiry(Duration maxTtl, Clock clock) implements Expiry<String, Jwt> {
+
+        @Override
+        public long expireAfterCreate(String key, Jwt jwt, long currentTime) {
+            if (jwt.getExpiresAt() == null) {
+                return maxTtl.toNanos();
+            }
+            Duration remaining = Duration.between(clock.instant(), jwt.getExpiresAt());
+            if (remaining.isNegative()) {
+                return 0;
+            }
+            return Math.min(remaining.toNanos(), maxTtl.toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Jwt jwt, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, jwt, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, Jwt jwt, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
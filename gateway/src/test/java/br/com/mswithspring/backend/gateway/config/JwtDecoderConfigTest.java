@@ -0,0 +1,131 @@
+package br.com.mswithspring.backend.gateway.config;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jose.jwk.JWKMatcher;
+import com.nimbusds.jose.jwk.JWKSelector;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import com.nimbusds.jose.jwk.source.JWKSource;
+import com.nimbusds.jose.proc.SecurityContext;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.security.oauth2.resource.OAuth2ResourceServerProperties;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.ReactiveJwtDecoder;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+@DisplayName("Testes para JwtDecoderConfig")
+class JwtDecoderConfigTest {
+
+    private static final String JWKS_PATH = "/certs";
+    private static final String ISSUER = "http://localhost/auth/realms/ms-product-realm";
+
+    private HttpServer server;
+    private final AtomicInteger jwksRequests = new AtomicInteger();
+    private final AtomicReference<JWKSet> publishedKeys = new AtomicReference<>();
+    private final JwtDecoderConfig config = new JwtDecoderConfig();
+    private OAuth2ResourceServerProperties resourceServerProperties;
+    private JwtDecoderProperties properties;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext(JWKS_PATH, exchange -> {
+            jwksRequests.incrementAndGet();
+            byte[] body = publishedKeys.get().toString(true).getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+        server.start();
+        resourceServerProperties = new OAuth2ResourceServerProperties();
+        resourceServerProperties.getJwt().setJwkSetUri("http://localhost:" + server.getAddress().getPort() + JWKS_PATH);
+        resourceServerProperties.getJwt().setIssuerUri(ISSUER);
+        properties = new JwtDecoderProperties(Duration.ofMinutes(15), Duration.ofMinutes(1), Duration.ofSeconds(5), Duration.ofHours(1),
+                true, 100, Duration.ofMinutes(5));
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    @DisplayName("Deve pré-carregar o JWKS na inicialização e reutilizá-lo nas consultas seguintes")
+    void shouldPrefetchJwkSetOnStartup() throws Exception {
+        publishedKeys.set(new JWKSet(rsaKey("chave-a").toPublicJWK()));
+        JWKSource<SecurityContext> jwkSource = config.jwkSource(resourceServerProperties, properties);
+
+        config.jwkSetPrefetcher(jwkSource).onApplicationEvent(null);
+        awaitJwksRequests(1);
+
+        assertEquals(1, jwkSource.get(new JWKSelector(new JWKMatcher.Builder().keyID("chave-a").build()), null).size());
+        assertEquals(1, jwksRequests.get());
+    }
+
+    @Test
+    @DisplayName("Deve buscar novamente o JWKS quando o token usar um kid desconhecido")
+    void shouldRefreshJwkSetForUnknownKeyId() throws Exception {
+        RSAKey currentKey = rsaKey("chave-a");
+        RSAKey rotatedKey = rsaKey("chave-b");
+        publishedKeys.set(new JWKSet(currentKey.toPublicJWK()));
+        JWKSource<SecurityContext> jwkSource = config.jwkSource(resourceServerProperties, properties);
+        ReactiveJwtDecoder decoder = config.reactiveJwtDecoder(jwkSource, resourceServerProperties, properties, new SimpleMeterRegistry());
+
+        assertEquals("user", decoder.decode(sign(currentKey)).map(Jwt::getSubject).block());
+        assertEquals(1, jwksRequests.get());
+
+        publishedKeys.set(new JWKSet(List.of(currentKey.toPublicJWK(), rotatedKey.toPublicJWK())));
+
+        assertEquals("user", decoder.decode(sign(rotatedKey)).map(Jwt::getSubject).block());
+        assertEquals(2, jwksRequests.get());
+    }
+
+    private void awaitJwksRequests(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (jwksRequests.get() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertEquals(expected, jwksRequests.get());
+    }
+
+    private static RSAKey rsaKey(String keyId) throws JOSEException {
+        return new RSAKeyGenerator(2048).keyID(keyId).generate();
+    }
+
+    private static String sign(RSAKey key) throws JOSEException {
+        JWTClaimsSet claims = new JWTClaimsSet.Builder()
+                .issuer(ISSUER)
+                .subject("user")
+                .issueTime(Date.from(Instant.now()))
+                .expirationTime(Date.from(Instant.now().plus(Duration.ofMinutes(5))))
+                .build();
+        SignedJWT jwt = new SignedJWT(new JWSHeader.Builder(JWSAlgorithm.RS256).keyID(key.getKeyID()).build(), claims);
+        jwt.sign(new RSASSASigner(key));
+        return jwt.serialize();
+    }
+}
@@ -0,0 +1,38 @@
+package br.com.mswithspring.backend.gateway.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.security.web.server.util.matcher.ServerWebExchangeMatcher;
+
+import java.net.InetSocketAddress;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+@DisplayName("Testes para SecurityConfig")
+class SecurityConfigTest {
+
+    @Test
+    @DisplayName("Deve liberar o /actuator/prometheus apenas na porta de gerenciamento")
+    void shouldPermitPrometheusOnlyOnManagementPort() {
+        ServerWebExchangeMatcher matcher = SecurityConfig.prometheusOnManagementPort(9080);
+
+        assertTrue(matches(matcher, "/actuator/prometheus", 9080));
+        assertFalse(matches(matcher, "/actuator/prometheus", 8080));
+        assertFalse(matches(matcher, "/products", 9080));
+    }
+
+    @Test
+    @DisplayName("Não deve liberar o /actuator/prometheus quando não houver porta de gerenciamento separada")
+    void shouldNotPermitPrometheusWithoutManagementPort() {
+        assertFalse(matches(SecurityConfig.prometheusOnManagementPort(null), "/actuator/prometheus", 8080));
+    }
+
+    private static boolean matches(ServerWebExchangeMatcher matcher, String path, int localPort) {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get(path)
+                .localAddress(new InetSocketAddress("localhost", localPort)));
+        return Boolean.TRUE.equals(matcher.matches(exchange).map(ServerWebExchangeMatcher.MatchResult::isMatch).block());
+    }
+}
@@ -0,0 +1,180 @@
+package br.com.mswithspring.backend.gateway.security;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.ReactiveJwtDecoder;
+import reactor.core.publisher.Mono;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+@DisplayName("Testes para CachingReactiveJwtDecoder")
+class CachingReactiveJwtDecoderTest {
+
+    private MeterRegistry meterRegistry;
+    private AtomicInteger verifications;
+    private MutableClock clock;
+    private AtomicLong tickerNanos;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        verifications = new AtomicInteger();
+        clock = new MutableClock(Instant.now());
+        tickerNanos = new AtomicLong();
+    }
+
+    @Test
+    @DisplayName("Deve reutilizar o token verificado sem repetir a validação da assinatura")
+    void shouldReuseVerifiedToken() {
+        Jwt jwt = jwt("token-a", Instant.now().plus(Duration.ofMinutes(5)));
+        CachingReactiveJwtDecoder decoder = newDecoder(token -> {
+            verifications.incrementAndGet();
+            return Mono.just(jwt);
+        });
+
+        assertSame(jwt, decoder.decode("token-a").block());
+        assertSame(jwt, decoder.decode("token-a").block());
+
+        assertEquals(1, verifications.get());
+        assertEquals(1, meterRegistry.get("gateway.jwt.cache.requests").tag("result", "hit").counter().count());
+        assertEquals(1, meterRegistry.get("gateway.jwt.verification").tag("outcome", "success").timer().count());
+    }
+
+    @Test
+    @DisplayName("Não deve manter em cache tokens que falharam na validação")
+    void shouldNotCacheFailedVerification() {
+        CachingReactiveJwtDecoder decoder = newDecoder(token -> {
+            verifications.incrementAndGet();
+            return Mono.error(new BadJwtException("Assinatura inválida"));
+        });
+
+        assertThrows(BadJwtException.class, () -> decoder.decode("token-b").block());
+        assertThrows(BadJwtException.class, () -> decoder.decode("token-b").block());
+
+        assertEquals(2, verifications.get());
+        assertEquals(2, meterRegistry.get("gateway.jwt.verification").tag("outcome", "failure").timer().count());
+    }
+
+    @Test
+    @DisplayName("Deve validar novamente o token após a sua expiração")
+    void shouldVerifyAgainAfterExpiry() {
+        Jwt expired = jwt("token-c", Instant.now().minusSeconds(1));
+        CachingReactiveJwtDecoder decoder = newDecoder(token -> {
+            verifications.incrementAndGet();
+            return Mono.just(expired);
+        });
+
+        decoder.decode("token-c").block();
+        decoder.decode("token-c").block();
+
+        assertEquals(2, verifications.get());
+    }
+
+    @Test
+    @DisplayName("Deve limitar a permanência em cache ao cache-max-ttl para tokens de longa duração")
+    void shouldCapCachedLifetimeAtMaxTtl() {
+        Jwt jwt = jwt("token-d", clock.instant().plus(Duration.ofHours(1)));
+        CachingReactiveJwtDecoder decoder = newDecoder(token -> {
+            verifications.incrementAndGet();
+            return Mono.just(jwt);
+        });
+
+        decoder.decode("token-d").block();
+        advance(Duration.ofMinutes(9));
+        decoder.decode("token-d").block();
+        assertEquals(1, verifications.get());
+
+        advance(Duration.ofMinutes(1).plusSeconds(1));
+        decoder.decode("token-d").block();
+        assertEquals(2, verifications.get());
+    }
+
+    @Test
+    @DisplayName("Deve remover o token do cache quando ele expirar antes do cache-max-ttl")
+    void shouldEvictTokenAtItsExpiry() {
+        Jwt jwt = jwt("token-e", clock.instant().plus(Duration.ofMinutes(2)));
+        CachingReactiveJwtDecoder decoder = newDecoder(token -> {
+            verifications.incrementAndGet();
+            return Mono.just(jwt);
+        });
+
+        decoder.decode("token-e").block();
+        advance(Duration.ofMinutes(1));
+        decoder.decode("token-e").block();
+        assertEquals(1, verifications.get());
+
+        advance(Duration.ofMinutes(1).plusSeconds(1));
+        decoder.decode("token-e").block();
+        assertEquals(2, verifications.get());
+        assertEquals(2, meterRegistry.get("gateway.jwt.cache.requests").tag("result", "miss").counter().count());
+    }
+
+    @Test
+    @DisplayName("Deve registrar os timers de verificação na construção do decoder")
+    void shouldRegisterVerificationTimersUpFront() {
+        newDecoder(token -> Mono.empty());
+
+        assertEquals(0, meterRegistry.get("gateway.jwt.verification").tag("outcome", "success").timer().count());
+        assertEquals(0, meterRegistry.get("gateway.jwt.verification").tag("outcome", "failure").timer().count());
+    }
+
+    private CachingReactiveJwtDecoder newDecoder(ReactiveJwtDecoder delegate) {
+        return new CachingReactiveJwtDecoder(delegate, 100, Duration.ofMinutes(10), meterRegistry, clock, tickerNanos::get);
+    }
+
+    private void advance(Duration duration) {
+        clock.advance(duration);
+        tickerNanos.addAndGet(duration.toNanos());
+    }
+
+    private Jwt jwt(String token, Instant expiresAt) {
+        return Jwt.withTokenValue(token)
+                .header("alg", "RS256")
+                .subject("user")
+                .issuedAt(expiresAt.minus(Duration.ofMinutes(10)))
+                .expiresAt(expiresAt)
+                .build();
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private volatile Instant instant;
+
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
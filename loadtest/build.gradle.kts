@@ -0,0 +1,52 @@
+plugins {
+	java
+	application
+	id("io.spring.dependency-management") version "1.1.7"
+}
+
+group = "br.com.mswithspring.backend"
+version = "0.0.1-SNAPSHOT"
+
+java {
+	toolchain {
+		languageVersion = JavaLanguageVersion.of(21)
+	}
+}
+
+repositories {
+	mavenCentral()
+}
+
+dependencies {
+	implementation("io.zonky.test:embedded-postgres:2.1.0")
+	implementation("org.postgresql:postgresql")
+	implementation("com.nimbusds:nimbus-jose-jwt")
+	implementation("com.fasterxml.jackson.core:jackson-databind")
+	implementation("org.hdrhistogram:HdrHistogram:2.2.2")
+	runtimeOnly("org.slf4j:slf4j-simple")
+}
+
+dependencyManagement {
+	imports {
+		mavenBom("org.springframework.boot:spring-boot-dependencies:3.5.3")
+	}
+}
+
+application {
+	mainClass = "br.com.mswithspring.backend.loadtest.LoadTestHarness"
+}
+
+val serviceJars = listOf("eureka", "gateway", "ms-product", "ms-order")
+
+tasks.named<JavaExec>("run") {
+	description = "Sobe Eureka, gateway, ms-product e ms-order localmente e executa o teste de carga ponta a ponta."
+	group = "verification"
+	serviceJars.forEach { service ->
+		dependsOn(":$service:bootJar")
+		systemProperty("loadtest.jar.$service", project(":$service").layout.buildDirectory.file("libs/$service-0.0.1-SNAPSHOT.jar").get().asFile.absolutePath)
+	}
+	systemProperty("loadtest.workDir", layout.buildDirectory.dir("loadtest").get().asFile.absolutePath)
+	System.getProperties().stringPropertyNames()
+		.filter { it.startsWith("loadtest.") }
+		.forEach { systemProperty(it, System.getProperty(it)) }
+}
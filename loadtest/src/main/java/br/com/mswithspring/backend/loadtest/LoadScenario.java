@@ -0,0 +1,7 @@
+package br.com.mswithspring.backend.loadtest;
+
+import java.net.http.HttpRequest;
+import java.util.function.Supplier;
+
+record LoadScenario(String name, String hop, int ratePerSecond, Supplier<HttpRequest> requests) {
+}
@@ -0,0 +1,227 @@
+package br.com.mswithspring.backend.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+
+public final class LoadTestHarness {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private LoadTestHarness() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.fromSystemProperties();
+        Path logDir = options.workDir().resolve("logs");
+        List<ServiceProcess> services = new ArrayList<>();
+        HttpClient client = HttpClient.newBuilder()
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .connectTimeout(Duration.ofSeconds(2))
+                .build();
+
+        try (EmbeddedPostgres postgres = EmbeddedPostgres.builder().start();
+             JwksStub jwks = JwksStub.start()) {
+            createDatabases(postgres, "ms_product_db", "ms_order_db");
+            String token = "Bearer " + jwks.mintToken(options.duration().plus(options.warmUp()).plus(options.startupTimeout()).plusHours(1));
+            Map<String, String> authorization = Map.of("Authorization", token);
+            String internalApiToken = UUID.randomUUID().toString();
+
+            ServiceProcess eureka = start(services, options, "eureka", Map.of(), logDir);
+            eureka.awaitReady(client, "/eureka/apps", Map.of(), status -> status == 200, options.startupTimeout());
+            String eurekaUrl = eureka.baseUrl() + "/eureka/";
+
+            ServiceProcess product = start(services, options, "ms-product", withProfiles(options, withDiscovery(eurekaUrl, Map.of(
+                    "spring.datasource.url", postgres.getJdbcUrl("postgres", "ms_product_db") + "&reWriteBatchedInserts=true",
+                    "spring.datasource.username", "postgres",
+                    "spring.datasource.password", "",
+                    "spring.jpa.show-sql", "false",
+                    "ms-product.cache-invalidation.token", internalApiToken))), logDir);
+            ServiceProcess order = start(services, options, "ms-order", withProfiles(options, withDiscovery(eurekaUrl, Map.of(
+                    "spring.datasource.url", postgres.getJdbcUrl("postgres", "ms_order_db") + "&reWriteBatchedInserts=true",
+                    "spring.datasource.username", "postgres",
+                    "spring.datasource.password", "",
+                    "ms-order.internal-api.token", internalApiToken))), logDir);
+            ServiceProcess gateway = start(services, options, "gateway", withDiscovery(eurekaUrl, Map.of(
+                    "spring.security.oauth2.resourceserver.jwt.issuer-uri", jwks.issuer(),
+                    "spring.security.oauth2.resourceserver.jwt.jwk-set-uri", jwks.jwkSetUri())), logDir);
+
+            product.awaitReady(client, "/actuator/health", Map.of(), status -> status == 200, options.startupTimeout());
+            order.awaitReady(client, "/actuator/health", Map.of(), status -> status == 200, options.startupTimeout());
+            gateway.awaitReady(client, "/products/1", authorization, status -> status == 200, options.startupTimeout());
+            gateway.awaitReady(client, "/products/1", Map.of(), status -> status == 401, options.startupTimeout());
+
+            List<LoadScenario> scenarios = scenarios(options, gateway, product, order, token);
+            System.out.printf("%nAquecimento de %s e medição de %s em %d cenários (perfis: %s)...%n", options.warmUp(), options.duration(),
+                    scenarios.size(), options.serviceProfiles().isBlank() ? "default" : options.serviceProfiles());
+            List<ScenarioResult> results = new ScenarioRunner(client, options.maxInFlight())
+                    .run(scenarios, options.warmUp(), options.duration());
+
+            ScenarioResult.printHeader();
+            results.forEach(ScenarioResult::print);
+            Map<String, Map<String, Double>> serverSide = new LinkedHashMap<>();
+            serverSide.putAll(serverMetrics(client, product, "http.server.requests", List.of("/products", "/products/{id}", "/products/batch")));
+            serverSide.putAll(serverMetrics(client, order, "http.server.requests", List.of("/orders/simulate")));
+            printServerMetrics(serverSide);
+            writeReport(options, results, serverSide);
+        } finally {
+            for (int i = services.size() - 1; i >= 0; i--) {
+                services.get(i).close();
+            }
+            client.close();
+        }
+    }
+
+    private static List<LoadScenario> scenarios(LoadTestOptions options, ServiceProcess gateway, ServiceProcess product,
+                                                ServiceProcess order, String token) {
+        List<LoadScenario> scenarios = new ArrayList<>();
+        scenarios.add(new LoadScenario("GET /products", "gateway -> ms-product", options.productsRate(),
+                () -> get(gateway.baseUrl() + "/products", token)));
+        scenarios.add(new LoadScenario("GET /products/{id}", "gateway -> ms-product", options.productByIdRate(),
+                () -> get(gateway.baseUrl() + "/products/" + randomProductId(options), token)));
+        scenarios.add(new LoadScenario("POST /orders/simulate", "gateway -> ms-order", options.ordersRate(),
+                () -> post(gateway.baseUrl() + "/orders/simulate", orderBody(options), token)));
+        if (options.includeDirectHops()) {
+            scenarios.add(new LoadScenario("GET /products/{id}", "ms-product", options.productByIdRate(),
+                    () -> get(product.baseUrl() + "/products/" + randomProductId(options), null)));
+            scenarios.add(new LoadScenario("POST /orders/simulate", "ms-order -> ms-product", options.ordersRate(),
+                    () -> post(order.baseUrl() + "/orders/simulate", orderBody(options), null)));
+        }
+        return scenarios;
+    }
+
+    private static ServiceProcess start(List<ServiceProcess> services, LoadTestOptions options, String name,
+                                        Map<String, String> properties, Path logDir) throws IOException {
+        ServiceProcess service = ServiceProcess.start(name, options.serviceJars().get(name), freePort(), properties, logDir);
+        services.add(service);
+        return service;
+    }
+
+    private static Map<String, String> withDiscovery(String eurekaUrl, Map<String, String> properties) {
+        Map<String, String> merged = new HashMap<>(properties);
+        merged.put("eureka.client.serviceUrl.defaultZone", eurekaUrl);
+        merged.put("eureka.client.registry-fetch-interval-seconds", "1");
+        merged.put("eureka.instance.lease-renewal-interval-in-seconds", "1");
+        merged.put("spring.cloud.loadbalancer.cache.ttl", "1s");
+        return merged;
+    }
+
+    private static Map<String, String> withProfiles(LoadTestOptions options, Map<String, String> properties) {
+        if (!options.serviceProfiles().isBlank()) {
+            properties.put("spring.profiles.active", options.serviceProfiles());
+        }
+        return properties;
+    }
+
+    private static void createDatabases(EmbeddedPostgres postgres, String... databases) throws Exception {
+        try (Connection connection = postgres.getPostgresDatabase().getConnection();
+             Statement statement = connection.createStatement()) {
+            for (String database : databases) {
+                statement.execute("CREATE DATABASE " + database);
+            }
+        }
+    }
+
+    private static HttpRequest get(String url, String token) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(url)).timeout(Duration.ofSeconds(30)).GET();
+        if (token != null) {
+            builder.header("Authorization", token);
+        }
+        return builder.build();
+    }
+
+    private static HttpRequest post(String url, String body, String token) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(url))
+                .timeout(Duration.ofSeconds(30))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body));
+        if (token != null) {
+            builder.header("Authorization", token);
+        }
+        return builder.build();
+    }
+
+    private static long randomProductId(LoadTestOptions options) {
+        return ThreadLocalRandom.current().nextLong(1, options.maxProductId() + 1);
+    }
+
+    private static String orderBody(LoadTestOptions options) {
+        return String.format("{\"customerId\":%d,\"items\":[{\"productId\":%d,\"quantity\":%d},{\"productId\":%d,\"quantity\":1}]}",
+                ThreadLocalRandom.current().nextLong(1, 10_000), randomProductId(options),
+                ThreadLocalRandom.current().nextInt(1, 5), randomProductId(options));
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private static Map<String, Map<String, Double>> serverMetrics(HttpClient client, ServiceProcess service, String metric, List<String> uris)
+            throws IOException, InterruptedException {
+        Map<String, Map<String, Double>> metrics = new LinkedHashMap<>();
+        for (String uri : uris) {
+            String url = service.baseUrl() + "/actuator/metrics/" + metric + "?tag=uri:" + URLEncoder.encode(uri, StandardCharsets.UTF_8);
+            HttpResponse<String> response = client.send(HttpRequest.newBuilder(URI.create(url)).GET().build(), HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() != 200) {
+                continue;
+            }
+            Map<String, Double> statistics = new LinkedHashMap<>();
+            for (JsonNode measurement : OBJECT_MAPPER.readTree(response.body()).path("measurements")) {
+                statistics.put(measurement.path("statistic").asText(), measurement.path("value").asDouble());
+            }
+            double count = statistics.getOrDefault("COUNT", 0.0);
+            Map<String, Double> summary = new LinkedHashMap<>();
+            summary.put("count", count);
+            summary.put("meanMillis", count == 0 ? 0 : statistics.getOrDefault("TOTAL_TIME", 0.0) / count * 1_000);
+            summary.put("maxMillis", statistics.getOrDefault("MAX", 0.0) * 1_000);
+            metrics.put(service.name() + " " + uri, summary);
+        }
+        return metrics;
+    }
+
+    private static void printServerMetrics(Map<String, Map<String, Double>> serverSide) {
+        System.out.printf("%nTempo no servidor (http.server.requests, inclui aquecimento):%n");
+        System.out.printf("%-40s %10s %12s %12s%n", "serviço/uri", "req", "média (ms)", "máx (ms)");
+        serverSide.forEach((name, summary) -> System.out.printf("%-40s %10.0f %12.2f %12.2f%n",
+                name, summary.get("count"), summary.get("meanMillis"), summary.get("maxMillis")));
+    }
+
+    private static void writeReport(LoadTestOptions options, List<ScenarioResult> results, Map<String, Map<String, Double>> serverSide)
+            throws IOException {
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("timestamp", Instant.now().toString());
+        report.put("warmUp", options.warmUp().toString());
+        report.put("duration", options.duration().toString());
+        report.put("profiles", options.serviceProfiles());
+        report.put("scenarios", results.stream().map(ScenarioResult::toMap).toList());
+        report.put("serverSide", serverSide);
+        Files.createDirectories(options.workDir());
+        Path reportFile = options.workDir().resolve("report.json");
+        OBJECT_MAPPER.writerWithDefaultPrettyPrinter().writeValue(reportFile.toFile(), report);
+        System.out.printf("%nRelatório gravado em %s%n", reportFile);
+    }
+}
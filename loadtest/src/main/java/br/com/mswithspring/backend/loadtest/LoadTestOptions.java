@@ -0,0 +1,50 @@
+package br.com.mswithspring.backend.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+
+record LoadTestOptions(
+        Map<String, Path> serviceJars,
+        Path workDir,
+        int productsRate,
+        int productByIdRate,
+        int ordersRate,
+        Duration warmUp,
+        Duration duration,
+        int maxInFlight,
+        long maxProductId,
+        boolean includeDirectHops,
+        Duration startupTimeout,
+        String serviceProfiles
+) {
+
+    static LoadTestOptions fromSystemProperties() {
+        Map<String, Path> serviceJars = Map.of(
+                "eureka", requiredPath("loadtest.jar.eureka"),
+                "gateway", requiredPath("loadtest.jar.gateway"),
+                "ms-product", requiredPath("loadtest.jar.ms-product"),
+                "ms-order", requiredPath("loadtest.jar.ms-order"));
+        return new LoadTestOptions(
+                serviceJars,
+                Path.of(System.getProperty("loadtest.workDir", "build/loadtest")),
+                Integer.getInteger("loadtest.rate.products", 20),
+                Integer.getInteger("loadtest.rate.productById", 200),
+                Integer.getInteger("loadtest.rate.orders", 100),
+                Duration.parse(System.getProperty("loadtest.warmUp", "PT15S")),
+                Duration.parse(System.getProperty("loadtest.duration", "PT60S")),
+                Integer.getInteger("loadtest.maxInFlight", 2000),
+                Long.getLong("loadtest.maxProductId", 10L),
+                Boolean.parseBoolean(System.getProperty("loadtest.directHops", "true")),
+                Duration.parse(System.getProperty("loadtest.startupTimeout", "PT3M")),
+                System.getProperty("loadtest.profiles", ""));
+    }
+
+    private static Path requiredPath(String property) {
+        String value = System.getProperty(property);
+        if (value == null || value.isBlank()) {
+            throw new IllegalArgumentException(String.format("Propriedade obrigatória '%s' não informada.", property));
+        }
+        return Path.of(value);
+    }
+}
@@ -0,0 +1,70 @@
+package br.com.mswithspring.backend.loadtest;
+
+import org.HdrHistogram.Histogram;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+record ScenarioResult(
+        String name,
+        String hop,
+        int targetRate,
+        long sent,
+        long succeeded,
+        long failed,
+        long dropped,
+        double throughput,
+        double p50Millis,
+        double p99Millis,
+        double p999Millis,
+        double maxMillis
+) {
+
+    static ScenarioResult of(LoadScenario scenario, Histogram latencies, long sent, long succeeded, long failed, long dropped, Duration elapsed) {
+        return new ScenarioResult(
+                scenario.name(),
+                scenario.hop(),
+                scenario.ratePerSecond(),
+                sent,
+                succeeded,
+                failed,
+                dropped,
+                succeeded / (elapsed.toNanos() / 1_000_000_000.0),
+                millis(latencies.getValueAtPercentile(50.0)),
+                millis(latencies.getValueAtPercentile(99.0)),
+                millis(latencies.getValueAtPercentile(99.9)),
+                millis(latencies.getMaxValue()));
+    }
+
+    static void printHeader() {
+        System.out.printf("%n%-28s %-22s %8s %8s %8s %8s %10s %10s %10s %10s %10s%n",
+                "cenário", "hop", "alvo/s", "ok", "erros", "descart.", "req/s", "p50 (ms)", "p99 (ms)", "p999 (ms)", "máx (ms)");
+    }
+
+    void print() {
+        System.out.printf("%-28s %-22s %8d %8d %8d %8d %10.1f %10.2f %10.2f %10.2f %10.2f%n",
+                name, hop, targetRate, succeeded, failed, dropped, throughput, p50Millis, p99Millis, p999Millis, maxMillis);
+    }
+
+    Map<String, Object> toMap() {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("name", name);
+        map.put("hop", hop);
+        map.put("targetRate", targetRate);
+        map.put("sent", sent);
+        map.put("succeeded", succeeded);
+        map.put("failed", failed);
+        map.put("dropped", dropped);
+        map.put("throughput", throughput);
+        map.put("p50Millis", p50Millis);
+        map.put("p99Millis", p99Millis);
+        map.put("p999Millis", p999Millis);
+        map.put("maxMillis", maxMillis);
+        return map;
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
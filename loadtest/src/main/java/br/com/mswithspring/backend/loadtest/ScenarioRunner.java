@@ -0,0 +1,114 @@
+package br.com.mswithspring.backend.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+final class ScenarioRunner {
+
+    private static final long HIGHEST_TRACKABLE_NANOS = TimeUnit.MINUTES.toNanos(2);
+
+    private final HttpClient client;
+    private final int maxInFlight;
+
+    ScenarioRunner(HttpClient client, int maxInFlight) {
+        this.client = client;
+        this.maxInFlight = maxInFlight;
+    }
+
+    List<ScenarioResult> run(List<LoadScenario> scenarios, Duration warmUp, Duration duration) throws InterruptedException {
+        runAll(scenarios, warmUp);
+        return runAll(scenarios, duration);
+    }
+
+    private List<ScenarioResult> runAll(List<LoadScenario> scenarios, Duration duration) throws InterruptedException {
+        List<Execution> executions = scenarios.stream().map(scenario -> new Execution(scenario, duration)).toList();
+        ScheduledExecutorService ticker = Executors.newScheduledThreadPool(Math.max(1, scenarios.size()));
+        try {
+            executions.forEach(execution -> execution.start(ticker));
+            for (Execution execution : executions) {
+                execution.await(duration.plusSeconds(60));
+            }
+        } finally {
+            ticker.shutdownNow();
+        }
+        return executions.stream().map(Execution::result).toList();
+    }
+
+    private final class Execution {
+
+        private final LoadScenario scenario;
+        private final long totalRequests;
+        private final long intervalNanos;
+        private final Histogram latencies = new ConcurrentHistogram(HIGHEST_TRACKABLE_NANOS, 3);
+        private final AtomicLong sequence = new AtomicLong();
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final LongAdder succeeded = new LongAdder();
+        private final LongAdder failed = new LongAdder();
+        private final LongAdder dropped = new LongAdder();
+        private final CountDownLatch completed;
+        private ScheduledFuture<?> schedule;
+        private long startNanos;
+        private long endNanos;
+
+        private Execution(LoadScenario scenario, Duration duration) {
+            this.scenario = scenario;
+            this.totalRequests = Math.max(1, scenario.ratePerSecond() * duration.toSeconds());
+            this.intervalNanos = TimeUnit.SECONDS.toNanos(1) / Math.max(1, scenario.ratePerSecond());
+            this.completed = new CountDownLatch(Math.toIntExact(totalRequests));
+        }
+
+        private void start(ScheduledExecutorService ticker) {
+            startNanos = System.nanoTime();
+            schedule = ticker.scheduleAtFixedRate(this::fire, 0, intervalNanos, TimeUnit.NANOSECONDS);
+        }
+
+        private void fire() {
+            long n = sequence.getAndIncrement();
+            if (n >= totalRequests) {
+                schedule.cancel(false);
+                return;
+            }
+            long intendedStart = startNanos + n * intervalNanos;
+            if (inFlight.incrementAndGet() > maxInFlight) {
+                inFlight.decrementAndGet();
+                dropped.increment();
+                completed.countDown();
+                return;
+            }
+            client.sendAsync(scenario.requests().get(), HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, error) -> {
+                        latencies.recordValue(Math.min(HIGHEST_TRACKABLE_NANOS, System.nanoTime() - intendedStart));
+                        if (error == null && response.statusCode() < 400) {
+                            succeeded.increment();
+                        } else {
+                            failed.increment();
+                        }
+                        inFlight.decrementAndGet();
+                        completed.countDown();
+                    });
+        }
+
+        private void await(Duration timeout) throws InterruptedException {
+            completed.await(timeout.toMillis(), TimeUnit.MILLISECONDS);
+            endNanos = System.nanoTime();
+        }
+
+        private ScenarioResult result() {
+            return ScenarioResult.of(scenario, latencies, Math.min(sequence.get(), totalRequests), succeeded.sum(), failed.sum(), dropped.sum(),
+                    Duration.ofNanos(endNanos - startNanos));
+        }
+    }
+}
@@ -18,23 +18,57 @@ repositories {
 }
 
 extra["springCloudVersion"] = "2025.0.0"
+extra["resilience4jVersion"] = "2.3.0"
 
 dependencies {
 	implementation("org.springframework.boot:spring-boot-starter-web")
+	implementation("org.springframework.boot:spring-boot-starter-webflux")
 	implementation("org.springframework.cloud:spring-cloud-starter-netflix-eureka-client")
 	implementation("org.springframework.boot:spring-boot-starter-validation")
 	implementation("org.springframework.cloud:spring-cloud-starter-openfeign")
+	implementation("io.github.openfeign:feign-hc5")
+	implementation("io.github.openfeign:feign-micrometer")
+	implementation("io.github.resilience4j:resilience4j-circuitbreaker")
+	implementation("io.github.resilience4j:resilience4j-bulkhead")
+	implementation("io.github.resilience4j:resilience4j-micrometer")
+	implementation("org.springframework.boot:spring-boot-starter-actuator")
+	implementation("io.micrometer:micrometer-tracing-bridge-otel")
+	implementation("io.opentelemetry:opentelemetry-exporter-otlp")
+	implementation("io.micrometer:context-propagation")
+	implementation("org.springframework.boot:spring-boot-starter-jdbc")
+	implementation("com.github.ben-manes.caffeine:caffeine")
+	runtimeOnly("org.postgresql:postgresql")
+	runtimeOnly("io.micrometer:micrometer-registry-prometheus")
 
 	testImplementation("org.springframework.boot:spring-boot-starter-test")
+	testImplementation("io.projectreactor:reactor-test")
+	testImplementation("io.opentelemetry:opentelemetry-sdk-testing")
 	testRuntimeOnly("org.junit.platform:junit-platform-launcher")
 }
 
 dependencyManagement {
 	imports {
 		mavenBom("org.springframework.cloud:spring-cloud-dependencies:${property("springCloudVersion")}")
+		mavenBom("io.github.resilience4j:resilience4j-bom:${property("resilience4jVersion")}")
 	}
 }
 
-tasks.withType<Test> {
-	useJUnitPlatform()
-}
\ No newline at end of file
+tasks.test {
+	useJUnitPlatform {
+		excludeTags("load")
+	}
+}
+
+tasks.register<Test>("loadTest") {
+	description = "Compara /orders/simulate e /orders/simulate/reactive sob carga concorrente."
+	group = "verification"
+	testClassesDirs = sourceSets["test"].output.classesDirs
+	classpath = sourceSets["test"].runtimeClasspath
+	useJUnitPlatform {
+		includeTags("load")
+	}
+	testLogging {
+		showStandardStreams = true
+	}
+	outputs.upToDateWhen { false }
+}
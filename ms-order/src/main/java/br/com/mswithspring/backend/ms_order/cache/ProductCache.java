@@ -0,0 +1,139 @@
+package br.com.mswithspring.backend.ms_order.cache;
+
+import br.com.mswithspring.backend.ms_order.config.ProductCacheProperties;
+import br.com.mswithspring.backend.ms_order.dto.ProductCacheStatsDto;
+import br.com.mswithspring.backend.ms_order.dto.ProductDto;
+import br.com.mswithspring.backend.ms_order.exception.ProductServiceUnavailableException;
+import br.com.mswithspring.backend.ms_order.service.ProductLookupService;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+
+
+@Component
+public class ProductCache {
+
+    private final ProductLookupService productLookupService;
+    private final ProductCacheProperties properties;
+    private final LoadingCache<Long, ProductDto> cache;
+    private final Cache<Long, ProductDto> lastKnownProducts;
+    private final Counter staleResponses;
+
+    @Autowired
+    public ProductCache(ProductLookupService productLookupService,
+                        ProductCacheProperties properties,
+                        @Qualifier("productLookupExecutor") ExecutorService productLookupExecutor,
+                        MeterRegistry meterRegistry) {
+        this.productLookupService = productLookupService;
+        this.properties = properties;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.maximumSize())
+                .expireAfterWrite(properties.ttl())
+                .refreshAfterWrite(properties.refreshAfter())
+                .executor(productLookupExecutor)
+                .recordStats()
+                .build(new ProductCacheLoader());
+        this.lastKnownProducts = Caffeine.newBuilder()
+                .maximumSize(properties.maximumSize())
+                .expireAfterWrite(properties.staleTtl())
+                .build();
+        this.staleResponses = Counter.builder("product.cache.stale.responses").register(meterRegistry);
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "productCache");
+    }
+
+    public Map<Long, ProductDto> getAll(Collection<Long> productIds) {
+        try {
+            if (!properties.enabled()) {
+                return remember(productLookupService.findProducts(productIds));
+            }
+            return cache.getAll(productIds);
+        } catch (ProductServiceUnavailableException e) {
+            return getLastKnown(productIds, e);
+        }
+    }
+
+    public Map<Long, ProductDto> getAllPresent(Collection<Long> productIds) {
+        if (!properties.enabled()) {
+            return Map.of();
+        }
+        return cache.getAllPresent(productIds);
+    }
+
+    public void putAll(Map<Long, ProductDto> products) {
+        if (properties.enabled()) {
+            cache.putAll(products);
+        }
+        remember(products);
+    }
+
+    public void invalidate(Collection<Long> productIds) {
+        cache.invalidateAll(productIds);
+        lastKnownProducts.invalidateAll(productIds);
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+        lastKnownProducts.invalidateAll();
+    }
+
+    public ProductCacheStatsDto stats() {
+        CacheStats stats = cache.stats();
+        return new ProductCacheStatsDto(
+                cache.estimatedSize(),
+                stats.hitCount(),
+                stats.missCount(),
+                stats.hitRate(),
+                stats.evictionCount(),
+                stats.loadFailureCount(),
+                lastKnownProducts.estimatedSize(),
+                (long) staleResponses.count()
+        );
+    }
+
+    private Map<Long, ProductDto> getLastKnown(Collection<Long> productIds, ProductServiceUnavailableException cause) {
+        if (!properties.serveStaleOnFailure()) {
+            throw cause;
+        }
+        Map<Long, ProductDto> products = lastKnownProducts.getAllPresent(productIds);
+        if (!products.keySet().containsAll(new HashSet<>(productIds))) {
+            throw cause;
+        }
+        staleResponses.increment();
+        return products;
+    }
+
+    private Map<Long, ProductDto> remember(Map<Long, ProductDto> products) {
+        if (properties.serveStaleOnFailure()) {
+            lastKnownProducts.putAll(products);
+        }
+        return products;
+    }
+
+    private class ProductCacheLoader implements CacheLoader<Long, ProductDto> {
+
+        @Override
+        public ProductDto load(Long productId) {
+            return remember(productLookupService.findProducts(List.of(productId))).get(productId);
+        }
+
+        @Override
+        public Map<Long, ProductDto> loadAll(Set<? extends Long> productIds) {
+            return remember(productLookupService.findProducts(List.copyOf(productIds)));
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package br.com.mswithspring.backend.ms_order.client;
+
+import java.util.Arrays;
+
+class LatencyWindow {
+
+    private final long[] samples;
+    private int next;
+    private int count;
+
+    LatencyWindow(int size) {
+        this.samples = new long[Math.max(1, size)];
+    }
+
+    synchronized void record(long nanos) {
+        samples[next] = nanos;
+        next = (next + 1) % samples.length;
+        count = Math.min(count + 1, samples.length);
+    }
+
+    synchronized int count() {
+        return count;
+    }
+
+    long percentile(double percentile) {
+        long[] sorted;
+        synchronized (this) {
+            if (count == 0) {
+                return 0;
+            }
+            sorted = Arrays.copyOf(samples, count);
+        }
+        Arrays.sort(sorted);
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.min(sorted.length - 1, Math.max(0, index))];
+    }
+}
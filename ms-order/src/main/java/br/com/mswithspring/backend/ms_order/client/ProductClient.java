@@ -4,11 +4,22 @@ import br.com.mswithspring.backend.ms_order.dto.ProductDto;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 
+import java.util.Collection;
+import java.util.Map;
 
-@FeignClient(name = "MS-PRODUCT")
+
+@FeignClient(name = "MS-PRODUCT", qualifiers = "feignProductClient", primary = false)
 public interface ProductClient {
 
+    /** Limite de IDs aceito por POST /products/batch no MS-PRODUCT (@Size(max = 1000)). */
+    int MAX_BATCH_SIZE = 1000;
+
     @GetMapping("/products/{id}")
     ProductDto getProductById(@PathVariable("id") Long id);
+
+    @PostMapping("/products/batch")
+    Map<Long, ProductDto> getProductsByIds(@RequestBody Collection<Long> ids);
 }
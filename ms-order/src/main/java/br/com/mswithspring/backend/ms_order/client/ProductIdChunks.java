@@ -0,0 +1,20 @@
+package br.com.mswithspring.backend.ms_order.client;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+final class ProductIdChunks {
+
+    private ProductIdChunks() {
+    }
+
+    static List<List<Long>> of(Collection<Long> ids) {
+        List<Long> distinctIds = ids.stream().distinct().toList();
+        List<List<Long>> chunks = new ArrayList<>((distinctIds.size() + ProductClient.MAX_BATCH_SIZE - 1) / ProductClient.MAX_BATCH_SIZE);
+        for (int from = 0; from < distinctIds.size(); from += ProductClient.MAX_BATCH_SIZE) {
+            chunks.add(distinctIds.subList(from, Math.min(from + ProductClient.MAX_BATCH_SIZE, distinctIds.size())));
+        }
+        return chunks;
+    }
+}
@@ -0,0 +1,53 @@
+package br.com.mswithspring.backend.ms_order.client;
+
+import br.com.mswithspring.backend.ms_order.dto.ProductDto;
+import br.com.mswithspring.backend.ms_order.exception.OrderCreationException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+
+@Component
+public class ReactiveProductClient {
+
+    private static final ParameterizedTypeReference<Map<Long, ProductDto>> PRODUCTS_BY_ID = new ParameterizedTypeReference<>() {
+    };
+
+    private final WebClient productWebClient;
+
+    @Autowired
+    public ReactiveProductClient(@Qualifier("productWebClient") WebClient productWebClient) {
+        this.productWebClient = productWebClient;
+    }
+
+    public Mono<Map<Long, ProductDto>> getProductsByIds(Collection<Long> ids) {
+        Mono<Map<Long, ProductDto>> products = ids.size() <= ProductClient.MAX_BATCH_SIZE
+                ? fetch(ids)
+                : Flux.fromIterable(ProductIdChunks.of(ids))
+                        .flatMap(this::fetch)
+                        .<Map<Long, ProductDto>>reduceWith(HashMap::new, (merged, chunk) -> {
+                            merged.putAll(chunk);
+                            return merged;
+                        });
+        return products
+                .onErrorMap(e -> !(e instanceof OrderCreationException),
+                        e -> new OrderCreationException(String.format("Não foi possível consultar os produtos %s. Detalhes: %s", ids, e.getMessage())));
+    }
+
+    private Mono<Map<Long, ProductDto>> fetch(Collection<Long> ids) {
+        return productWebClient.post()
+                .uri("/products/batch")
+                .bodyValue(ids)
+                .retrieve()
+                .bodyToMono(PRODUCTS_BY_ID)
+                .defaultIfEmpty(Map.of());
+    }
+}
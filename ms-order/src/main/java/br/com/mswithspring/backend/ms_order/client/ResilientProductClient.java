@@ -0,0 +1,256 @@
+package br.com.mswithspring.backend.ms_order.client;
+
+import br.com.mswithspring.backend.ms_order.config.ProductClientResilienceProperties;
+import br.com.mswithspring.backend.ms_order.dto.ProductDto;
+import br.com.mswithspring.backend.ms_order.exception.ProductServiceUnavailableException;
+import feign.FeignException;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+
+
+@Primary
+@Component
+public class ResilientProductClient implements ProductClient {
+
+    private static final List<String> OPERATIONS = List.of("getProductById", "getProductsByIds");
+    private static final List<String> OUTCOMES = List.of("success", "error", "timeout", "not_found", "client_error", "circuit_open", "bulkhead_rejected");
+
+    private final ProductClient delegate;
+    private final ProductClientResilienceProperties properties;
+    private final CircuitBreaker circuitBreaker;
+    private final Bulkhead bulkhead;
+    private final ExecutorService productLookupExecutor;
+    private final LatencyWindow latencyWindow;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Timer> requestTimers;
+    private final Counter bulkheadRejections;
+    private final Counter timeouts;
+    private final Counter hedgedCalls;
+
+    @Autowired
+    public ResilientProductClient(@Qualifier("feignProductClient") ProductClient delegate,
+                                  ProductClientResilienceProperties properties,
+                                  @Qualifier("productClientCircuitBreaker") CircuitBreaker circuitBreaker,
+                                  @Qualifier("productClientBulkhead") Bulkhead bulkhead,
+                                  @Qualifier("productLookupExecutor") ExecutorService productLookupExecutor,
+                                  MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.properties = properties;
+        this.circuitBreaker = circuitBreaker;
+        this.bulkhead = bulkhead;
+        this.productLookupExecutor = productLookupExecutor;
+        this.latencyWindow = new LatencyWindow(properties.hedging().windowSize());
+        this.meterRegistry = meterRegistry;
+        this.requestTimers = registerRequestTimers(meterRegistry);
+        this.bulkheadRejections = Counter.builder("product.client.bulkhead.rejected").register(meterRegistry);
+        this.timeouts = Counter.builder("product.client.timeouts").register(meterRegistry);
+        this.hedgedCalls = Counter.builder("product.client.hedged.calls").register(meterRegistry);
+    }
+
+    @Override
+    public ProductDto getProductById(Long id) {
+        return execute("getProductById", () -> delegate.getProductById(id));
+    }
+
+    @Override
+    public Map<Long, ProductDto> getProductsByIds(Collection<Long> ids) {
+        if (ids.size() <= MAX_BATCH_SIZE) {
+            return execute("getProductsByIds", () -> delegate.getProductsByIds(ids));
+        }
+        Map<Long, ProductDto> products = new HashMap<>();
+        for (List<Long> chunk : ProductIdChunks.of(ids)) {
+            products.putAll(execute("getProductsByIds", () -> delegate.getProductsByIds(chunk)));
+        }
+        return products;
+    }
+
+    private <T> T execute(String operation, Supplier<T> call) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        if (!bulkhead.tryAcquirePermission()) {
+            bulkheadRejections.increment();
+            sample.stop(requestTimer(operation, "bulkhead_rejected"));
+            throw new ProductServiceUnavailableException("MS-PRODUCT está sobrecarregado: limite de chamadas simultâneas atingido.");
+        }
+        AtomicBoolean permitHeld = new AtomicBoolean(true);
+        String outcome = "error";
+        try {
+            T value = circuitBreaker.executeSupplier(() -> callWithTimeout(call, permitHeld));
+            outcome = "success";
+            return value;
+        } catch (CallNotPermittedException e) {
+            outcome = "circuit_open";
+            throw new ProductServiceUnavailableException("MS-PRODUCT está indisponível no momento (circuit breaker aberto).");
+        } catch (RuntimeException e) {
+            outcome = outcomeOf(e);
+            throw e;
+        } finally {
+            if (permitHeld.compareAndSet(true, false)) {
+                bulkhead.onComplete();
+            }
+            sample.stop(requestTimer(operation, outcome));
+        }
+    }
+
+    private Timer requestTimer(String operation, String outcome) {
+        return requestTimers.get(operation + ":" + outcome);
+    }
+
+    private static Map<String, Timer> registerRequestTimers(MeterRegistry meterRegistry) {
+        Map<String, Timer> timers = new HashMap<>();
+        for (String operation : OPERATIONS) {
+            for (String outcome : OUTCOMES) {
+                timers.put(operation + ":" + outcome, Timer.builder("product.client.requests")
+                        .tag("operation", operation)
+                        .tag("outcome", outcome)
+                        .register(meterRegistry));
+            }
+        }
+        return Map.copyOf(timers);
+    }
+
+    private static String outcomeOf(RuntimeException e) {
+        if (e.getCause() instanceof TimeoutException) {
+            return "timeout";
+        }
+        if (e instanceof FeignException.NotFound) {
+            return "not_found";
+        }
+        if (e instanceof FeignException.FeignClientException) {
+            return "client_error";
+        }
+        return "error";
+    }
+
+    private <T> T callWithTimeout(Supplier<T> call, AtomicBoolean primaryPermit) {
+        long start = System.nanoTime();
+        long deadline = start + properties.timeout().toNanos();
+        CompletableFuture<T> result = new CompletableFuture<>();
+        AtomicInteger outstanding = new AtomicInteger(1);
+        BiConsumer<T, Throwable> onComplete = (value, error) -> {
+            if (error == null) {
+                result.complete(value);
+            } else if (outstanding.decrementAndGet() == 0) {
+                result.completeExceptionally(error);
+            }
+        };
+        List<Attempt> attempts = new ArrayList<>(2);
+        primaryPermit.set(false);
+        attempts.add(startAttempt(call, onComplete));
+
+        try {
+            T value = awaitResult(call, result, outstanding, onComplete, attempts, deadline);
+            latencyWindow.record(System.nanoTime() - start);
+            return value;
+        } catch (TimeoutException e) {
+            timeouts.increment();
+            throw new ProductServiceUnavailableException(String.format("MS-PRODUCT não respondeu em %d ms.", properties.timeout().toMillis()), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ProductServiceUnavailableException("A chamada ao MS-PRODUCT foi interrompida.");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new ProductServiceUnavailableException(String.format("Falha ao chamar o MS-PRODUCT. Detalhes: %s", e.getCause().getMessage()));
+        } finally {
+            attempts.forEach(this::cancel);
+        }
+    }
+
+    private <T> T awaitResult(Supplier<T> call, CompletableFuture<T> result, AtomicInteger outstanding, BiConsumer<T, Throwable> onComplete,
+                              List<Attempt> attempts, long deadline) throws TimeoutException, InterruptedException, ExecutionException {
+        if (hedgingAllowed()) {
+            Duration delay = hedgeDelay();
+            if (delay.compareTo(properties.timeout()) < 0) {
+                try {
+                    return result.get(delay.toNanos(), TimeUnit.NANOSECONDS);
+                } catch (TimeoutException e) {
+                    startHedge(call, result, outstanding, onComplete, attempts);
+                }
+            }
+        }
+        return result.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+    }
+
+    private <T> void startHedge(Supplier<T> call, CompletableFuture<T> result, AtomicInteger outstanding,
+                                BiConsumer<T, Throwable> onComplete, List<Attempt> attempts) {
+        if (result.isDone() || !bulkhead.tryAcquirePermission()) {
+            return;
+        }
+        outstanding.incrementAndGet();
+        try {
+            attempts.add(startAttempt(call, onComplete));
+            hedgedCalls.increment();
+        } catch (ProductServiceUnavailableException e) {
+            onComplete.accept(null, e);
+        }
+    }
+
+    private <T> Attempt startAttempt(Supplier<T> call, BiConsumer<T, Throwable> onComplete) {
+        AtomicBoolean started = new AtomicBoolean();
+        try {
+            Future<?> future = productLookupExecutor.submit(() -> {
+                if (!started.compareAndSet(false, true)) {
+                    return;
+                }
+                try {
+                    onComplete.accept(call.get(), null);
+                } catch (Throwable error) {
+                    onComplete.accept(null, error);
+                } finally {
+                    bulkhead.onComplete();
+                }
+            });
+            return new Attempt(future, started);
+        } catch (RejectedExecutionException e) {
+            bulkhead.onComplete();
+            throw new ProductServiceUnavailableException("Não foi possível agendar a chamada ao MS-PRODUCT.", e);
+        }
+    }
+
+    private void cancel(Attempt attempt) {
+        // Tentativa cancelada antes de a tarefa rodar nunca chega ao finally da tarefa; a vaga do bulkhead é devolvida aqui.
+        if (attempt.future().cancel(true) && attempt.started().compareAndSet(false, true)) {
+            bulkhead.onComplete();
+        }
+    }
+
+    private boolean hedgingAllowed() {
+        return properties.hedging().enabled() && latencyWindow.count() >= properties.hedging().minSamples();
+    }
+
+    private Duration hedgeDelay() {
+        long percentileNanos = latencyWindow.percentile(properties.hedging().percentile());
+        Duration percentile = Duration.ofNanos(percentileNanos);
+        return percentile.compareTo(properties.hedging().minDelay()) > 0 ? percentile : properties.hedging().minDelay();
+    }
+
+    private record Attempt(Future<?> future, AtomicBoolean started) {
+    }
+}
@@ -0,0 +1,14 @@
+package br.com.mswithspring.backend.ms_order.config;
+
+import jakarta.validation.constraints.NotBlank;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+@Validated
+@ConfigurationProperties(prefix = "ms-order.internal-api")
+public record InternalApiProperties(
+        @NotBlank(message = "O token da API interna (INTERNAL_API_TOKEN) deve ser informado.") String token
+) {
+
+    public static final String TOKEN_HEADER = "X-Internal-Token";
+}
@@ -0,0 +1,14 @@
+package br.com.mswithspring.backend.ms_order.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "ms-order.idempotency")
+public record OrderIdempotencyProperties(
+        @DefaultValue("100000") long maximumSize,
+        @DefaultValue("24h") Duration ttl,
+        @DefaultValue("255") int maxKeyLength
+) {
+}
@@ -0,0 +1,19 @@
+package br.com.mswithspring.backend.ms_order.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "ms-order.order-persistence")
+public record OrderPersistenceProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("10000") int queueCapacity,
+        @DefaultValue("500") int batchSize,
+        @DefaultValue("50ms") Duration flushInterval,
+        @DefaultValue("0ms") Duration offerTimeout,
+        @DefaultValue("200ms") Duration retryBackoff,
+        @DefaultValue("5s") Duration maxRetryBackoff,
+        @DefaultValue("30s") Duration shutdownTimeout
+) {
+}
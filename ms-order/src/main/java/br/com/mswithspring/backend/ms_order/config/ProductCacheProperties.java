@@ -0,0 +1,17 @@
+package br.com.mswithspring.backend.ms_order.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "ms-order.product-cache")
+public record ProductCacheProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("10000") long maximumSize,
+        @DefaultValue("10m") Duration ttl,
+        @DefaultValue("1m") Duration refreshAfter,
+        @DefaultValue("true") boolean serveStaleOnFailure,
+        @DefaultValue("1h") Duration staleTtl
+) {
+}
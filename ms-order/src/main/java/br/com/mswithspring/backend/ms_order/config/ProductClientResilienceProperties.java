@@ -0,0 +1,31 @@
+package br.com.mswithspring.backend.ms_order.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "ms-order.product-client.resilience")
+public record ProductClientResilienceProperties(
+        @DefaultValue("50") float failureRateThreshold,
+        @DefaultValue("50") float slowCallRateThreshold,
+        @DefaultValue("1s") Duration slowCallDurationThreshold,
+        @DefaultValue("50") int slidingWindowSize,
+        @DefaultValue("20") int minimumNumberOfCalls,
+        @DefaultValue("10s") Duration waitDurationInOpenState,
+        @DefaultValue("5") int permittedCallsInHalfOpenState,
+        @DefaultValue("32") int maxConcurrentCalls,
+        @DefaultValue("0ms") Duration maxWaitDuration,
+        @DefaultValue("2s") Duration timeout,
+        @DefaultValue Hedging hedging
+) {
+
+    public record Hedging(
+            @DefaultValue("false") boolean enabled,
+            @DefaultValue("0.95") double percentile,
+            @DefaultValue("20ms") Duration minDelay,
+            @DefaultValue("100") int windowSize,
+            @DefaultValue("20") int minSamples
+    ) {
+    }
+}
@@ -0,0 +1,19 @@
+package br.com.mswithspring.backend.ms_order.config;
+
+import io.micrometer.context.ContextExecutorService;
+import io.micrometer.context.ContextSnapshotFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+@Configuration
+public class ProductLookupConfig {
+
+    @Bean(destroyMethod = "close")
+    public ExecutorService productLookupExecutor() {
+        ExecutorService executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("product-lookup-", 0).factory());
+        return ContextExecutorService.wrap(executor, ContextSnapshotFactory.builder().build());
+    }
+}
@@ -0,0 +1,22 @@
+package br.com.mswithspring.backend.ms_order.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "ms-order.product-lookup")
+public record ProductLookupProperties(
+        @DefaultValue("BATCH") Mode mode,
+        @DefaultValue("16") int maxConcurrency,
+        @DefaultValue("2ms") Duration batchWindow,
+        @DefaultValue("100") int maxBatchSize,
+        @DefaultValue("5s") Duration batchTimeout
+) {
+
+    public enum Mode {
+        BATCH,
+        CONCURRENT,
+        MICRO_BATCH
+    }
+}
@@ -0,0 +1,14 @@
+package br.com.mswithspring.backend.ms_order.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "ms-order.reactive-product-client")
+public record ReactiveProductClientProperties(
+        @DefaultValue("http://MS-PRODUCT") String baseUrl,
+        @DefaultValue("1s") Duration connectTimeout,
+        @DefaultValue("2s") Duration responseTimeout
+) {
+}
@@ -2,15 +2,19 @@ package br.com.mswithspring.backend.ms_order.controller;
 
 import br.com.mswithspring.backend.ms_order.dto.OrderConfirmationDto;
 import br.com.mswithspring.backend.ms_order.dto.OrderDto;
+import br.com.mswithspring.backend.ms_order.service.OrderIdempotencyStore;
 import br.com.mswithspring.backend.ms_order.service.OrderService;
+import br.com.mswithspring.backend.ms_order.service.ReactiveOrderService;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
 
 
 @RestController
@@ -18,15 +22,39 @@ import org.springframework.web.bind.annotation.RestController;
 public class OrderController {
 
     private final OrderService orderService;
+    private final ReactiveOrderService reactiveOrderService;
+    private final OrderIdempotencyStore orderIdempotencyStore;
 
     @Autowired
-    public OrderController(OrderService orderService) {
+    public OrderController(OrderService orderService, ReactiveOrderService reactiveOrderService, OrderIdempotencyStore orderIdempotencyStore) {
         this.orderService = orderService;
+        this.reactiveOrderService = reactiveOrderService;
+        this.orderIdempotencyStore = orderIdempotencyStore;
     }
 
     @PostMapping("/simulate")
-    public ResponseEntity<OrderConfirmationDto> simulateOrder(@Valid @RequestBody OrderDto orderDto) {
-        OrderConfirmationDto confirmation = orderService.simulateOrder(orderDto);
-        return ResponseEntity.status(HttpStatus.OK).body(confirmation);
+    public ResponseEntity<OrderConfirmationDto> simulateOrder(@Valid @RequestBody OrderDto orderDto,
+                                                              @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey) {
+        if (idempotencyKey == null) {
+            OrderConfirmationDto confirmation = orderService.simulateOrder(orderDto);
+            return ResponseEntity.status(HttpStatus.OK).body(confirmation);
+        }
+        OrderIdempotencyStore.Outcome outcome = orderIdempotencyStore.execute(idempotencyKey, orderDto, () -> orderService.simulateOrder(orderDto));
+        return ResponseEntity.status(HttpStatus.OK)
+                .header("Idempotent-Replayed", String.valueOf(outcome.replayed()))
+                .body(outcome.confirmation());
+    }
+
+    @PostMapping("/simulate/reactive")
+    public Mono<ResponseEntity<OrderConfirmationDto>> simulateOrderReactive(@Valid @RequestBody OrderDto orderDto,
+                                                                            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey) {
+        if (idempotencyKey == null) {
+            return reactiveOrderService.simulateOrder(orderDto)
+                    .map(confirmation -> ResponseEntity.status(HttpStatus.OK).body(confirmation));
+        }
+        return orderIdempotencyStore.executeReactive(idempotencyKey, orderDto, () -> reactiveOrderService.simulateOrder(orderDto))
+                .map(outcome -> ResponseEntity.status(HttpStatus.OK)
+                        .header("Idempotent-Replayed", String.valueOf(outcome.replayed()))
+                        .body(outcome.confirmation()));
     }
 }
@@ -0,0 +1,63 @@
+package br.com.mswithspring.backend.ms_order.controller;
+
+import br.com.mswithspring.backend.ms_order.cache.ProductCache;
+import br.com.mswithspring.backend.ms_order.config.InternalApiProperties;
+import br.com.mswithspring.backend.ms_order.dto.ProductCacheStatsDto;
+import br.com.mswithspring.backend.ms_order.exception.InternalApiAccessDeniedException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.List;
+
+
+@RestController
+@RequestMapping("/internal/cache/products")
+public class ProductCacheController {
+
+    private final ProductCache productCache;
+    private final InternalApiProperties internalApiProperties;
+
+    @Autowired
+    public ProductCacheController(ProductCache productCache, InternalApiProperties internalApiProperties) {
+        this.productCache = productCache;
+        this.internalApiProperties = internalApiProperties;
+    }
+
+    @PostMapping("/invalidate")
+    public ResponseEntity<Void> invalidate(@RequestHeader(name = InternalApiProperties.TOKEN_HEADER, required = false) String token,
+                                           @RequestBody List<Long> productIds) {
+        authorize(token);
+        productCache.invalidate(productIds);
+        return ResponseEntity.noContent().build();
+    }
+
+    @DeleteMapping
+    public ResponseEntity<Void> invalidateAll(@RequestHeader(name = InternalApiProperties.TOKEN_HEADER, required = false) String token) {
+        authorize(token);
+        productCache.invalidateAll();
+        return ResponseEntity.noContent().build();
+    }
+
+    @GetMapping("/stats")
+    public ResponseEntity<ProductCacheStatsDto> stats(@RequestHeader(name = InternalApiProperties.TOKEN_HEADER, required = false) String token) {
+        authorize(token);
+        return ResponseEntity.ok(productCache.stats());
+    }
+
+    private void authorize(String token) {
+        String expected = internalApiProperties.token();
+        if (expected.isBlank() || token == null
+                || !MessageDigest.isEqual(expected.getBytes(StandardCharsets.UTF_8), token.getBytes(StandardCharsets.UTF_8))) {
+            throw new InternalApiAccessDeniedException(InternalApiProperties.TOKEN_HEADER);
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package br.com.mswithspring.backend.ms_order.dto;
+
+public record ProductCacheStatsDto(
+        long size,
+        long hitCount,
+        long missCount,
+        double hitRate,
+        long evictionCount,
+        long loadFailureCount,
+        long staleSize,
+        long staleResponses
+) {
+}
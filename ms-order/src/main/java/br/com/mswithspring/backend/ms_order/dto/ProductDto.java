@@ -1,10 +1,12 @@
 package br.com.mswithspring.backend.ms_order.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
 import java.math.BigDecimal;
 
+@JsonIgnoreProperties(ignoreUnknown = true)
 public record ProductDto(
         String name,
-        String description,
         BigDecimal price
 ) {
 }
@@ -24,6 +24,42 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
     }
 
+    @ExceptionHandler(ProductServiceUnavailableException.class)
+    public ResponseEntity<Map<String, String>> handleProductServiceUnavailableException(ProductServiceUnavailableException ex) {
+        Map<String, String> errorResponse = new HashMap<>();
+        errorResponse.put("error", "Service Unavailable");
+        errorResponse.put("message", ex.getMessage());
+        errorResponse.put("status", String.valueOf(HttpStatus.SERVICE_UNAVAILABLE.value()));
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(errorResponse);
+    }
+
+    @ExceptionHandler(OrderPersistenceOverloadedException.class)
+    public ResponseEntity<Map<String, String>> handleOrderPersistenceOverloadedException(OrderPersistenceOverloadedException ex) {
+        Map<String, String> errorResponse = new HashMap<>();
+        errorResponse.put("error", "Service Unavailable");
+        errorResponse.put("message", ex.getMessage());
+        errorResponse.put("status", String.valueOf(HttpStatus.SERVICE_UNAVAILABLE.value()));
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(errorResponse);
+    }
+
+    @ExceptionHandler(IdempotencyKeyConflictException.class)
+    public ResponseEntity<Map<String, String>> handleIdempotencyKeyConflictException(IdempotencyKeyConflictException ex) {
+        Map<String, String> errorResponse = new HashMap<>();
+        errorResponse.put("error", "Conflict");
+        errorResponse.put("message", ex.getMessage());
+        errorResponse.put("status", String.valueOf(HttpStatus.CONFLICT.value()));
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse);
+    }
+
+    @ExceptionHandler(InternalApiAccessDeniedException.class)
+    public ResponseEntity<Map<String, String>> handleInternalApiAccessDeniedException(InternalApiAccessDeniedException ex) {
+        Map<String, String> errorResponse = new HashMap<>();
+        errorResponse.put("error", "Forbidden");
+        errorResponse.put("message", ex.getMessage());
+        errorResponse.put("status", String.valueOf(HttpStatus.FORBIDDEN.value()));
+        return ResponseEntity.status(HttpStatus.FORBIDDEN).body(errorResponse);
+    }
+
     @ExceptionHandler(IllegalArgumentException.class)
     public ResponseEntity<Map<String, String>> handleIllegalArgumentException(IllegalArgumentException ex) {
         Map<String, String> errorResponse = new HashMap<>();
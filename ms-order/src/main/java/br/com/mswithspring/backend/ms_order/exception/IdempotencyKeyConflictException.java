@@ -0,0 +1,7 @@
+package br.com.mswithspring.backend.ms_order.exception;
+
+public class IdempotencyKeyConflictException extends RuntimeException {
+    public IdempotencyKeyConflictException(String idempotencyKey) {
+        super(String.format("A chave de idempotência '%s' já foi utilizada com um pedido diferente.", idempotencyKey));
+    }
+}
@@ -0,0 +1,7 @@
+package br.com.mswithspring.backend.ms_order.exception;
+
+public class InternalApiAccessDeniedException extends RuntimeException {
+    public InternalApiAccessDeniedException(String header) {
+        super(String.format("Acesso negado à API interna: cabeçalho '%s' ausente ou inválido.", header));
+    }
+}
@@ -0,0 +1,7 @@
+package br.com.mswithspring.backend.ms_order.exception;
+
+public class OrderPersistenceOverloadedException extends RuntimeException {
+    public OrderPersistenceOverloadedException(int queueCapacity) {
+        super(String.format("A fila de gravação de pedidos está cheia (%d pedidos pendentes). Tente novamente em instantes.", queueCapacity));
+    }
+}
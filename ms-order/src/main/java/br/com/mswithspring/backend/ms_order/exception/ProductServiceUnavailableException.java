@@ -0,0 +1,11 @@
+package br.com.mswithspring.backend.ms_order.exception;
+
+public class ProductServiceUnavailableException extends RuntimeException {
+    public ProductServiceUnavailableException(String message) {
+        super(message);
+    }
+
+    public ProductServiceUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,54 @@
+package br.com.mswithspring.backend.ms_order.repository;
+
+import br.com.mswithspring.backend.ms_order.dto.OrderConfirmationDto;
+import br.com.mswithspring.backend.ms_order.dto.OrderConfirmationItemDto;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+
+@Repository
+public class OrderRepository {
+
+    private static final String INSERT_ORDER_SQL = """
+            INSERT INTO tb_orders (id, customer_id, total_amount, status, order_date)
+            VALUES (?, ?, ?, ?, ?)
+            ON CONFLICT (id) DO NOTHING
+            """;
+
+    private static final String INSERT_ORDER_ITEM_SQL = """
+            INSERT INTO tb_order_items (order_id, line_number, product_id, product_name, unit_price, quantity, subtotal)
+            VALUES (?, ?, ?, ?, ?, ?, ?)
+            ON CONFLICT (order_id, line_number) DO NOTHING
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    public OrderRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Transactional
+    public void insertAll(List<OrderConfirmationDto> orders) {
+        List<Object[]> orderRows = new ArrayList<>(orders.size());
+        List<Object[]> itemRows = new ArrayList<>();
+        for (OrderConfirmationDto order : orders) {
+            UUID orderId = UUID.fromString(order.orderId());
+            orderRows.add(new Object[]{orderId, order.customerId(), order.totalAmount(), order.status(), Timestamp.valueOf(order.orderDate())});
+            List<OrderConfirmationItemDto> items = order.confirmedItems();
+            for (int line = 0; line < items.size(); line++) {
+                OrderConfirmationItemDto item = items.get(line);
+                itemRows.add(new Object[]{orderId, line + 1, item.productId(), item.productName(), item.unitPrice(), item.quantity(), item.subtotal()});
+            }
+        }
+        jdbcTemplate.batchUpdate(INSERT_ORDER_SQL, orderRows);
+        jdbcTemplate.batchUpdate(INSERT_ORDER_ITEM_SQL, itemRows);
+    }
+}
@@ -0,0 +1,42 @@
+package br.com.mswithspring.backend.ms_order.service;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+final class Futures {
+
+    private Futures() {
+    }
+
+    static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    static <T> T join(CompletableFuture<T> future, Duration timeout, Supplier<? extends RuntimeException> onTimeout) {
+        try {
+            return future.get(timeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            throw onTimeout.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("A espera pelo resultado foi interrompida.", e);
+        } catch (ExecutionException e) {
+            return join(CompletableFuture.failedFuture(e.getCause()));
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package br.com.mswithspring.backend.ms_order.service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+public final class MinorUnits {
+
+    public static final int SCALE = 2;
+
+    private MinorUnits() {
+    }
+
+    public static long fromBigDecimal(BigDecimal amount) {
+        return amount.setScale(SCALE, RoundingMode.UNNECESSARY).unscaledValue().longValueExact();
+    }
+
+    public static BigDecimal toBigDecimal(long minorUnits) {
+        return BigDecimal.valueOf(minorUnits, SCALE);
+    }
+}
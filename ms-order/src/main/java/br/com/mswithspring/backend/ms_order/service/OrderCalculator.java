@@ -0,0 +1,85 @@
+package br.com.mswithspring.backend.ms_order.service;
+
+import br.com.mswithspring.backend.ms_order.dto.OrderConfirmationDto;
+import br.com.mswithspring.backend.ms_order.dto.OrderConfirmationItemDto;
+import br.com.mswithspring.backend.ms_order.dto.OrderDto;
+import br.com.mswithspring.backend.ms_order.dto.OrderItemDto;
+import br.com.mswithspring.backend.ms_order.dto.ProductDto;
+import br.com.mswithspring.backend.ms_order.exception.OrderCreationException;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+
+@Component
+public class OrderCalculator {
+
+    public OrderConfirmationDto calculate(OrderDto orderDto, Map<Long, ProductDto> products) {
+        List<OrderItemDto> items = orderDto.items();
+        Map<Long, PricedProduct> pricedProducts = new HashMap<>(Math.max(4, products.size() * 2));
+        List<OrderConfirmationItemDto> confirmedItems = new ArrayList<>(items.size());
+        long totalAmount = 0L;
+
+        for (OrderItemDto item : items) {
+            PricedProduct product = pricedProducts.get(item.productId());
+            if (product == null) {
+                product = price(item.productId(), products.get(item.productId()));
+                pricedProducts.put(item.productId(), product);
+            }
+
+            long itemSubtotal;
+            try {
+                itemSubtotal = Math.multiplyExact(product.unitPrice(), item.quantity().longValue());
+                totalAmount = Math.addExact(totalAmount, itemSubtotal);
+            } catch (ArithmeticException e) {
+                throw new OrderCreationException("O valor total do pedido excede o limite suportado.");
+            }
+
+            confirmedItems.add(new OrderConfirmationItemDto(
+                    item.productId(),
+                    product.name(),
+                    product.price(),
+                    item.quantity(),
+                    MinorUnits.toBigDecimal(itemSubtotal)
+            ));
+        }
+
+        String simulatedOrderId = UUID.randomUUID().toString();
+
+        return new OrderConfirmationDto(
+                simulatedOrderId,
+                orderDto.customerId(),
+                MinorUnits.toBigDecimal(totalAmount),
+                LocalDateTime.now(),
+                confirmedItems,
+                "SIMULATED_SUCCESS",
+                "Pedido criado com sucesso."
+        );
+    }
+
+    private PricedProduct price(Long productId, ProductDto product) {
+        if (product == null) {
+            throw new OrderCreationException(String.format("Produto com ID %d não encontrado ou indisponível.", productId));
+        }
+
+        if (product.price() == null) {
+            throw new OrderCreationException(String.format("Detalhes do produto com ID %d inválidos (preço ausente).", productId));
+        }
+
+        try {
+            long unitPrice = MinorUnits.fromBigDecimal(product.price());
+            return new PricedProduct(product.name(), unitPrice, MinorUnits.toBigDecimal(unitPrice));
+        } catch (ArithmeticException e) {
+            throw new OrderCreationException(String.format("Detalhes do produto com ID %d inválidos (preço com mais de %d casas decimais).", productId, MinorUnits.SCALE));
+        }
+    }
+
+    private record PricedProduct(String name, long unitPrice, BigDecimal price) {
+    }
+}
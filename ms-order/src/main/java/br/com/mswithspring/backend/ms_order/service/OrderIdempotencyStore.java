@@ -0,0 +1,122 @@
+package br.com.mswithspring.backend.ms_order.service;
+
+import br.com.mswithspring.backend.ms_order.config.OrderIdempotencyProperties;
+import br.com.mswithspring.backend.ms_order.dto.OrderConfirmationDto;
+import br.com.mswithspring.backend.ms_order.dto.OrderDto;
+import br.com.mswithspring.backend.ms_order.dto.OrderItemDto;
+import br.com.mswithspring.backend.ms_order.exception.IdempotencyKeyConflictException;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+
+@Component
+public class OrderIdempotencyStore {
+
+    private final OrderIdempotencyProperties properties;
+    private final AsyncCache<String, StoredOrder> orders;
+    private final Counter replays;
+
+    @Autowired
+    public OrderIdempotencyStore(OrderIdempotencyProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.orders = Caffeine.newBuilder()
+                .maximumSize(properties.maximumSize())
+                .expireAfterWrite(properties.ttl())
+                .buildAsync();
+        this.replays = Counter.builder("order.idempotency.replays").register(meterRegistry);
+    }
+
+    public Outcome execute(String idempotencyKey, OrderDto orderDto, Supplier<OrderConfirmationDto> simulation) {
+        validateKey(idempotencyKey);
+        String fingerprint = fingerprint(orderDto);
+        CompletableFuture<StoredOrder> flight = new CompletableFuture<>();
+        CompletableFuture<StoredOrder> existing = orders.asMap().putIfAbsent(idempotencyKey, flight);
+        if (existing == null) {
+            try {
+                StoredOrder stored = new StoredOrder(fingerprint, simulation.get());
+                flight.complete(stored);
+                return new Outcome(stored.confirmation(), false);
+            } catch (Throwable e) {
+                abandon(idempotencyKey, flight, e);
+                throw e;
+            }
+        }
+
+        return replay(idempotencyKey, fingerprint, Futures.join(existing));
+    }
+
+    public Mono<Outcome> executeReactive(String idempotencyKey, OrderDto orderDto, Supplier<Mono<OrderConfirmationDto>> simulation) {
+        return Mono.defer(() -> {
+            validateKey(idempotencyKey);
+            String fingerprint = fingerprint(orderDto);
+            CompletableFuture<StoredOrder> flight = new CompletableFuture<>();
+            CompletableFuture<StoredOrder> existing = orders.asMap().putIfAbsent(idempotencyKey, flight);
+            if (existing != null) {
+                return Mono.fromFuture(existing, true).map(stored -> replay(idempotencyKey, fingerprint, stored));
+            }
+            return simulation.get()
+                    .map(confirmation -> new StoredOrder(fingerprint, confirmation))
+                    .switchIfEmpty(Mono.error(() -> new IllegalStateException("A simulação do pedido não produziu uma confirmação.")))
+                    .doOnNext(flight::complete)
+                    .doOnError(e -> abandon(idempotencyKey, flight, e))
+                    .doOnCancel(() -> abandon(idempotencyKey, flight, new CancellationException("A simulação do pedido foi cancelada.")))
+                    .map(stored -> new Outcome(stored.confirmation(), false));
+        });
+    }
+
+    private void validateKey(String idempotencyKey) {
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > properties.maxKeyLength()) {
+            throw new IllegalArgumentException(String.format("O cabeçalho Idempotency-Key deve ter entre 1 e %d caracteres.", properties.maxKeyLength()));
+        }
+    }
+
+    private Outcome replay(String idempotencyKey, String fingerprint, StoredOrder stored) {
+        if (!stored.fingerprint().equals(fingerprint)) {
+            throw new IdempotencyKeyConflictException(idempotencyKey);
+        }
+        replays.increment();
+        return new Outcome(stored.confirmation(), true);
+    }
+
+    private void abandon(String idempotencyKey, CompletableFuture<StoredOrder> flight, Throwable cause) {
+        orders.asMap().remove(idempotencyKey, flight);
+        flight.completeExceptionally(cause);
+    }
+
+    static String fingerprint(OrderDto orderDto) {
+        StringBuilder canonical = new StringBuilder().append(orderDto.customerId());
+        List<OrderItemDto> items = orderDto.items().stream()
+                .sorted(Comparator.comparing(OrderItemDto::productId).thenComparing(OrderItemDto::quantity))
+                .toList();
+        for (OrderItemDto item : items) {
+            canonical.append('|').append(item.productId()).append(':').append(item.quantity());
+        }
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(canonical.toString().getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Algoritmo SHA-256 indisponível.", e);
+        }
+    }
+
+    public record Outcome(OrderConfirmationDto confirmation, boolean replayed) {
+    }
+
+    private record StoredOrder(String fingerprint, OrderConfirmationDto confirmation) {
+    }
+}
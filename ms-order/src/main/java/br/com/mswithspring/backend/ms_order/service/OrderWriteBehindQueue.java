@@ -0,0 +1,193 @@
+package br.com.mswithspring.backend.ms_order.service;
+
+import br.com.mswithspring.backend.ms_order.config.OrderPersistenceProperties;
+import br.com.mswithspring.backend.ms_order.dto.OrderConfirmationDto;
+import br.com.mswithspring.backend.ms_order.exception.OrderPersistenceOverloadedException;
+import br.com.mswithspring.backend.ms_order.repository.OrderRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.CannotCreateTransactionException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+
+@Component
+public class OrderWriteBehindQueue implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(OrderWriteBehindQueue.class);
+
+    private final OrderRepository orderRepository;
+    private final OrderPersistenceProperties properties;
+    private final BlockingQueue<OrderConfirmationDto> pendingOrders;
+    private final Counter persistedOrders;
+    private final Counter rejectedOrders;
+    private final Counter failedOrders;
+    private final DistributionSummary flushSize;
+    private volatile boolean running;
+    private volatile Thread writer;
+
+    @Autowired
+    public OrderWriteBehindQueue(OrderRepository orderRepository, OrderPersistenceProperties properties, MeterRegistry meterRegistry) {
+        this.orderRepository = orderRepository;
+        this.properties = properties;
+        this.pendingOrders = new ArrayBlockingQueue<>(properties.queueCapacity());
+        this.persistedOrders = Counter.builder("order.persistence.persisted").register(meterRegistry);
+        this.rejectedOrders = Counter.builder("order.persistence.rejected").register(meterRegistry);
+        this.failedOrders = Counter.builder("order.persistence.failed").register(meterRegistry);
+        this.flushSize = DistributionSummary.builder("order.persistence.flush.size").register(meterRegistry);
+        Gauge.builder("order.persistence.queue.size", pendingOrders, BlockingQueue::size).register(meterRegistry);
+    }
+
+    public void enqueue(OrderConfirmationDto order) {
+        if (!properties.enabled()) {
+            return;
+        }
+        if (!running) {
+            throw new IllegalStateException("A gravação de pedidos está encerrada.");
+        }
+        boolean accepted;
+        try {
+            accepted = pendingOrders.offer(order, properties.offerTimeout().toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            accepted = false;
+        }
+        if (!accepted) {
+            rejectedOrders.increment();
+            throw new OrderPersistenceOverloadedException(properties.queueCapacity());
+        }
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        if (properties.enabled()) {
+            writer = Thread.ofPlatform().name("order-write-behind").daemon(false).start(this::writeLoop);
+        }
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        Thread currentWriter = writer;
+        if (currentWriter == null) {
+            return;
+        }
+        try {
+            currentWriter.join(properties.shutdownTimeout().toMillis());
+            if (currentWriter.isAlive()) {
+                log.error("Tempo de encerramento esgotado com {} pedidos ainda pendentes de gravação.", pendingOrders.size());
+                currentWriter.interrupt();
+                currentWriter.join(properties.shutdownTimeout().toMillis());
+            }
+        } catch (InterruptedException e) {
+            currentWriter.interrupt();
+            Thread.currentThread().interrupt();
+        }
+        writer = null;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    private void writeLoop() {
+        int batchSize = Math.max(1, properties.batchSize());
+        List<OrderConfirmationDto> batch = new ArrayList<>(batchSize);
+        while (running || !pendingOrders.isEmpty()) {
+            try {
+                OrderConfirmationDto first = pendingOrders.poll(properties.flushInterval().toNanos(), TimeUnit.NANOSECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                pendingOrders.drainTo(batch, batchSize - 1);
+                flush(List.copyOf(batch));
+            } catch (InterruptedException e) {
+                flushRemaining(batch);
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void flush(List<OrderConfirmationDto> batch) throws InterruptedException {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                insert(batch);
+                return;
+            } catch (RuntimeException e) {
+                if (!isTransient(e)) {
+                    isolateFailure(batch, e);
+                    return;
+                }
+                long backoffMillis = Math.min(properties.retryBackoff().toMillis() * attempt, properties.maxRetryBackoff().toMillis());
+                log.warn("Falha ao gravar {} pedidos (tentativa {}), nova tentativa em {} ms: {}", batch.size(), attempt, backoffMillis, e.getMessage());
+                Thread.sleep(backoffMillis);
+            }
+        }
+    }
+
+    private void isolateFailure(List<OrderConfirmationDto> batch, RuntimeException cause) throws InterruptedException {
+        if (batch.size() > 1) {
+            int middle = batch.size() / 2;
+            log.warn("Falha não recuperável ao gravar {} pedidos; dividindo o lote para isolar o pedido inválido: {}", batch.size(), cause.getMessage());
+            flush(batch.subList(0, middle));
+            flush(batch.subList(middle, batch.size()));
+            return;
+        }
+        failedOrders.increment();
+        log.error("Pedido {} descartado após falha não recuperável na gravação: {}", batch.get(0).orderId(), cause.getMessage());
+    }
+
+    private static boolean isTransient(RuntimeException e) {
+        return e instanceof TransientDataAccessException
+                || e instanceof RecoverableDataAccessException
+                || e instanceof DataAccessResourceFailureException
+                || e instanceof CannotCreateTransactionException;
+    }
+
+    private void flushRemaining(List<OrderConfirmationDto> inHand) {
+        List<OrderConfirmationDto> remaining = new ArrayList<>(inHand);
+        pendingOrders.drainTo(remaining);
+        if (remaining.isEmpty()) {
+            return;
+        }
+        log.warn("Gravação interrompida: última tentativa para {} pedidos pendentes.", remaining.size());
+        try {
+            insert(remaining);
+        } catch (RuntimeException e) {
+            failedOrders.increment(remaining.size());
+            log.error("Falha ao gravar {} pedidos no encerramento: {}. Pedidos descartados: {}",
+                    remaining.size(), e.getMessage(), remaining.stream().map(OrderConfirmationDto::orderId).toList());
+        }
+    }
+
+    private void insert(List<OrderConfirmationDto> batch) {
+        orderRepository.insertAll(batch);
+        persistedOrders.increment(batch.size());
+        flushSize.record(batch.size());
+    }
+}
@@ -0,0 +1,184 @@
+package br.com.mswithspring.backend.ms_order.service;
+
+import br.com.mswithspring.backend.ms_order.client.ProductClient;
+import br.com.mswithspring.backend.ms_order.config.ProductLookupProperties;
+import br.com.mswithspring.backend.ms_order.dto.ProductDto;
+import br.com.mswithspring.backend.ms_order.exception.ProductServiceUnavailableException;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+
+@Component
+public class ProductLookupBatcher implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(ProductLookupBatcher.class);
+    private static final String STOPPED_MESSAGE = "O agrupador de consultas de produtos foi encerrado.";
+
+    private final ProductClient productClient;
+    private final ProductLookupProperties properties;
+    private final ExecutorService productLookupExecutor;
+    private final DistributionSummary batchSize;
+    private final BlockingQueue<PendingLookup> pendingLookups = new LinkedBlockingQueue<>();
+    private volatile boolean running;
+    private volatile Thread dispatcher;
+
+    @Autowired
+    public ProductLookupBatcher(ProductClient productClient,
+                                ProductLookupProperties properties,
+                                @Qualifier("productLookupExecutor") ExecutorService productLookupExecutor,
+                                MeterRegistry meterRegistry) {
+        this.productClient = productClient;
+        this.properties = properties;
+        this.productLookupExecutor = productLookupExecutor;
+        this.batchSize = DistributionSummary.builder("product.lookup.batch.size")
+                .description("Quantidade de IDs enviados ao MS-PRODUCT por micro-lote")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    public Map<Long, ProductDto> getProductsByIds(Collection<Long> productIds) {
+        if (!running) {
+            throw new ProductServiceUnavailableException(STOPPED_MESSAGE);
+        }
+        List<PendingLookup> lookups = productIds.stream().map(PendingLookup::new).toList();
+        pendingLookups.addAll(lookups);
+        if (!running) {
+            pendingLookups.removeAll(lookups);
+            fail(lookups, new ProductServiceUnavailableException(STOPPED_MESSAGE));
+        }
+
+        Map<Long, ProductDto> products = new HashMap<>();
+        long deadline = System.nanoTime() + properties.batchTimeout().toNanos();
+        for (PendingLookup lookup : lookups) {
+            Duration remaining = Duration.ofNanos(Math.max(0, deadline - System.nanoTime()));
+            ProductDto product = Futures.join(lookup.result(), remaining, () -> {
+                ProductServiceUnavailableException timeout = new ProductServiceUnavailableException(String.format(
+                        "O lote de consultas ao MS-PRODUCT não respondeu em %d ms.", properties.batchTimeout().toMillis()));
+                fail(lookups, timeout);
+                return timeout;
+            });
+            if (product != null) {
+                products.put(lookup.productId(), product);
+            }
+        }
+        return products;
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        dispatcher = Thread.ofVirtual().name("product-lookup-batcher").start(this::dispatchLoop);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        Thread currentDispatcher = dispatcher;
+        if (currentDispatcher != null) {
+            currentDispatcher.interrupt();
+            try {
+                currentDispatcher.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            dispatcher = null;
+        }
+        List<PendingLookup> remaining = new ArrayList<>();
+        pendingLookups.drainTo(remaining);
+        fail(remaining, new ProductServiceUnavailableException(STOPPED_MESSAGE));
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    private void dispatchLoop() {
+        int maxBatchSize = Math.clamp(properties.maxBatchSize(), 1, ProductClient.MAX_BATCH_SIZE);
+        long windowNanos = properties.batchWindow().toNanos();
+        List<PendingLookup> batch = new ArrayList<>(maxBatchSize);
+        while (running) {
+            try {
+                batch.add(pendingLookups.take());
+                long deadline = System.nanoTime() + windowNanos;
+                while (batch.size() < maxBatchSize) {
+                    pendingLookups.drainTo(batch, maxBatchSize - batch.size());
+                    long remaining = deadline - System.nanoTime();
+                    if (batch.size() >= maxBatchSize || remaining <= 0) {
+                        break;
+                    }
+                    PendingLookup next = pendingLookups.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+                batch.removeIf(lookup -> lookup.result().isDone());
+                if (!batch.isEmpty()) {
+                    dispatch(List.copyOf(batch));
+                }
+            } catch (InterruptedException e) {
+                fail(batch, new ProductServiceUnavailableException(STOPPED_MESSAGE));
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.warn("Falha ao despachar lote de {} consultas de produtos: {}", batch.size(), e.getMessage());
+                fail(batch, e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void dispatch(List<PendingLookup> batch) {
+        Set<Long> productIds = batch.stream()
+                .map(PendingLookup::productId)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        batchSize.record(productIds.size());
+        productLookupExecutor.execute(() -> {
+            try {
+                Map<Long, ProductDto> products = productClient.getProductsByIds(productIds);
+                batch.forEach(lookup -> lookup.result().complete(products.get(lookup.productId())));
+            } catch (Throwable e) {
+                fail(batch, e);
+            }
+        });
+    }
+
+    private static void fail(List<PendingLookup> lookups, Throwable cause) {
+        lookups.forEach(lookup -> lookup.result().completeExceptionally(cause));
+    }
+
+    private record PendingLookup(Long productId, CompletableFuture<ProductDto> result) {
+
+        PendingLookup(Long productId) {
+            this(productId, new CompletableFuture<>());
+        }
+    }
+}
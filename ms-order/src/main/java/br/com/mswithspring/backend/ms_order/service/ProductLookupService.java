@@ -0,0 +1,112 @@
+package br.com.mswithspring.backend.ms_order.service;
+
+import br.com.mswithspring.backend.ms_order.client.ProductClient;
+import br.com.mswithspring.backend.ms_order.config.ProductLookupProperties;
+import br.com.mswithspring.backend.ms_order.dto.ProductDto;
+import br.com.mswithspring.backend.ms_order.exception.OrderCreationException;
+import br.com.mswithspring.backend.ms_order.exception.ProductServiceUnavailableException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.function.Function;
+
+
+@Service
+public class ProductLookupService {
+
+    private final ProductClient productClient;
+    private final ProductLookupProperties properties;
+    private final ExecutorService productLookupExecutor;
+    private final ProductLookupBatcher productLookupBatcher;
+    private final SingleFlight<Long, ProductDto> inFlightLookups = new SingleFlight<>();
+
+    @Autowired
+    public ProductLookupService(ProductClient productClient,
+                                ProductLookupProperties properties,
+                                @Qualifier("productLookupExecutor") ExecutorService productLookupExecutor,
+                                ProductLookupBatcher productLookupBatcher) {
+        this.productClient = productClient;
+        this.properties = properties;
+        this.productLookupExecutor = productLookupExecutor;
+        this.productLookupBatcher = productLookupBatcher;
+    }
+
+    public Map<Long, ProductDto> findProducts(Collection<Long> productIds) {
+        Set<Long> distinctIds = new LinkedHashSet<>(productIds);
+        return switch (properties.mode()) {
+            case BATCH -> fetchInBatch(distinctIds, productClient::getProductsByIds);
+            case CONCURRENT -> fetchConcurrently(distinctIds);
+            case MICRO_BATCH -> fetchInBatch(distinctIds, productLookupBatcher::getProductsByIds);
+        };
+    }
+
+    private Map<Long, ProductDto> fetchInBatch(Set<Long> productIds, Function<Set<Long>, Map<Long, ProductDto>> loader) {
+        try {
+            return inFlightLookups.executeAll(productIds, loader);
+        } catch (ProductServiceUnavailableException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new OrderCreationException(String.format("Não foi possível consultar os produtos %s. Detalhes: %s", productIds, e.getMessage()));
+        }
+    }
+
+    private Map<Long, ProductDto> fetchConcurrently(Set<Long> productIds) {
+        Semaphore permits = new Semaphore(Math.max(1, properties.maxConcurrency()));
+        CompletionService<ProductLookupResult> completionService = new ExecutorCompletionService<>(productLookupExecutor);
+        List<Future<ProductLookupResult>> futures = new ArrayList<>(productIds.size());
+        for (Long productId : productIds) {
+            futures.add(completionService.submit(() -> fetchWithPermit(permits, productId)));
+        }
+
+        Map<Long, ProductDto> products = new HashMap<>();
+        try {
+            for (int i = 0; i < futures.size(); i++) {
+                ProductLookupResult result = completionService.take().get();
+                if (result.product() != null) {
+                    products.put(result.productId(), result.product());
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new OrderCreationException("A consulta dos produtos do pedido foi interrompida.");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new OrderCreationException(String.format("Não foi possível consultar os produtos %s. Detalhes: %s", productIds, e.getCause().getMessage()));
+        } finally {
+            futures.forEach(future -> future.cancel(true));
+        }
+        return products;
+    }
+
+    private ProductLookupResult fetchWithPermit(Semaphore permits, Long productId) throws InterruptedException {
+        permits.acquire();
+        try {
+            return new ProductLookupResult(productId, inFlightLookups.execute(productId, () -> productClient.getProductById(productId)));
+        } catch (ProductServiceUnavailableException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new OrderCreationException(String.format("Produto com ID %d não encontrado ou indisponível. Detalhes: %s", productId, e.getMessage()));
+        } finally {
+            permits.release();
+        }
+    }
+
+    private record ProductLookupResult(Long productId, ProductDto product) {
+    }
+}
@@ -0,0 +1,60 @@
+package br.com.mswithspring.backend.ms_order.service;
+
+import br.com.mswithspring.backend.ms_order.cache.ProductCache;
+import br.com.mswithspring.backend.ms_order.client.ReactiveProductClient;
+import br.com.mswithspring.backend.ms_order.dto.OrderConfirmationDto;
+import br.com.mswithspring.backend.ms_order.dto.OrderDto;
+import br.com.mswithspring.backend.ms_order.dto.OrderItemDto;
+import br.com.mswithspring.backend.ms_order.dto.ProductDto;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+
+@Service
+public class ReactiveOrderService {
+
+    private final ReactiveProductClient reactiveProductClient;
+    private final ProductCache productCache;
+    private final OrderCalculator orderCalculator;
+    private final OrderWriteBehindQueue orderWriteBehindQueue;
+
+    @Autowired
+    public ReactiveOrderService(ReactiveProductClient reactiveProductClient, ProductCache productCache, OrderCalculator orderCalculator,
+                                OrderWriteBehindQueue orderWriteBehindQueue) {
+        this.reactiveProductClient = reactiveProductClient;
+        this.productCache = productCache;
+        this.orderCalculator = orderCalculator;
+        this.orderWriteBehindQueue = orderWriteBehindQueue;
+    }
+
+    public Mono<OrderConfirmationDto> simulateOrder(OrderDto orderDto) {
+        return calculate(orderDto).flatMap(confirmation -> Mono.fromRunnable(() -> orderWriteBehindQueue.enqueue(confirmation))
+                .subscribeOn(Schedulers.boundedElastic())
+                .thenReturn(confirmation));
+    }
+
+    private Mono<OrderConfirmationDto> calculate(OrderDto orderDto) {
+        Set<Long> productIds = new LinkedHashSet<>();
+        orderDto.items().stream().map(OrderItemDto::productId).forEach(productIds::add);
+        Map<Long, ProductDto> cachedProducts = productCache.getAllPresent(productIds);
+        Set<Long> missingIds = new LinkedHashSet<>(productIds);
+        missingIds.removeAll(cachedProducts.keySet());
+        if (missingIds.isEmpty()) {
+            return Mono.fromCallable(() -> orderCalculator.calculate(orderDto, cachedProducts));
+        }
+        return reactiveProductClient.getProductsByIds(missingIds)
+                .map(fetchedProducts -> {
+                    productCache.putAll(fetchedProducts);
+                    Map<Long, ProductDto> products = new HashMap<>(cachedProducts);
+                    products.putAll(fetchedProducts);
+                    return orderCalculator.calculate(orderDto, products);
+                });
+    }
+}
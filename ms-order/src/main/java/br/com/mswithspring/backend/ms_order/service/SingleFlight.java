@@ -0,0 +1,79 @@
+package br.com.mswithspring.backend.ms_order.service;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+public class SingleFlight<K, V> {
+
+    private final ConcurrentHashMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+    public V execute(K key, Supplier<V> loader) {
+        CompletableFuture<V> flight = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, flight);
+        if (existing != null) {
+            return Futures.join(existing);
+        }
+        try {
+            V value = loader.get();
+            flight.complete(value);
+            return value;
+        } catch (Throwable e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    public Map<K, V> executeAll(Collection<K> keys, Function<Set<K>, Map<K, V>> loader) {
+        Map<K, CompletableFuture<V>> owned = new LinkedHashMap<>();
+        Map<K, CompletableFuture<V>> joined = new LinkedHashMap<>();
+        for (K key : new LinkedHashSet<>(keys)) {
+            CompletableFuture<V> flight = new CompletableFuture<>();
+            CompletableFuture<V> existing = inFlight.putIfAbsent(key, flight);
+            if (existing != null) {
+                joined.put(key, existing);
+            } else {
+                owned.put(key, flight);
+            }
+        }
+
+        Map<K, V> values = new HashMap<>();
+        if (!owned.isEmpty()) {
+            try {
+                Map<K, V> loaded = loader.apply(new LinkedHashSet<>(owned.keySet()));
+                owned.forEach((key, flight) -> {
+                    V value = loaded.get(key);
+                    flight.complete(value);
+                    if (value != null) {
+                        values.put(key, value);
+                    }
+                });
+            } catch (Throwable e) {
+                owned.values().forEach(flight -> flight.completeExceptionally(e));
+                throw e;
+            } finally {
+                owned.forEach(inFlight::remove);
+            }
+        }
+        joined.forEach((key, flight) -> {
+            V value = Futures.join(flight);
+            if (value != null) {
+                values.put(key, value);
+            }
+        });
+        return values;
+    }
+
+    public int inFlightCount() {
+        return inFlight.size();
+    }
+}
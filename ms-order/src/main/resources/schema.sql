@@ -0,0 +1,20 @@
+CREATE TABLE IF NOT EXISTS tb_orders (
+    id UUID PRIMARY KEY,
+    customer_id BIGINT NOT NULL,
+    total_amount NUMERIC(19, 2) NOT NULL,
+    status VARCHAR(40) NOT NULL,
+    order_date TIMESTAMP NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS tb_order_items (
+    order_id UUID NOT NULL REFERENCES tb_orders (id),
+    line_number INT NOT NULL,
+    product_id BIGINT NOT NULL,
+    product_name VARCHAR(255),
+    unit_price NUMERIC(19, 2) NOT NULL,
+    quantity INT NOT NULL,
+    subtotal NUMERIC(19, 2) NOT NULL,
+    PRIMARY KEY (order_id, line_number)
+);
+
+CREATE INDEX IF NOT EXISTS idx_tb_orders_customer_id ON tb_orders (customer_id, order_date);
@@ -3,7 +3,12 @@ package br.com.mswithspring.backend.ms_order;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
 
-@SpringBootTest
+@SpringBootTest(properties = {
+		"eureka.client.enabled=false",
+		"ms-order.order-persistence.enabled=false",
+		"ms-order.internal-api.token=test-internal-token",
+		"spring.sql.init.mode=never"
+})
 class MsOrderApplicationTests {
 
 	@Test
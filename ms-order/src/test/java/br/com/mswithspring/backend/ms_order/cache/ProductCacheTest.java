@@ -0,0 +1,147 @@
+package br.com.mswithspring.backend.ms_order.cache;
+
+import br.com.mswithspring.backend.ms_order.config.ProductCacheProperties;
+import br.com.mswithspring.backend.ms_order.dto.ProductDto;
+import br.com.mswithspring.backend.ms_order.exception.ProductServiceUnavailableException;
+import br.com.mswithspring.backend.ms_order.service.ProductLookupService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes para ProductCache")
+class ProductCacheTest {
+
+    @Mock
+    private ProductLookupService productLookupService;
+
+    private ExecutorService executor;
+    private ProductDto productDto;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+        productDto = new ProductDto("Smartphone X", new BigDecimal("1299.99"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.close();
+    }
+
+    @Test
+    @DisplayName("Deve servir o último preço conhecido quando o MS-PRODUCT estiver indisponível")
+    void shouldServeLastKnownProductWhenProductServiceIsUnavailable() {
+        ProductCache cache = newCache(true);
+        when(productLookupService.findProducts(List.of(1L)))
+                .thenReturn(Map.of(1L, productDto))
+                .thenThrow(new ProductServiceUnavailableException("MS-PRODUCT está indisponível no momento (circuit breaker aberto)."));
+
+        cache.getAll(List.of(1L));
+        Map<Long, ProductDto> result = cache.getAll(List.of(1L));
+
+        assertEquals(productDto, result.get(1L));
+        assertEquals(1, cache.stats().staleResponses());
+    }
+
+    @Test
+    @DisplayName("Deve propagar a indisponibilidade quando algum produto não tiver preço conhecido")
+    void shouldPropagateUnavailabilityWhenProductIsUnknown() {
+        ProductCache cache = newCache(true);
+        when(productLookupService.findProducts(List.of(1L)))
+                .thenThrow(new ProductServiceUnavailableException("MS-PRODUCT está indisponível no momento (circuit breaker aberto)."));
+
+        assertThrows(ProductServiceUnavailableException.class, () -> cache.getAll(List.of(1L)));
+    }
+
+    @Test
+    @DisplayName("Deve propagar a indisponibilidade quando o modo degradado estiver desabilitado")
+    void shouldPropagateUnavailabilityWhenDegradedModeIsDisabled() {
+        ProductCache cache = newCache(false);
+        when(productLookupService.findProducts(List.of(1L)))
+                .thenReturn(Map.of(1L, productDto))
+                .thenThrow(new ProductServiceUnavailableException("MS-PRODUCT está indisponível no momento (circuit breaker aberto)."));
+
+        cache.getAll(List.of(1L));
+
+        assertThrows(ProductServiceUnavailableException.class, () -> cache.getAll(List.of(1L)));
+    }
+
+    @Test
+    @DisplayName("Deve buscar novamente no MS-PRODUCT os produtos invalidados")
+    void shouldReloadInvalidatedProducts() {
+        ProductCache cache = newCache(true, true);
+        ProductDto updatedProduct = new ProductDto("Smartphone X", new BigDecimal("1199.99"));
+        when(productLookupService.findProducts(List.of(1L)))
+                .thenReturn(Map.of(1L, productDto))
+                .thenReturn(Map.of(1L, updatedProduct));
+
+        cache.getAll(List.of(1L));
+        assertEquals(productDto, cache.getAll(List.of(1L)).get(1L));
+        cache.invalidate(List.of(1L));
+
+        assertTrue(cache.getAllPresent(List.of(1L)).isEmpty());
+        assertEquals(updatedProduct, cache.getAll(List.of(1L)).get(1L));
+        verify(productLookupService, times(2)).findProducts(List.of(1L));
+    }
+
+    @Test
+    @DisplayName("Deve descartar o último preço conhecido ao invalidar, sem servi-lo no modo degradado")
+    void shouldNotServeInvalidatedProductAsLastKnown() {
+        ProductCache cache = newCache(true);
+        when(productLookupService.findProducts(List.of(1L)))
+                .thenReturn(Map.of(1L, productDto))
+                .thenThrow(new ProductServiceUnavailableException("MS-PRODUCT está indisponível no momento (circuit breaker aberto)."));
+
+        cache.getAll(List.of(1L));
+        cache.invalidate(List.of(1L));
+
+        assertThrows(ProductServiceUnavailableException.class, () -> cache.getAll(List.of(1L)));
+        assertEquals(0, cache.stats().staleSize());
+    }
+
+    @Test
+    @DisplayName("Deve esvaziar o cache e os últimos preços conhecidos ao invalidar todos os produtos")
+    void shouldClearEverythingOnInvalidateAll() {
+        ProductCache cache = newCache(true, true);
+        when(productLookupService.findProducts(anyList())).thenAnswer(invocation -> {
+            List<Long> ids = invocation.getArgument(0);
+            return ids.stream().collect(Collectors.toMap(id -> id, id -> productDto));
+        });
+
+        cache.getAll(List.of(1L, 2L));
+        cache.invalidateAll();
+
+        assertTrue(cache.getAllPresent(List.of(1L, 2L)).isEmpty());
+        assertEquals(0, cache.stats().size());
+        assertEquals(0, cache.stats().staleSize());
+    }
+
+    private ProductCache newCache(boolean serveStaleOnFailure) {
+        return newCache(false, serveStaleOnFailure);
+    }
+
+    private ProductCache newCache(boolean enabled, boolean serveStaleOnFailure) {
+        ProductCacheProperties properties = new ProductCacheProperties(enabled, 100, Duration.ofMinutes(10),
+                Duration.ofMinutes(1), serveStaleOnFailure, Duration.ofHours(1));
+        return new ProductCache(productLookupService, properties, executor, new SimpleMeterRegistry());
+    }
+}
@@ -0,0 +1,381 @@
+package br.com.mswithspring.backend.ms_order.client;
+
+import br.com.mswithspring.backend.ms_order.config.ProductClientResilienceConfig;
+import br.com.mswithspring.backend.ms_order.config.ProductClientResilienceProperties;
+import br.com.mswithspring.backend.ms_order.config.ProductLookupConfig;
+import br.com.mswithspring.backend.ms_order.dto.ProductDto;
+import br.com.mswithspring.backend.ms_order.exception.ProductServiceUnavailableException;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.handler.DefaultTracingObservationHandler;
+import io.micrometer.tracing.otel.bridge.OtelBaggageManager;
+import io.micrometer.tracing.otel.bridge.OtelCurrentTraceContext;
+import io.micrometer.tracing.otel.bridge.OtelTracer;
+import io.opentelemetry.sdk.testing.exporter.InMemorySpanExporter;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes para ResilientProductClient")
+class ResilientProductClientTest {
+
+    @Mock
+    private ProductClient delegate;
+
+    private ExecutorService executor;
+    private MeterRegistry meterRegistry;
+    private CircuitBreaker circuitBreaker;
+    private Bulkhead bulkhead;
+    private ProductDto productDto;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+        meterRegistry = new SimpleMeterRegistry();
+        productDto = new ProductDto("Smartphone X", new BigDecimal("1299.99"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.close();
+    }
+
+    @Test
+    @DisplayName("Deve delegar a chamada quando o MS-PRODUCT responde dentro do timeout")
+    void shouldDelegateWhenProductServiceResponds() {
+        ResilientProductClient client = newClient(properties(1, Duration.ofSeconds(1), hedging(false)));
+        when(delegate.getProductById(1L)).thenReturn(productDto);
+
+        assertEquals(productDto, client.getProductById(1L));
+        assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+        assertEquals(1, requestCount("getProductById", "success"));
+    }
+
+    @Test
+    @DisplayName("Deve dividir a consulta em lote em partes de até MAX_BATCH_SIZE IDs")
+    @SuppressWarnings("unchecked")
+    void shouldSplitBatchLookupIntoChunksOfServerLimit() {
+        ResilientProductClient client = newClient(properties(1, Duration.ofSeconds(1), hedging(false)));
+        List<Long> ids = LongStream.rangeClosed(1, ProductClient.MAX_BATCH_SIZE + 1).boxed().toList();
+        when(delegate.getProductsByIds(anyCollection())).thenAnswer(invocation -> {
+            Collection<Long> chunk = invocation.getArgument(0);
+            return chunk.stream().collect(Collectors.toMap(id -> id, id -> productDto));
+        });
+
+        Map<Long, ProductDto> products = client.getProductsByIds(ids);
+
+        ArgumentCaptor<Collection<Long>> chunks = ArgumentCaptor.forClass(Collection.class);
+        verify(delegate, times(2)).getProductsByIds(chunks.capture());
+        assertEquals(ProductClient.MAX_BATCH_SIZE, chunks.getAllValues().get(0).size());
+        assertEquals(1, chunks.getAllValues().get(1).size());
+        assertEquals(ids.size(), products.size());
+    }
+
+    @Test
+    @DisplayName("Deve lançar ProductServiceUnavailableException quando a chamada exceder o timeout")
+    void shouldThrowWhenCallTimesOut() {
+        ResilientProductClient client = newClient(properties(1, Duration.ofMillis(50), hedging(false)));
+        when(delegate.getProductById(1L)).thenAnswer(invocation -> {
+            Thread.sleep(500);
+            return productDto;
+        });
+
+        ProductServiceUnavailableException thrown = assertThrows(ProductServiceUnavailableException.class, () -> client.getProductById(1L));
+
+        assertEquals("MS-PRODUCT não respondeu em 50 ms.", thrown.getMessage());
+        assertEquals(1, meterRegistry.get("product.client.timeouts").counter().count());
+        assertEquals(1, requestCount("getProductById", "timeout"));
+    }
+
+    @Test
+    @DisplayName("Deve abrir o circuit breaker após falhas consecutivas e rejeitar novas chamadas")
+    void shouldOpenCircuitBreakerAfterFailures() {
+        ResilientProductClient client = newClient(properties(1, Duration.ofSeconds(1), hedging(false)));
+        when(delegate.getProductById(1L)).thenThrow(new RuntimeException("Connection refused"));
+
+        for (int i = 0; i < 2; i++) {
+            assertThrows(RuntimeException.class, () -> client.getProductById(1L));
+        }
+        ProductServiceUnavailableException thrown = assertThrows(ProductServiceUnavailableException.class, () -> client.getProductById(1L));
+
+        assertEquals("MS-PRODUCT está indisponível no momento (circuit breaker aberto).", thrown.getMessage());
+        assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+        assertEquals(1, circuitBreaker.getMetrics().getNumberOfNotPermittedCalls());
+        verify(delegate, times(2)).getProductById(1L);
+        assertEquals(2, requestCount("getProductById", "error"));
+        assertEquals(1, requestCount("getProductById", "circuit_open"));
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar chamadas quando o bulkhead estiver cheio")
+    void shouldRejectCallsWhenBulkheadIsFull() throws InterruptedException {
+        ResilientProductClient client = newClient(properties(1, Duration.ofSeconds(2), hedging(false)));
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(delegate.getProductById(1L)).thenAnswer(invocation -> {
+            started.countDown();
+            release.await();
+            return productDto;
+        });
+
+        Thread inFlight = Thread.ofVirtual().start(() -> client.getProductById(1L));
+        started.await();
+        assertThrows(ProductServiceUnavailableException.class, () -> client.getProductById(1L));
+        release.countDown();
+        inFlight.join();
+
+        assertEquals(1, meterRegistry.get("product.client.bulkhead.rejected").counter().count());
+        assertEquals(1, requestCount("getProductById", "bulkhead_rejected"));
+    }
+
+    @Test
+    @DisplayName("Deve disparar uma requisição hedged quando a primeira exceder o percentil de latência")
+    void shouldHedgeSlowRequest() throws InterruptedException {
+        ResilientProductClient client = newClient(properties(4, Duration.ofSeconds(2), hedging(true)));
+        AtomicInteger calls = new AtomicInteger();
+        when(delegate.getProductById(1L)).thenAnswer(invocation -> {
+            if (calls.incrementAndGet() == 2) {
+                Thread.sleep(1_500);
+            }
+            return productDto;
+        });
+
+        assertEquals(productDto, client.getProductById(1L));
+        long start = System.nanoTime();
+        assertEquals(productDto, client.getProductById(1L));
+
+        assertTrue(Duration.ofNanos(System.nanoTime() - start).toMillis() < 1_000);
+        assertEquals(1, meterRegistry.get("product.client.hedged.calls").counter().count());
+        awaitAvailablePermits(4);
+    }
+
+    @Test
+    @DisplayName("Deve devolver a vaga do bulkhead quando a chamada hedged for cancelada antes de começar")
+    void shouldReleasePermitWhenHedgeIsCancelledBeforeStarting() throws InterruptedException {
+        HoldingExecutor holdingExecutor = new HoldingExecutor();
+        executor.close();
+        executor = holdingExecutor;
+        ResilientProductClient client = newClient(properties(4, Duration.ofSeconds(2), hedging(true)));
+        AtomicInteger calls = new AtomicInteger();
+        when(delegate.getProductById(1L)).thenAnswer(invocation -> {
+            if (calls.incrementAndGet() == 2) {
+                holdingExecutor.hold.set(true);
+                Thread.sleep(200);
+            }
+            return productDto;
+        });
+
+        assertEquals(productDto, client.getProductById(1L));
+        assertEquals(productDto, client.getProductById(1L));
+
+        assertEquals(1, meterRegistry.get("product.client.hedged.calls").counter().count());
+        assertEquals(1, holdingExecutor.held.size());
+        awaitAvailablePermits(4);
+        holdingExecutor.held.forEach(Runnable::run);
+        assertEquals(4, bulkhead.getMetrics().getAvailableConcurrentCalls());
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    @DisplayName("Deve propagar o span corrente para a chamada original e para a chamada hedged")
+    void shouldPropagateTraceContextToHedgedCall() throws InterruptedException {
+        InMemorySpanExporter spanExporter = InMemorySpanExporter.create();
+        try (SdkTracerProvider tracerProvider = SdkTracerProvider.builder().addSpanProcessor(SimpleSpanProcessor.create(spanExporter)).build()) {
+            OtelCurrentTraceContext currentTraceContext = new OtelCurrentTraceContext();
+            OtelTracer tracer = new OtelTracer(tracerProvider.get("ms-order"), currentTraceContext, event -> { },
+                    new OtelBaggageManager(currentTraceContext, List.of(), List.of()));
+            ObservationRegistry observationRegistry = ObservationRegistry.create();
+            observationRegistry.observationConfig().observationHandler(new DefaultTracingObservationHandler(tracer));
+            executor.close();
+            executor = new ProductLookupConfig().productLookupExecutor();
+            ResilientProductClient client = newClient(properties(4, Duration.ofSeconds(2), hedging(true)));
+            AtomicInteger calls = new AtomicInteger();
+            when(delegate.getProductById(1L)).thenAnswer(invocation -> {
+                Span attempt = tracer.nextSpan().name("product.attempt").start();
+                try {
+                    if (calls.incrementAndGet() == 2) {
+                        Thread.sleep(1_500);
+                    }
+                    return productDto;
+                } finally {
+                    attempt.end();
+                }
+            });
+            client.getProductById(1L);
+            spanExporter.reset();
+
+            Observation.createNotStarted("order.simulate", observationRegistry).observe(() -> client.getProductById(1L));
+
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (spanExporter.getFinishedSpanItems().size() < 3 && System.nanoTime() < deadline) {
+                Thread.sleep(5);
+            }
+            List<SpanData> spans = spanExporter.getFinishedSpanItems();
+            SpanData parent = spans.stream().filter(span -> span.getName().equals("order.simulate")).findFirst().orElseThrow();
+            List<SpanData> attempts = spans.stream().filter(span -> span.getName().equals("product.attempt")).toList();
+
+            assertEquals(1, meterRegistry.get("product.client.hedged.calls").counter().count());
+            assertEquals(2, attempts.size());
+            for (SpanData attempt : attempts) {
+                assertEquals(parent.getTraceId(), attempt.getTraceId());
+                assertEquals(parent.getSpanId(), attempt.getParentSpanId());
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Deve interromper a chamada ao MS-PRODUCT que excedeu o timeout e devolver a vaga do bulkhead")
+    void shouldInterruptTimedOutCallAndReleasePermit() throws InterruptedException {
+        ResilientProductClient client = newClient(properties(1, Duration.ofMillis(50), hedging(false)));
+        CountDownLatch interrupted = new CountDownLatch(1);
+        when(delegate.getProductById(1L)).thenAnswer(invocation -> {
+            try {
+                new CountDownLatch(1).await();
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+            return productDto;
+        });
+
+        assertThrows(ProductServiceUnavailableException.class, () -> client.getProductById(1L));
+
+        assertTrue(interrupted.await(1, TimeUnit.SECONDS));
+        awaitAvailablePermits(1);
+    }
+
+    @Test
+    @DisplayName("Deve manter a vaga do bulkhead ocupada enquanto a chamada que excedeu o timeout ainda estiver em andamento")
+    void shouldKeepPermitWhileTimedOutCallIsStillRunning() throws InterruptedException {
+        ResilientProductClient client = newClient(properties(1, Duration.ofMillis(50), hedging(false)));
+        AtomicBoolean finish = new AtomicBoolean();
+        when(delegate.getProductById(1L)).thenAnswer(invocation -> {
+            while (!finish.get()) {
+                Thread.onSpinWait();
+            }
+            return productDto;
+        });
+
+        assertThrows(ProductServiceUnavailableException.class, () -> client.getProductById(1L));
+        ProductServiceUnavailableException rejected = assertThrows(ProductServiceUnavailableException.class, () -> client.getProductById(2L));
+
+        assertEquals("MS-PRODUCT está sobrecarregado: limite de chamadas simultâneas atingido.", rejected.getMessage());
+        finish.set(true);
+        awaitAvailablePermits(1);
+    }
+
+    private void awaitAvailablePermits(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (bulkhead.getMetrics().getAvailableConcurrentCalls() != expected && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertEquals(expected, bulkhead.getMetrics().getAvailableConcurrentCalls());
+    }
+
+    @Test
+    @DisplayName("Deve registrar os timers de requisição na construção do cliente")
+    void shouldRegisterRequestTimersUpFront() {
+        newClient(properties(1, Duration.ofSeconds(1), hedging(false)));
+
+        assertEquals(14, meterRegistry.find("product.client.requests").timers().size());
+        assertNotNull(meterRegistry.find("product.client.requests").tag("operation", "getProductsByIds").tag("outcome", "timeout").timer());
+    }
+
+    private long requestCount(String operation, String outcome) {
+        Timer timer = meterRegistry.find("product.client.requests").tag("operation", operation).tag("outcome", outcome).timer();
+        return timer == null ? 0 : timer.count();
+    }
+
+    private ResilientProductClient newClient(ProductClientResilienceProperties properties) {
+        ProductClientResilienceConfig config = new ProductClientResilienceConfig();
+        circuitBreaker = config.productClientCircuitBreaker(properties, meterRegistry);
+        bulkhead = config.productClientBulkhead(properties, meterRegistry);
+        return new ResilientProductClient(delegate, properties, circuitBreaker, bulkhead, executor, meterRegistry);
+    }
+
+    private ProductClientResilienceProperties properties(int maxConcurrentCalls, Duration timeout, ProductClientResilienceProperties.Hedging hedging) {
+        return new ProductClientResilienceProperties(50, 100, Duration.ofSeconds(10), 2, 2, Duration.ofMinutes(1), 1,
+                maxConcurrentCalls, Duration.ZERO, timeout, hedging);
+    }
+
+    private ProductClientResilienceProperties.Hedging hedging(boolean enabled) {
+        return new ProductClientResilienceProperties.Hedging(enabled, 0.95, Duration.ofMillis(20), 10, 1);
+    }
+
+    private static final class HoldingExecutor extends AbstractExecutorService {
+
+        private final AtomicBoolean hold = new AtomicBoolean();
+        private final List<Runnable> held = new CopyOnWriteArrayList<>();
+        private volatile boolean shutdown;
+
+        @Override
+        public void execute(Runnable command) {
+            if (hold.get()) {
+                held.add(command);
+            } else {
+                Thread.ofVirtual().start(command);
+            }
+        }
+
+        @Override
+        public void shutdown() {
+            shutdown = true;
+        }
+
+        @Override
+        public List<Runnable> shutdownNow() {
+            shutdown = true;
+            return List.copyOf(held);
+        }
+
+        @Override
+        public boolean isShutdown() {
+            return shutdown;
+        }
+
+        @Override
+        public boolean isTerminated() {
+            return shutdown;
+        }
+
+        @Override
+        public boolean awaitTermination(long timeout, TimeUnit unit) {
+            return shutdown;
+        }
+    }
+}
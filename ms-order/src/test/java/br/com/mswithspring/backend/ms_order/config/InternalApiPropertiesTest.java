@@ -0,0 +1,51 @@
+package br.com.mswithspring.backend.ms_order.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.validation.BindValidationException;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.core.NestedExceptionUtils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+@DisplayName("Testes para InternalApiProperties")
+class InternalApiPropertiesTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withUserConfiguration(TestConfig.class);
+
+    @Test
+    @DisplayName("Deve impedir a inicialização quando o token da API interna não for informado")
+    void shouldFailStartupWhenTokenIsMissing() {
+        contextRunner.run(context -> {
+            Throwable cause = NestedExceptionUtils.getMostSpecificCause(context.getStartupFailure());
+
+            assertInstanceOf(BindValidationException.class, cause);
+            assertTrue(cause.getMessage().contains("O token da API interna (INTERNAL_API_TOKEN) deve ser informado."));
+        });
+    }
+
+    @Test
+    @DisplayName("Deve impedir a inicialização quando o token da API interna estiver em branco")
+    void shouldFailStartupWhenTokenIsBlank() {
+        contextRunner.withPropertyValues("ms-order.internal-api.token=  ")
+                .run(context -> assertInstanceOf(BindValidationException.class,
+                        NestedExceptionUtils.getMostSpecificCause(context.getStartupFailure())));
+    }
+
+    @Test
+    @DisplayName("Deve inicializar quando o token da API interna for informado")
+    void shouldBindConfiguredToken() {
+        contextRunner.withPropertyValues("ms-order.internal-api.token=segredo")
+                .run(context -> {
+                    assertNull(context.getStartupFailure());
+                    assertEquals("segredo", context.getBean(InternalApiProperties.class).token());
+                });
+    }
+
+    @EnableConfigurationProperties(InternalApiProperties.class)
+    static class TestConfig {
+    }
+}
@@ -0,0 +1,31 @@
+package br.com.mswithspring.backend.ms_order.config;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+@DisplayName("Testes para ProductLookupConfig")
+class ProductLookupConfigTest {
+
+    @Test
+    @DisplayName("Deve propagar a observação corrente para as tarefas do productLookupExecutor")
+    void shouldPropagateCurrentObservationToLookupTasks() throws Exception {
+        ObservationRegistry registry = ObservationRegistry.create();
+        registry.observationConfig().observationHandler(context -> true);
+        Observation observation = Observation.createNotStarted("order.simulate", registry);
+        AtomicReference<Observation> seenByTask = new AtomicReference<>();
+
+        try (ExecutorService executor = new ProductLookupConfig().productLookupExecutor()) {
+            observation.observeChecked(() -> executor.submit(() -> seenByTask.set(registry.getCurrentObservation())).get());
+        }
+
+        assertSame(observation, seenByTask.get());
+    }
+}
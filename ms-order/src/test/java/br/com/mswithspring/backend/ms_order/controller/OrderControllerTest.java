@@ -0,0 +1,141 @@
+package br.com.mswithspring.backend.ms_order.controller;
+
+import br.com.mswithspring.backend.ms_order.config.OrderIdempotencyProperties;
+import br.com.mswithspring.backend.ms_order.dto.OrderConfirmationDto;
+import br.com.mswithspring.backend.ms_order.dto.OrderDto;
+import br.com.mswithspring.backend.ms_order.exception.GlobalExceptionHandler;
+import br.com.mswithspring.backend.ms_order.service.OrderIdempotencyStore;
+import br.com.mswithspring.backend.ms_order.service.OrderService;
+import br.com.mswithspring.backend.ms_order.service.ReactiveOrderService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes para OrderController")
+class OrderControllerTest {
+
+    private static final String ORDER_JSON = "{\"customerId\":1,\"items\":[{\"productId\":1,\"quantity\":2},{\"productId\":2,\"quantity\":1}]}";
+    private static final String REORDERED_ORDER_JSON = "{\"customerId\":1,\"items\":[{\"productId\":2,\"quantity\":1},{\"productId\":1,\"quantity\":2}]}";
+    private static final String OTHER_ORDER_JSON = "{\"customerId\":1,\"items\":[{\"productId\":1,\"quantity\":3}]}";
+
+    @Mock
+    private OrderService orderService;
+
+    @Mock
+    private ReactiveOrderService reactiveOrderService;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        OrderIdempotencyStore store = new OrderIdempotencyStore(new OrderIdempotencyProperties(100, Duration.ofMinutes(5), 64), new SimpleMeterRegistry());
+        mockMvc = MockMvcBuilders.standaloneSetup(new OrderController(orderService, reactiveOrderService, store))
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+    }
+
+    @Test
+    @DisplayName("Deve reproduzir a confirmação original quando o Idempotency-Key for repetido")
+    void shouldReplayConfirmationForRepeatedIdempotencyKey() throws Exception {
+        when(orderService.simulateOrder(any(OrderDto.class))).thenReturn(confirmation("pedido-1"));
+
+        mockMvc.perform(post("/orders/simulate").header("Idempotency-Key", "chave-1")
+                        .contentType(MediaType.APPLICATION_JSON).content(ORDER_JSON))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Idempotent-Replayed", "false"))
+                .andExpect(jsonPath("$.orderId").value("pedido-1"));
+        mockMvc.perform(post("/orders/simulate").header("Idempotency-Key", "chave-1")
+                        .contentType(MediaType.APPLICATION_JSON).content(REORDERED_ORDER_JSON))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Idempotent-Replayed", "true"))
+                .andExpect(jsonPath("$.orderId").value("pedido-1"));
+
+        verify(orderService, times(1)).simulateOrder(any(OrderDto.class));
+    }
+
+    @Test
+    @DisplayName("Deve retornar 409 quando o Idempotency-Key for reutilizado com outro pedido")
+    void shouldReturnConflictWhenKeyIsReusedWithDifferentOrder() throws Exception {
+        when(orderService.simulateOrder(any(OrderDto.class))).thenReturn(confirmation("pedido-1"));
+
+        mockMvc.perform(post("/orders/simulate").header("Idempotency-Key", "chave-1")
+                        .contentType(MediaType.APPLICATION_JSON).content(ORDER_JSON))
+                .andExpect(status().isOk());
+        mockMvc.perform(post("/orders/simulate").header("Idempotency-Key", "chave-1")
+                        .contentType(MediaType.APPLICATION_JSON).content(OTHER_ORDER_JSON))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.error").value("Conflict"))
+                .andExpect(jsonPath("$.message").value("A chave de idempotência 'chave-1' já foi utilizada com um pedido diferente."));
+
+        verify(orderService, times(1)).simulateOrder(any(OrderDto.class));
+    }
+
+    @Test
+    @DisplayName("Não deve enviar o cabeçalho Idempotent-Replayed quando o Idempotency-Key estiver ausente")
+    void shouldSkipIdempotencyWithoutKey() throws Exception {
+        when(orderService.simulateOrder(any(OrderDto.class))).thenReturn(confirmation("pedido-1"));
+
+        mockMvc.perform(post("/orders/simulate").contentType(MediaType.APPLICATION_JSON).content(ORDER_JSON))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("Idempotent-Replayed"));
+        mockMvc.perform(post("/orders/simulate").contentType(MediaType.APPLICATION_JSON).content(ORDER_JSON))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("Idempotent-Replayed"));
+
+        verify(orderService, times(2)).simulateOrder(any(OrderDto.class));
+    }
+
+    @Test
+    @DisplayName("Deve honrar o Idempotency-Key na rota reativa")
+    void shouldHonorIdempotencyKeyOnReactiveEndpoint() throws Exception {
+        when(reactiveOrderService.simulateOrder(any(OrderDto.class))).thenReturn(Mono.fromSupplier(() -> confirmation("pedido-1")));
+
+        performReactive("chave-1", ORDER_JSON)
+                .andExpect(status().isOk())
+                .andExpect(header().string("Idempotent-Replayed", "false"))
+                .andExpect(jsonPath("$.orderId").value("pedido-1"));
+        performReactive("chave-1", ORDER_JSON)
+                .andExpect(status().isOk())
+                .andExpect(header().string("Idempotent-Replayed", "true"))
+                .andExpect(jsonPath("$.orderId").value("pedido-1"));
+        performReactive("chave-1", OTHER_ORDER_JSON)
+                .andExpect(status().isConflict());
+
+        verify(reactiveOrderService, times(1)).simulateOrder(any(OrderDto.class));
+    }
+
+    private ResultActions performReactive(String idempotencyKey, String body) throws Exception {
+        MvcResult result = mockMvc.perform(post("/orders/simulate/reactive").header("Idempotency-Key", idempotencyKey)
+                        .contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        return mockMvc.perform(asyncDispatch(result));
+    }
+
+    private static OrderConfirmationDto confirmation(String orderId) {
+        return new OrderConfirmationDto(orderId, 1L, new BigDecimal("10.00"), LocalDateTime.now(),
+                List.of(), "SIMULATED_SUCCESS", "Pedido criado com sucesso.");
+    }
+}
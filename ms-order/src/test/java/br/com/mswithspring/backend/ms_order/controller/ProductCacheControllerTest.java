@@ -0,0 +1,58 @@
+package br.com.mswithspring.backend.ms_order.controller;
+
+import br.com.mswithspring.backend.ms_order.cache.ProductCache;
+import br.com.mswithspring.backend.ms_order.config.InternalApiProperties;
+import br.com.mswithspring.backend.ms_order.exception.InternalApiAccessDeniedException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes para ProductCacheController")
+class ProductCacheControllerTest {
+
+    @Mock
+    private ProductCache productCache;
+
+    @Test
+    @DisplayName("Deve invalidar os produtos quando o token interno for válido")
+    void shouldInvalidateProductsWithValidToken() {
+        ProductCacheController controller = new ProductCacheController(productCache, new InternalApiProperties("segredo"));
+
+        assertEquals(HttpStatus.NO_CONTENT, controller.invalidate("segredo", List.of(1L, 2L)).getStatusCode());
+
+        verify(productCache).invalidate(List.of(1L, 2L));
+    }
+
+    @Test
+    @DisplayName("Deve negar o acesso quando o token interno estiver ausente ou incorreto")
+    void shouldDenyAccessWithoutValidToken() {
+        ProductCacheController controller = new ProductCacheController(productCache, new InternalApiProperties("segredo"));
+
+        InternalApiAccessDeniedException thrown = assertThrows(InternalApiAccessDeniedException.class,
+                () -> controller.invalidate(null, List.of(1L)));
+        assertThrows(InternalApiAccessDeniedException.class, () -> controller.invalidateAll("outro"));
+        assertThrows(InternalApiAccessDeniedException.class, () -> controller.stats("outro"));
+
+        assertEquals("Acesso negado à API interna: cabeçalho 'X-Internal-Token' ausente ou inválido.", thrown.getMessage());
+        verifyNoInteractions(productCache);
+    }
+
+    @Test
+    @DisplayName("Deve negar o acesso quando nenhum token interno estiver configurado")
+    void shouldDenyAccessWhenTokenIsNotConfigured() {
+        ProductCacheController controller = new ProductCacheController(productCache, new InternalApiProperties(""));
+
+        assertThrows(InternalApiAccessDeniedException.class, () -> controller.invalidate("", List.of(1L)));
+        verifyNoInteractions(productCache);
+    }
+}
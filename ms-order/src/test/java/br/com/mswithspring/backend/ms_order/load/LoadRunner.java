@@ -0,0 +1,74 @@
+package br.com.mswithspring.backend.ms_order.load;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+
+final class LoadRunner implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(LoadRunner.class);
+
+    static final String ORDER_BODY = "{\"customerId\":1,\"items\":[{\"productId\":1,\"quantity\":2},{\"productId\":2,\"quantity\":1}]}";
+
+    private final HttpClient client = HttpClient.newBuilder().executor(Executors.newVirtualThreadPerTaskExecutor()).build();
+
+    LoadResult run(URI uri, int warmUpRequests, int concurrentRequests) {
+        HttpRequest request = HttpRequest.newBuilder(uri)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(ORDER_BODY))
+                .build();
+        fire(request, warmUpRequests);
+
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        threads.resetPeakThreadCount();
+        long start = System.nanoTime();
+        List<long[]> samples = fire(request, concurrentRequests);
+        long elapsedNanos = System.nanoTime() - start;
+
+        long[] latencies = samples.stream().mapToLong(sample -> sample[1]).sorted().toArray();
+        int successes = (int) samples.stream().filter(sample -> sample[0] == 200).count();
+        return new LoadResult(successes, concurrentRequests * 1_000_000_000.0 / elapsedNanos,
+                percentile(latencies, 0.50), percentile(latencies, 0.99), threads.getPeakThreadCount());
+    }
+
+    static void printHeader() {
+        log.info(String.format("%-16s %8s %10s %10s %10s %14s", "modo", "req", "req/s", "p50 (ms)", "p99 (ms)", "pico threads"));
+    }
+
+    @Override
+    public void close() {
+        client.close();
+    }
+
+    private List<long[]> fire(HttpRequest request, int count) {
+        List<CompletableFuture<long[]>> futures = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            long start = System.nanoTime();
+            futures.add(client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                    .thenApply(response -> new long[]{response.statusCode(), System.nanoTime() - start}));
+        }
+        return futures.stream().map(CompletableFuture::join).toList();
+    }
+
+    private static double percentile(long[] sortedNanos, double percentile) {
+        int index = (int) Math.ceil(percentile * sortedNanos.length) - 1;
+        return sortedNanos[Math.max(0, index)] / 1_000_000.0;
+    }
+
+    record LoadResult(int successes, double requestsPerSecond, double p50Millis, double p99Millis, int peakThreads) {
+
+        void print(String mode) {
+            log.info(String.format("%-16s %8d %10.1f %10.1f %10.1f %14d", mode, successes, requestsPerSecond, p50Millis, p99Millis, peakThreads));
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package br.com.mswithspring.backend.ms_order.load;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.net.URI;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "eureka.client.enabled=false",
+        "ms-order.product-cache.enabled=false",
+        "ms-order.product-lookup.mode=batch",
+        "ms-order.product-client.resilience.max-concurrent-calls=1000",
+        "ms-order.order-persistence.enabled=false",
+        "ms-order.internal-api.token=test-internal-token",
+        "spring.sql.init.mode=never",
+        "server.tomcat.threads.max=50"
+})
+@DisplayName("Teste de carga: /orders/simulate (bloqueante) x /orders/simulate/reactive")
+class OrderSimulationLoadTest {
+
+    static final int CONCURRENT_REQUESTS = 400;
+    static final int WARM_UP_REQUESTS = 20;
+    static final Duration PRODUCT_LATENCY = Duration.ofMillis(200);
+
+    private static ProductServiceStub productStub;
+
+    @LocalServerPort
+    private int port;
+
+    @DynamicPropertySource
+    static void productServiceStub(DynamicPropertyRegistry registry) throws IOException {
+        productStub = ProductServiceStub.start(PRODUCT_LATENCY);
+        registry.add("spring.cloud.discovery.client.simple.instances.MS-PRODUCT[0].uri", productStub::uri);
+    }
+
+    @AfterAll
+    static void stopProductServiceStub() {
+        productStub.close();
+    }
+
+    @Test
+    @DisplayName("Deve atender a rajada nos dois modos e reportar latência e threads")
+    void shouldCompareBlockingAndReactiveModes() {
+        try (LoadRunner loadRunner = new LoadRunner()) {
+            LoadRunner.LoadResult blocking = loadRunner.run(URI.create("http://localhost:" + port + "/orders/simulate"), WARM_UP_REQUESTS, CONCURRENT_REQUESTS);
+            LoadRunner.LoadResult reactive = loadRunner.run(URI.create("http://localhost:" + port + "/orders/simulate/reactive"), WARM_UP_REQUESTS, CONCURRENT_REQUESTS);
+
+            LoadRunner.printHeader();
+            blocking.print("blocking");
+            reactive.print("reactive");
+
+            assertEquals(CONCURRENT_REQUESTS, blocking.successes());
+            assertEquals(CONCURRENT_REQUESTS, reactive.successes());
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package br.com.mswithspring.backend.ms_order.load;
+
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+final class ProductServiceStub implements AutoCloseable {
+
+    private static final Pattern ID_PATTERN = Pattern.compile("\\d+");
+
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    private ProductServiceStub(Duration latency) throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 1024);
+        server.setExecutor(executor);
+        server.createContext("/products/batch", exchange -> {
+            String ids = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+            try {
+                Thread.sleep(latency);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            byte[] response = productsJson(ids).getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, response.length);
+            try (OutputStream body = exchange.getResponseBody()) {
+                body.write(response);
+            }
+        });
+        server.start();
+    }
+
+    static ProductServiceStub start(Duration latency) throws IOException {
+        return new ProductServiceStub(latency);
+    }
+
+    String uri() {
+        return "http://localhost:" + server.getAddress().getPort();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.close();
+    }
+
+    private static String productsJson(String requestBody) {
+        Matcher matcher = ID_PATTERN.matcher(requestBody);
+        List<String> ids = new ArrayList<>();
+        while (matcher.find()) {
+            ids.add(matcher.group());
+        }
+        return ids.stream()
+                .map(id -> String.format("\"%s\":{\"name\":\"Produto %s\",\"description\":\"Stub\",\"price\":10.00}", id, id))
+                .collect(Collectors.joining(",", "{", "}"));
+    }
+}
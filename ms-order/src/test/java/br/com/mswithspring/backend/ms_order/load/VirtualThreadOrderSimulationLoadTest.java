@@ -0,0 +1,62 @@
+package br.com.mswithspring.backend.ms_order.load;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.net.URI;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Tag("load")
+@ActiveProfiles("virtual-threads")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "eureka.client.enabled=false",
+        "ms-order.product-cache.enabled=false",
+        "ms-order.product-lookup.mode=batch",
+        "ms-order.product-client.resilience.max-concurrent-calls=1000",
+        "ms-order.order-persistence.enabled=false",
+        "ms-order.internal-api.token=test-internal-token",
+        "spring.sql.init.mode=never",
+        "server.tomcat.threads.max=50"
+})
+@DisplayName("Teste de carga: /orders/simulate com virtual threads")
+class VirtualThreadOrderSimulationLoadTest {
+
+    private static ProductServiceStub productStub;
+
+    @LocalServerPort
+    private int port;
+
+    @DynamicPropertySource
+    static void productServiceStub(DynamicPropertyRegistry registry) throws IOException {
+        productStub = ProductServiceStub.start(OrderSimulationLoadTest.PRODUCT_LATENCY);
+        registry.add("spring.cloud.discovery.client.simple.instances.MS-PRODUCT[0].uri", productStub::uri);
+    }
+
+    @AfterAll
+    static void stopProductServiceStub() {
+        productStub.close();
+    }
+
+    @Test
+    @DisplayName("Deve atender a rajada no modo bloqueante sobre virtual threads e reportar latência e threads")
+    void shouldServeBlockingEndpointOnVirtualThreads() {
+        try (LoadRunner loadRunner = new LoadRunner()) {
+            LoadRunner.LoadResult virtualThreads = loadRunner.run(URI.create("http://localhost:" + port + "/orders/simulate"),
+                    OrderSimulationLoadTest.WARM_UP_REQUESTS, OrderSimulationLoadTest.CONCURRENT_REQUESTS);
+
+            LoadRunner.printHeader();
+            virtualThreads.print("virtual-threads");
+
+            assertEquals(OrderSimulationLoadTest.CONCURRENT_REQUESTS, virtualThreads.successes());
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package br.com.mswithspring.backend.ms_order.service;
+
+import br.com.mswithspring.backend.ms_order.dto.OrderConfirmationDto;
+import br.com.mswithspring.backend.ms_order.dto.OrderDto;
+import br.com.mswithspring.backend.ms_order.dto.OrderItemDto;
+import br.com.mswithspring.backend.ms_order.dto.ProductDto;
+import br.com.mswithspring.backend.ms_order.exception.OrderCreationException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+@DisplayName("Testes para OrderCalculator")
+class OrderCalculatorTest {
+
+    private final OrderCalculator orderCalculator = new OrderCalculator();
+
+    @Test
+    @DisplayName("Deve calcular subtotais e total em centavos e devolver BigDecimal com duas casas")
+    void shouldCalculateTotalsInMinorUnits() {
+        OrderDto orderDto = new OrderDto(1L, List.of(new OrderItemDto(1L, 3), new OrderItemDto(2L, 1), new OrderItemDto(1L, 1)));
+        Map<Long, ProductDto> products = Map.of(
+                1L, new ProductDto("Caneta", new BigDecimal("0.10")),
+                2L, new ProductDto("Caderno", new BigDecimal("12.5")));
+
+        OrderConfirmationDto confirmation = orderCalculator.calculate(orderDto, products);
+
+        assertEquals(new BigDecimal("12.90"), confirmation.totalAmount());
+        assertEquals(new BigDecimal("0.30"), confirmation.confirmedItems().get(0).subtotal());
+        assertEquals(new BigDecimal("12.50"), confirmation.confirmedItems().get(1).unitPrice());
+        assertEquals("Caneta", confirmation.confirmedItems().get(2).productName());
+    }
+
+    @Test
+    @DisplayName("Deve lançar OrderCreationException quando o total estourar o limite de long")
+    void shouldThrowWhenTotalOverflows() {
+        OrderDto orderDto = new OrderDto(1L, List.of(new OrderItemDto(1L, Integer.MAX_VALUE), new OrderItemDto(1L, Integer.MAX_VALUE)));
+        Map<Long, ProductDto> products = Map.of(1L, new ProductDto("Iate", new BigDecimal("9999999999.99")));
+
+        OrderCreationException thrown = assertThrows(OrderCreationException.class, () -> orderCalculator.calculate(orderDto, products));
+
+        assertEquals("O valor total do pedido excede o limite suportado.", thrown.getMessage());
+    }
+
+    @Test
+    @DisplayName("Deve lançar OrderCreationException para preço com mais de duas casas decimais")
+    void shouldThrowWhenPriceHasTooManyDecimals() {
+        OrderDto orderDto = new OrderDto(1L, List.of(new OrderItemDto(1L, 1)));
+        Map<Long, ProductDto> products = Map.of(1L, new ProductDto("Combustível", new BigDecimal("5.999")));
+
+        OrderCreationException thrown = assertThrows(OrderCreationException.class, () -> orderCalculator.calculate(orderDto, products));
+
+        assertEquals("Detalhes do produto com ID 1 inválidos (preço com mais de 2 casas decimais).", thrown.getMessage());
+    }
+
+    @Test
+    @DisplayName("Deve lançar OrderCreationException quando o produto não for encontrado")
+    void shouldThrowWhenProductIsMissing() {
+        OrderDto orderDto = new OrderDto(1L, List.of(new OrderItemDto(99L, 1)));
+
+        OrderCreationException thrown = assertThrows(OrderCreationException.class, () -> orderCalculator.calculate(orderDto, Map.of()));
+
+        assertEquals("Produto com ID 99 não encontrado ou indisponível.", thrown.getMessage());
+    }
+}
@@ -0,0 +1,199 @@
+package br.com.mswithspring.backend.ms_order.service;
+
+import br.com.mswithspring.backend.ms_order.config.OrderIdempotencyProperties;
+import br.com.mswithspring.backend.ms_order.dto.OrderConfirmationDto;
+import br.com.mswithspring.backend.ms_order.dto.OrderDto;
+import br.com.mswithspring.backend.ms_order.dto.OrderItemDto;
+import br.com.mswithspring.backend.ms_order.exception.IdempotencyKeyConflictException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+@DisplayName("Testes para OrderIdempotencyStore")
+class OrderIdempotencyStoreTest {
+
+    private OrderIdempotencyStore store;
+    private OrderDto orderDto;
+
+    @BeforeEach
+    void setUp() {
+        store = new OrderIdempotencyStore(new OrderIdempotencyProperties(100, Duration.ofMinutes(5), 64), new SimpleMeterRegistry());
+        orderDto = new OrderDto(1L, List.of(new OrderItemDto(1L, 2), new OrderItemDto(2L, 1)));
+    }
+
+    @Test
+    @DisplayName("Deve retornar a confirmação original para requisições repetidas com a mesma chave")
+    void shouldReplayOriginalConfirmation() {
+        AtomicInteger simulations = new AtomicInteger();
+
+        OrderIdempotencyStore.Outcome first = store.execute("chave-1", orderDto, () -> simulate(simulations));
+        OrderIdempotencyStore.Outcome second = store.execute("chave-1", orderDto, () -> simulate(simulations));
+
+        assertFalse(first.replayed());
+        assertTrue(second.replayed());
+        assertSame(first.confirmation(), second.confirmation());
+        assertEquals(1, simulations.get());
+    }
+
+    @Test
+    @DisplayName("Deve lançar IdempotencyKeyConflictException quando a chave for reutilizada com outro pedido")
+    void shouldRejectKeyReusedWithDifferentOrder() {
+        store.execute("chave-1", orderDto, () -> simulate(new AtomicInteger()));
+        OrderDto otherOrder = new OrderDto(1L, List.of(new OrderItemDto(1L, 3)));
+
+        IdempotencyKeyConflictException thrown = assertThrows(IdempotencyKeyConflictException.class,
+                () -> store.execute("chave-1", otherOrder, () -> simulate(new AtomicInteger())));
+
+        assertEquals("A chave de idempotência 'chave-1' já foi utilizada com um pedido diferente.", thrown.getMessage());
+    }
+
+    @Test
+    @DisplayName("Deve executar a simulação uma única vez para requisições duplicadas concorrentes")
+    void shouldCoalesceConcurrentDuplicates() throws Exception {
+        AtomicInteger simulations = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<OrderIdempotencyStore.Outcome> first = executor.submit(() -> store.execute("chave-1", orderDto, () -> {
+                started.countDown();
+                await(release);
+                return simulate(simulations);
+            }));
+            started.await();
+            Future<OrderIdempotencyStore.Outcome> second = executor.submit(() -> store.execute("chave-1", orderDto, () -> simulate(simulations)));
+            Thread.sleep(50);
+            release.countDown();
+
+            assertSame(first.get().confirmation(), second.get().confirmation());
+            assertTrue(second.get().replayed());
+        }
+        assertEquals(1, simulations.get());
+    }
+
+    @Test
+    @DisplayName("Deve permitir nova tentativa quando a simulação original falhar")
+    void shouldAllowRetryAfterFailure() {
+        assertThrows(IllegalStateException.class, () -> store.execute("chave-1", orderDto, () -> {
+            throw new IllegalStateException("falha");
+        }));
+
+        OrderIdempotencyStore.Outcome outcome = store.execute("chave-1", orderDto, () -> simulate(new AtomicInteger()));
+
+        assertFalse(outcome.replayed());
+    }
+
+    @Test
+    @DisplayName("Deve propagar um Error da simulação às requisições em espera e liberar a chave")
+    void shouldReleaseKeyWhenSimulationThrowsError() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<OrderIdempotencyStore.Outcome> first = executor.submit(() -> store.execute("chave-1", orderDto, () -> {
+                started.countDown();
+                await(release);
+                throw new StackOverflowError("falha");
+            }));
+            started.await();
+            Future<OrderIdempotencyStore.Outcome> second = executor.submit(() -> store.execute("chave-1", orderDto, () -> simulate(new AtomicInteger())));
+            Thread.sleep(50);
+            release.countDown();
+
+            ExecutionException firstFailure = assertThrows(ExecutionException.class, () -> first.get(5, TimeUnit.SECONDS));
+            ExecutionException secondFailure = assertThrows(ExecutionException.class, () -> second.get(5, TimeUnit.SECONDS));
+            assertInstanceOf(StackOverflowError.class, firstFailure.getCause());
+            assertInstanceOf(StackOverflowError.class, secondFailure.getCause());
+        }
+
+        OrderIdempotencyStore.Outcome outcome = store.execute("chave-1", orderDto, () -> simulate(new AtomicInteger()));
+
+        assertFalse(outcome.replayed());
+    }
+
+    @Test
+    @DisplayName("Deve lançar IllegalArgumentException para chave vazia ou longa demais")
+    void shouldRejectInvalidKey() {
+        assertThrows(IllegalArgumentException.class, () -> store.execute(" ", orderDto, () -> simulate(new AtomicInteger())));
+        assertThrows(IllegalArgumentException.class, () -> store.execute("x".repeat(65), orderDto, () -> simulate(new AtomicInteger())));
+    }
+
+    @Test
+    @DisplayName("Deve tratar como o mesmo pedido itens enviados em outra ordem")
+    void shouldReplayWhenItemsAreReordered() {
+        AtomicInteger simulations = new AtomicInteger();
+        OrderDto reordered = new OrderDto(1L, List.of(new OrderItemDto(2L, 1), new OrderItemDto(1L, 2)));
+
+        store.execute("chave-1", orderDto, () -> simulate(simulations));
+        OrderIdempotencyStore.Outcome outcome = store.execute("chave-1", reordered, () -> simulate(simulations));
+
+        assertTrue(outcome.replayed());
+        assertEquals(1, simulations.get());
+    }
+
+    @Test
+    @DisplayName("Deve compartilhar a confirmação entre as rotas síncrona e reativa para a mesma chave")
+    void shouldReplayReactiveRequestWithSameKey() {
+        AtomicInteger simulations = new AtomicInteger();
+
+        OrderIdempotencyStore.Outcome first = store.executeReactive("chave-1", orderDto, () -> Mono.fromSupplier(() -> simulate(simulations))).block();
+        OrderIdempotencyStore.Outcome second = store.executeReactive("chave-1", orderDto, () -> Mono.fromSupplier(() -> simulate(simulations))).block();
+        OrderIdempotencyStore.Outcome third = store.execute("chave-1", orderDto, () -> simulate(simulations));
+
+        assertFalse(first.replayed());
+        assertTrue(second.replayed());
+        assertTrue(third.replayed());
+        assertSame(first.confirmation(), second.confirmation());
+        assertEquals(1, simulations.get());
+    }
+
+    @Test
+    @DisplayName("Deve sinalizar conflito e permitir nova tentativa após falha na rota reativa")
+    void shouldRejectConflictAndAllowRetryOnReactivePath() {
+        StepVerifier.create(store.executeReactive("chave-1", orderDto, () -> Mono.error(new IllegalStateException("falha"))))
+                .expectError(IllegalStateException.class)
+                .verify();
+
+        OrderIdempotencyStore.Outcome outcome = store.executeReactive("chave-1", orderDto, () -> Mono.fromSupplier(() -> simulate(new AtomicInteger()))).block();
+        OrderDto otherOrder = new OrderDto(1L, List.of(new OrderItemDto(1L, 3)));
+
+        assertFalse(outcome.replayed());
+        StepVerifier.create(store.executeReactive("chave-1", otherOrder, () -> Mono.fromSupplier(() -> simulate(new AtomicInteger()))))
+                .expectError(IdempotencyKeyConflictException.class)
+                .verify();
+    }
+
+    private OrderConfirmationDto simulate(AtomicInteger simulations) {
+        simulations.incrementAndGet();
+        return new OrderConfirmationDto(UUID.randomUUID().toString(), 1L, new BigDecimal("10.00"), LocalDateTime.now(),
+                List.of(), "SIMULATED_SUCCESS", "Pedido criado com sucesso.");
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package br.com.mswithspring.backend.ms_order.service;
+
+import br.com.mswithspring.backend.ms_order.config.OrderPersistenceProperties;
+import br.com.mswithspring.backend.ms_order.dto.OrderConfirmationDto;
+import br.com.mswithspring.backend.ms_order.exception.OrderPersistenceOverloadedException;
+import br.com.mswithspring.backend.ms_order.repository.OrderRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.TransientDataAccessResourceException;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes para OrderWriteBehindQueue")
+class OrderWriteBehindQueueTest {
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Test
+    @DisplayName("Deve gravar os pedidos enfileirados em lote e drenar a fila ao encerrar")
+    @SuppressWarnings("unchecked")
+    void shouldFlushQueuedOrdersInBatchesAndDrainOnStop() {
+        OrderWriteBehindQueue queue = new OrderWriteBehindQueue(orderRepository, properties(100, 10), new SimpleMeterRegistry());
+        queue.start();
+
+        for (int i = 0; i < 25; i++) {
+            queue.enqueue(order());
+        }
+        queue.stop();
+
+        ArgumentCaptor<List<OrderConfirmationDto>> batches = ArgumentCaptor.forClass(List.class);
+        verify(orderRepository, atLeast(3)).insertAll(batches.capture());
+        assertEquals(25, batches.getAllValues().stream().mapToInt(List::size).sum());
+        assertTrue(batches.getAllValues().stream().allMatch(batch -> batch.size() <= 10));
+        assertFalse(queue.isRunning());
+    }
+
+    @Test
+    @DisplayName("Deve lançar OrderPersistenceOverloadedException quando a fila estiver cheia")
+    void shouldRejectOrdersWhenQueueIsFull() throws InterruptedException {
+        CountDownLatch flushing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            flushing.countDown();
+            release.await();
+            return null;
+        }).when(orderRepository).insertAll(anyList());
+        OrderWriteBehindQueue queue = new OrderWriteBehindQueue(orderRepository, properties(1, 1), new SimpleMeterRegistry());
+        queue.start();
+
+        queue.enqueue(order());
+        assertTrue(flushing.await(5, TimeUnit.SECONDS));
+        queue.enqueue(order());
+
+        OrderPersistenceOverloadedException thrown = assertThrows(OrderPersistenceOverloadedException.class, () -> queue.enqueue(order()));
+        assertEquals("A fila de gravação de pedidos está cheia (1 pedidos pendentes). Tente novamente em instantes.", thrown.getMessage());
+
+        release.countDown();
+        queue.stop();
+        verify(orderRepository, times(2)).insertAll(anyList());
+    }
+
+    @Test
+    @DisplayName("Deve continuar tentando a gravação enquanto o banco estiver indisponível, sem descartar pedidos")
+    void shouldKeepRetryingFailedFlushWithoutDroppingOrders() {
+        doThrow(new TransientDataAccessResourceException("Connection reset")).doThrow(new TransientDataAccessResourceException("Connection reset"))
+                .doThrow(new TransientDataAccessResourceException("Connection reset")).doThrow(new TransientDataAccessResourceException("Connection reset"))
+                .doThrow(new TransientDataAccessResourceException("Connection reset")).doNothing()
+                .when(orderRepository).insertAll(anyList());
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        OrderWriteBehindQueue queue = new OrderWriteBehindQueue(orderRepository, properties(10, 10), meterRegistry);
+        queue.start();
+
+        queue.enqueue(order());
+        queue.stop();
+
+        verify(orderRepository, times(6)).insertAll(anyList());
+        assertEquals(1, meterRegistry.get("order.persistence.persisted").counter().count());
+        assertEquals(0, meterRegistry.get("order.persistence.failed").counter().count());
+    }
+
+    @Test
+    @DisplayName("Deve fazer uma última tentativa com o lote em mãos quando o encerramento interromper a gravação")
+    @SuppressWarnings("unchecked")
+    void shouldFlushInHandBatchWhenInterruptedOnStop() {
+        doThrow(new TransientDataAccessResourceException("Connection reset")).when(orderRepository).insertAll(anyList());
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        OrderWriteBehindQueue queue = new OrderWriteBehindQueue(orderRepository, new OrderPersistenceProperties(true, 10, 10,
+                Duration.ofMillis(10), Duration.ZERO, Duration.ofSeconds(1), Duration.ofSeconds(1), Duration.ofMillis(100)), meterRegistry);
+        queue.start();
+
+        queue.enqueue(order());
+        queue.enqueue(order());
+        queue.stop();
+
+        ArgumentCaptor<List<OrderConfirmationDto>> batches = ArgumentCaptor.forClass(List.class);
+        verify(orderRepository, times(2)).insertAll(batches.capture());
+        assertEquals(2, batches.getAllValues().get(1).size());
+        assertEquals(2, meterRegistry.get("order.persistence.failed").counter().count());
+    }
+
+    @Test
+    @DisplayName("Deve descartar e contabilizar pedidos com falha não recuperável sem travar o writer")
+    void shouldDeadLetterOrdersOnNonTransientFailure() {
+        doThrow(new DataIntegrityViolationException("violates check constraint")).when(orderRepository).insertAll(anyList());
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        OrderWriteBehindQueue queue = new OrderWriteBehindQueue(orderRepository, properties(10, 10), meterRegistry);
+        queue.start();
+
+        for (int i = 0; i < 4; i++) {
+            queue.enqueue(order());
+        }
+        long start = System.nanoTime();
+        queue.stop();
+
+        assertTrue(Duration.ofNanos(System.nanoTime() - start).toMillis() < 5_000);
+        assertEquals(4, meterRegistry.get("order.persistence.failed").counter().count());
+        assertEquals(0, meterRegistry.get("order.persistence.persisted").counter().count());
+    }
+
+    @Test
+    @DisplayName("Deve dividir o lote para gravar os pedidos válidos e descartar apenas o pedido inválido")
+    void shouldSplitBatchToIsolateInvalidOrder() {
+        OrderConfirmationDto invalid = order();
+        CountDownLatch enqueued = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            enqueued.await();
+            List<OrderConfirmationDto> batch = invocation.getArgument(0);
+            if (batch.contains(invalid)) {
+                throw new DataIntegrityViolationException("violates check constraint");
+            }
+            return null;
+        }).when(orderRepository).insertAll(anyList());
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        OrderWriteBehindQueue queue = new OrderWriteBehindQueue(orderRepository, properties(10, 10), meterRegistry);
+        queue.start();
+
+        queue.enqueue(order());
+        queue.enqueue(invalid);
+        queue.enqueue(order());
+        queue.enqueue(order());
+        enqueued.countDown();
+        queue.stop();
+
+        assertEquals(3, meterRegistry.get("order.persistence.persisted").counter().count());
+        assertEquals(1, meterRegistry.get("order.persistence.failed").counter().count());
+    }
+
+    private OrderPersistenceProperties properties(int queueCapacity, int batchSize) {
+        return new OrderPersistenceProperties(true, queueCapacity, batchSize, Duration.ofMillis(10), Duration.ZERO,
+                Duration.ofMillis(1), Duration.ofMillis(5), Duration.ofSeconds(5));
+    }
+
+    private OrderConfirmationDto order() {
+        return new OrderConfirmationDto(UUID.randomUUID().toString(), 1L, new BigDecimal("10.00"), LocalDateTime.now(),
+                List.of(), "SIMULATED_SUCCESS", "Pedido criado com sucesso.");
+    }
+}
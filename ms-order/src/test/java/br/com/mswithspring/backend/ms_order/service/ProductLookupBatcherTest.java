@@ -0,0 +1,201 @@
+package br.com.mswithspring.backend.ms_order.service;
+
+import br.com.mswithspring.backend.ms_order.client.ProductClient;
+import br.com.mswithspring.backend.ms_order.config.ProductLookupProperties;
+import br.com.mswithspring.backend.ms_order.dto.ProductDto;
+import br.com.mswithspring.backend.ms_order.exception.ProductServiceUnavailableException;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes para ProductLookupBatcher")
+class ProductLookupBatcherTest {
+
+    @Mock
+    private ProductClient productClient;
+
+    private ExecutorService executor;
+    private SimpleMeterRegistry meterRegistry;
+    private ProductLookupBatcher batcher;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        batcher.stop();
+        executor.close();
+    }
+
+    @Test
+    @DisplayName("Deve agrupar consultas concorrentes dentro da janela em uma única chamada em lote")
+    void shouldGroupConcurrentLookupsIntoSingleBatch() throws Exception {
+        batcher = start(properties(Duration.ofMillis(200), 100), executor);
+        when(productClient.getProductsByIds(anyCollection())).thenAnswer(invocation -> products(invocation.getArgument(0)));
+
+        Future<Map<Long, ProductDto>> first = executor.submit(() -> batcher.getProductsByIds(List.of(1L, 2L)));
+        Future<Map<Long, ProductDto>> second = executor.submit(() -> batcher.getProductsByIds(List.of(3L)));
+
+        assertEquals(2, first.get().size());
+        assertEquals("Produto 3", second.get().get(3L).name());
+        verify(productClient, times(1)).getProductsByIds(anyCollection());
+        DistributionSummary batchSize = meterRegistry.get("product.lookup.batch.size").summary();
+        assertEquals(1, batchSize.count());
+        assertEquals(3, batchSize.totalAmount());
+    }
+
+    @Test
+    @DisplayName("Deve enviar o lote assim que atingir o tamanho máximo")
+    void shouldDispatchWhenMaxBatchSizeIsReached() {
+        batcher = start(properties(Duration.ofSeconds(10), 2), executor);
+        when(productClient.getProductsByIds(anyCollection())).thenAnswer(invocation -> products(invocation.getArgument(0)));
+
+        Map<Long, ProductDto> result = assertTimeoutPreemptively(Duration.ofSeconds(5), () -> batcher.getProductsByIds(List.of(1L, 2L)));
+
+        assertEquals(2, result.size());
+    }
+
+    @Test
+    @DisplayName("Deve propagar a falha da chamada em lote para todos os chamadores")
+    void shouldPropagateBatchFailureToCallers() {
+        batcher = start(properties(Duration.ofMillis(1), 100), executor);
+        when(productClient.getProductsByIds(anyCollection())).thenThrow(new RuntimeException("Connection refused"));
+
+        RuntimeException thrown = assertThrows(RuntimeException.class, () -> batcher.getProductsByIds(List.of(1L)));
+
+        assertEquals("Connection refused", thrown.getMessage());
+    }
+
+    @Test
+    @DisplayName("Deve falhar apenas o lote rejeitado pelo executor e continuar atendendo os próximos")
+    void shouldKeepDispatchingAfterExecutorRejectsBatch() {
+        ExecutorService rejectingOnce = mock(ExecutorService.class);
+        doThrow(new RejectedExecutionException("Executor saturado"))
+                .doAnswer(invocation -> {
+                    executor.execute(invocation.getArgument(0));
+                    return null;
+                })
+                .when(rejectingOnce).execute(any(Runnable.class));
+        batcher = start(properties(Duration.ofMillis(1), 100), rejectingOnce);
+        when(productClient.getProductsByIds(anyCollection())).thenAnswer(invocation -> products(invocation.getArgument(0)));
+
+        RejectedExecutionException thrown = assertThrows(RejectedExecutionException.class, () -> batcher.getProductsByIds(List.of(1L)));
+        Map<Long, ProductDto> result = assertTimeoutPreemptively(Duration.ofSeconds(5), () -> batcher.getProductsByIds(List.of(2L)));
+
+        assertEquals("Executor saturado", thrown.getMessage());
+        assertEquals("Produto 2", result.get(2L).name());
+    }
+
+    @Test
+    @DisplayName("Deve lançar ProductServiceUnavailableException quando o lote não responder dentro do tempo limite")
+    void shouldTimeOutWhenBatchDoesNotComplete() {
+        CountDownLatch release = new CountDownLatch(1);
+        batcher = start(properties(Duration.ofMillis(1), 100, Duration.ofMillis(100)), executor);
+        when(productClient.getProductsByIds(anyCollection())).thenAnswer(invocation -> {
+            release.await();
+            return products(invocation.getArgument(0));
+        });
+
+        try {
+            ProductServiceUnavailableException thrown = assertThrows(ProductServiceUnavailableException.class,
+                    () -> batcher.getProductsByIds(List.of(1L)));
+
+            assertEquals("O lote de consultas ao MS-PRODUCT não respondeu em 100 ms.", thrown.getMessage());
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    @DisplayName("Deve limitar a espera total ao tempo limite do lote, independentemente da quantidade de IDs")
+    void shouldBoundTotalWaitByBatchTimeout() {
+        CountDownLatch release = new CountDownLatch(1);
+        batcher = start(properties(Duration.ofMillis(1), 1, Duration.ofMillis(100)), executor);
+        when(productClient.getProductsByIds(anyCollection())).thenAnswer(invocation -> {
+            release.await();
+            return products(invocation.getArgument(0));
+        });
+
+        try {
+            long start = System.nanoTime();
+            assertThrows(ProductServiceUnavailableException.class, () -> batcher.getProductsByIds(List.of(1L, 2L, 3L, 4L, 5L)));
+
+            assertTrue(Duration.ofNanos(System.nanoTime() - start).toMillis() < 300);
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    @DisplayName("Não deve enviar ao MS-PRODUCT as consultas que já excederam o tempo limite")
+    void shouldNotDispatchTimedOutLookups() {
+        batcher = start(properties(Duration.ofMillis(500), 100, Duration.ofMillis(100)), executor);
+
+        assertThrows(ProductServiceUnavailableException.class, () -> batcher.getProductsByIds(List.of(1L, 2L)));
+
+        verify(productClient, after(800).never()).getProductsByIds(anyCollection());
+        assertEquals(0, meterRegistry.get("product.lookup.batch.size").summary().count());
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar consultas após o encerramento do agrupador")
+    void shouldRejectLookupsAfterStop() {
+        batcher = start(properties(Duration.ofMillis(1), 100), executor);
+        batcher.stop();
+
+        ProductServiceUnavailableException thrown = assertThrows(ProductServiceUnavailableException.class,
+                () -> batcher.getProductsByIds(List.of(1L)));
+
+        assertEquals("O agrupador de consultas de produtos foi encerrado.", thrown.getMessage());
+        assertFalse(batcher.isRunning());
+        verifyNoInteractions(productClient);
+    }
+
+    private ProductLookupBatcher start(ProductLookupProperties properties, ExecutorService productLookupExecutor) {
+        ProductLookupBatcher lookupBatcher = new ProductLookupBatcher(productClient, properties, productLookupExecutor, meterRegistry);
+        lookupBatcher.start();
+        return lookupBatcher;
+    }
+
+    private ProductLookupProperties properties(Duration batchWindow, int maxBatchSize) {
+        return properties(batchWindow, maxBatchSize, Duration.ofSeconds(5));
+    }
+
+    private ProductLookupProperties properties(Duration batchWindow, int maxBatchSize, Duration batchTimeout) {
+        return new ProductLookupProperties(ProductLookupProperties.Mode.MICRO_BATCH, 16, batchWindow, maxBatchSize, batchTimeout);
+    }
+
+    private static Map<Long, ProductDto> products(Collection<Long> ids) {
+        Map<Long, ProductDto> products = new HashMap<>();
+        ids.forEach(id -> products.put(id, new ProductDto("Produto " + id, new BigDecimal("10.00"))));
+        return products;
+    }
+}
@@ -0,0 +1,100 @@
+package br.com.mswithspring.backend.ms_order.service;
+
+import br.com.mswithspring.backend.ms_order.client.ProductClient;
+import br.com.mswithspring.backend.ms_order.config.ProductLookupProperties;
+import br.com.mswithspring.backend.ms_order.dto.ProductDto;
+import br.com.mswithspring.backend.ms_order.exception.OrderCreationException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes para ProductLookupService")
+class ProductLookupServiceTest {
+
+    @Mock
+    private ProductClient productClient;
+
+    @Mock
+    private ProductLookupBatcher productLookupBatcher;
+
+    private ExecutorService executor;
+
+    private ProductDto productDto1;
+    private ProductDto productDto2;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+        productDto1 = new ProductDto("Smartphone X", new BigDecimal("1299.99"));
+        productDto2 = new ProductDto("Notebook Gamer", new BigDecimal("4500.00"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.close();
+    }
+
+    @Test
+    @DisplayName("Deve buscar os produtos distintos em uma única chamada no modo BATCH")
+    void shouldFetchDistinctProductsInSingleCallInBatchMode() {
+        ProductLookupService service = new ProductLookupService(productClient,
+                new ProductLookupProperties(ProductLookupProperties.Mode.BATCH, 4, Duration.ofMillis(2), 100, Duration.ofSeconds(5)), executor, productLookupBatcher);
+        when(productClient.getProductsByIds(new LinkedHashSet<>(List.of(1L, 2L))))
+                .thenReturn(Map.of(1L, productDto1, 2L, productDto2));
+
+        Map<Long, ProductDto> result = service.findProducts(List.of(1L, 2L, 1L));
+
+        assertEquals(2, result.size());
+        verify(productClient, times(1)).getProductsByIds(new LinkedHashSet<>(List.of(1L, 2L)));
+        verify(productClient, never()).getProductById(anyLong());
+    }
+
+    @Test
+    @DisplayName("Deve buscar cada produto distinto uma única vez no modo CONCURRENT")
+    void shouldFetchEachDistinctProductOnceInConcurrentMode() {
+        ProductLookupService service = new ProductLookupService(productClient,
+                new ProductLookupProperties(ProductLookupProperties.Mode.CONCURRENT, 2, Duration.ofMillis(2), 100, Duration.ofSeconds(5)), executor, productLookupBatcher);
+        when(productClient.getProductById(1L)).thenReturn(productDto1);
+        when(productClient.getProductById(2L)).thenReturn(productDto2);
+
+        Map<Long, ProductDto> result = service.findProducts(List.of(1L, 2L, 2L, 1L));
+
+        assertEquals(productDto1, result.get(1L));
+        assertEquals(productDto2, result.get(2L));
+        verify(productClient, times(1)).getProductById(1L);
+        verify(productClient, times(1)).getProductById(2L);
+        verify(productClient, never()).getProductsByIds(any());
+    }
+
+    @Test
+    @DisplayName("Deve lançar OrderCreationException quando uma das consultas falhar no modo CONCURRENT")
+    void shouldThrowOrderCreationExceptionWhenLookupFailsInConcurrentMode() {
+        ProductLookupService service = new ProductLookupService(productClient,
+                new ProductLookupProperties(ProductLookupProperties.Mode.CONCURRENT, 2, Duration.ofMillis(2), 100, Duration.ofSeconds(5)), executor, productLookupBatcher);
+        lenient().when(productClient.getProductById(1L)).thenReturn(productDto1);
+        when(productClient.getProductById(99L)).thenThrow(new RuntimeException("404 Not Found"));
+
+        OrderCreationException thrown = assertThrows(OrderCreationException.class, () -> {
+            service.findProducts(List.of(1L, 99L));
+        });
+
+        assertEquals("Produto com ID 99 não encontrado ou indisponível. Detalhes: 404 Not Found", thrown.getMessage());
+    }
+}
@@ -0,0 +1,129 @@
+package br.com.mswithspring.backend.ms_order.service;
+
+import br.com.mswithspring.backend.ms_order.cache.ProductCache;
+import br.com.mswithspring.backend.ms_order.client.ReactiveProductClient;
+import br.com.mswithspring.backend.ms_order.dto.OrderConfirmationDto;
+import br.com.mswithspring.backend.ms_order.dto.OrderDto;
+import br.com.mswithspring.backend.ms_order.dto.OrderItemDto;
+import br.com.mswithspring.backend.ms_order.dto.ProductDto;
+import br.com.mswithspring.backend.ms_order.exception.OrderCreationException;
+import br.com.mswithspring.backend.ms_order.exception.OrderPersistenceOverloadedException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes para ReactiveOrderService")
+class ReactiveOrderServiceTest {
+
+    @Mock
+    private ReactiveProductClient reactiveProductClient;
+
+    @Mock
+    private ProductCache productCache;
+
+    @Mock
+    private OrderWriteBehindQueue orderWriteBehindQueue;
+
+    private ReactiveOrderService reactiveOrderService;
+
+    private ProductDto productDto1;
+    private ProductDto productDto2;
+
+    @BeforeEach
+    void setUp() {
+        reactiveOrderService = new ReactiveOrderService(reactiveProductClient, productCache, new OrderCalculator(), orderWriteBehindQueue);
+        productDto1 = new ProductDto("Smartphone X", new BigDecimal("1299.99"));
+        productDto2 = new ProductDto("Notebook Gamer", new BigDecimal("4500.00"));
+    }
+
+    @Test
+    @DisplayName("Deve buscar apenas os produtos ausentes do cache e calcular o pedido")
+    void shouldFetchOnlyMissingProductsAndCalculateOrder() {
+        OrderDto orderDto = new OrderDto(10L, List.of(new OrderItemDto(1L, 2), new OrderItemDto(2L, 1), new OrderItemDto(1L, 1)));
+        when(productCache.getAllPresent(Set.of(1L, 2L))).thenReturn(Map.of(1L, productDto1));
+        when(reactiveProductClient.getProductsByIds(new LinkedHashSet<>(List.of(2L)))).thenReturn(Mono.just(Map.of(2L, productDto2)));
+
+        StepVerifier.create(reactiveOrderService.simulateOrder(orderDto))
+                .assertNext(confirmation -> {
+                    assertEquals(new BigDecimal("8399.97"), confirmation.totalAmount());
+                    assertEquals(3, confirmation.confirmedItems().size());
+                    assertEquals("SIMULATED_SUCCESS", confirmation.status());
+                })
+                .verifyComplete();
+
+        verify(productCache, times(1)).putAll(Map.of(2L, productDto2));
+    }
+
+    @Test
+    @DisplayName("Não deve chamar o MS-PRODUCT quando todos os produtos estiverem em cache")
+    void shouldNotCallProductServiceWhenAllProductsAreCached() {
+        OrderDto orderDto = new OrderDto(10L, List.of(new OrderItemDto(1L, 1)));
+        when(productCache.getAllPresent(Set.of(1L))).thenReturn(Map.of(1L, productDto1));
+
+        StepVerifier.create(reactiveOrderService.simulateOrder(orderDto))
+                .assertNext(confirmation -> assertEquals(new BigDecimal("1299.99"), confirmation.totalAmount()))
+                .verifyComplete();
+
+        verifyNoInteractions(reactiveProductClient);
+    }
+
+    @Test
+    @DisplayName("Deve emitir OrderCreationException quando um produto não for encontrado")
+    void shouldEmitOrderCreationExceptionWhenProductIsMissing() {
+        OrderDto orderDto = new OrderDto(10L, List.of(new OrderItemDto(99L, 1)));
+        when(productCache.getAllPresent(Set.of(99L))).thenReturn(Map.of());
+        when(reactiveProductClient.getProductsByIds(any())).thenReturn(Mono.just(Map.of()));
+
+        StepVerifier.create(reactiveOrderService.simulateOrder(orderDto))
+                .expectErrorMatches(error -> error instanceof OrderCreationException
+                        && error.getMessage().equals("Produto com ID 99 não encontrado ou indisponível."))
+                .verify();
+    }
+
+    @Test
+    @DisplayName("Deve enfileirar a confirmação para gravação fora da thread do event loop")
+    void shouldEnqueueConfirmationForPersistenceOnBoundedElastic() {
+        OrderDto orderDto = new OrderDto(10L, List.of(new OrderItemDto(1L, 1)));
+        when(productCache.getAllPresent(Set.of(1L))).thenReturn(Map.of(1L, productDto1));
+        AtomicReference<String> enqueueThread = new AtomicReference<>();
+        doAnswer(invocation -> {
+            enqueueThread.set(Thread.currentThread().getName());
+            return null;
+        }).when(orderWriteBehindQueue).enqueue(any(OrderConfirmationDto.class));
+
+        OrderConfirmationDto confirmation = reactiveOrderService.simulateOrder(orderDto).block();
+
+        verify(orderWriteBehindQueue, times(1)).enqueue(confirmation);
+        assertTrue(enqueueThread.get().startsWith("boundedElastic"));
+    }
+
+    @Test
+    @DisplayName("Deve emitir OrderPersistenceOverloadedException quando a fila de gravação estiver cheia")
+    void shouldEmitErrorWhenPersistenceQueueIsFull() {
+        OrderDto orderDto = new OrderDto(10L, List.of(new OrderItemDto(1L, 1)));
+        when(productCache.getAllPresent(Set.of(1L))).thenReturn(Map.of(1L, productDto1));
+        doThrow(new OrderPersistenceOverloadedException(10)).when(orderWriteBehindQueue).enqueue(any(OrderConfirmationDto.class));
+
+        StepVerifier.create(reactiveOrderService.simulateOrder(orderDto))
+                .expectError(OrderPersistenceOverloadedException.class)
+                .verify();
+    }
+}
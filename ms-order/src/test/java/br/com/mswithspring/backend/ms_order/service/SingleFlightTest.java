@@ -0,0 +1,130 @@
+package br.com.mswithspring.backend.ms_order.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+@DisplayName("Testes para SingleFlight")
+class SingleFlightTest {
+
+    @Test
+    @DisplayName("Deve compartilhar uma única execução entre chamadas concorrentes para a mesma chave")
+    void shouldShareSingleExecutionForConcurrentCallers() throws Exception {
+        SingleFlight<Long, String> singleFlight = new SingleFlight<>();
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<String> first = executor.submit(() -> singleFlight.execute(1L, () -> {
+                loads.incrementAndGet();
+                await(release);
+                return "Produto 1";
+            }));
+            while (singleFlight.inFlightCount() == 0) {
+                Thread.onSpinWait();
+            }
+            Future<String> second = executor.submit(() -> singleFlight.execute(1L, () -> {
+                loads.incrementAndGet();
+                return "Produto 1 (duplicado)";
+            }));
+            Thread.sleep(50);
+            release.countDown();
+
+            assertEquals("Produto 1", first.get());
+            assertEquals("Produto 1", second.get());
+        }
+        assertEquals(1, loads.get());
+        assertEquals(0, singleFlight.inFlightCount());
+    }
+
+    @Test
+    @DisplayName("Deve propagar a mesma exceção para todas as chamadas que compartilham a execução")
+    void shouldPropagateFailureToSharedCallers() {
+        SingleFlight<Long, String> singleFlight = new SingleFlight<>();
+
+        IllegalStateException thrown = assertThrows(IllegalStateException.class,
+                () -> singleFlight.execute(1L, () -> { throw new IllegalStateException("falha"); }));
+
+        assertEquals("falha", thrown.getMessage());
+        assertEquals("Produto 1", singleFlight.execute(1L, () -> "Produto 1"));
+    }
+
+    @Test
+    @DisplayName("Deve liberar as chamadas que aguardam quando o carregamento lançar um Error")
+    void shouldReleaseWaitingCallersWhenLoaderThrowsError() throws Exception {
+        SingleFlight<Long, String> singleFlight = new SingleFlight<>();
+        CountDownLatch joined = new CountDownLatch(1);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<String> owner = executor.submit(() -> singleFlight.execute(1L, () -> {
+                await(joined);
+                throw new StackOverflowError("estouro");
+            }));
+            while (singleFlight.inFlightCount() == 0) {
+                Thread.onSpinWait();
+            }
+            Future<String> joiner = executor.submit(() -> singleFlight.execute(1L, () -> "Produto 1 (duplicado)"));
+            Thread.sleep(50);
+            joined.countDown();
+
+            ExecutionException ownerFailure = assertThrows(ExecutionException.class, () -> owner.get(5, TimeUnit.SECONDS));
+            ExecutionException joinerFailure = assertThrows(ExecutionException.class, () -> joiner.get(5, TimeUnit.SECONDS));
+            assertInstanceOf(StackOverflowError.class, ownerFailure.getCause());
+            assertInstanceOf(StackOverflowError.class, joinerFailure.getCause());
+        }
+        assertEquals(0, singleFlight.inFlightCount());
+    }
+
+    @Test
+    @DisplayName("Deve buscar em lote apenas as chaves que ainda não estão em andamento")
+    void shouldLoadOnlyKeysNotAlreadyInFlight() throws Exception {
+        SingleFlight<Long, String> singleFlight = new SingleFlight<>();
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicReference<Set<Long>> secondBatch = new AtomicReference<>();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<Map<Long, String>> first = executor.submit(() -> singleFlight.executeAll(List.of(1L, 2L), ids -> {
+                await(release);
+                return Map.of(1L, "Produto 1", 2L, "Produto 2");
+            }));
+            while (singleFlight.inFlightCount() < 2) {
+                Thread.onSpinWait();
+            }
+            Future<Map<Long, String>> second = executor.submit(() -> singleFlight.executeAll(List.of(2L, 3L), ids -> {
+                secondBatch.set(ids);
+                return Map.of(3L, "Produto 3");
+            }));
+            while (secondBatch.get() == null) {
+                Thread.onSpinWait();
+            }
+            release.countDown();
+
+            assertEquals(Map.of(1L, "Produto 1", 2L, "Produto 2"), first.get());
+            assertEquals(Map.of(2L, "Produto 2", 3L, "Produto 3"), second.get());
+        }
+        assertEquals(Set.of(3L), secondBatch.get());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
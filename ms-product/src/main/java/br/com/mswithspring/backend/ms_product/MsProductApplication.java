@@ -2,10 +2,14 @@ package br.com.mswithspring.backend.ms_product;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
 import org.springframework.cloud.client.discovery.EnableDiscoveryClient;
+import org.springframework.scheduling.annotation.EnableAsync;
 
 @SpringBootApplication
 @EnableDiscoveryClient
+@EnableAsync
+@ConfigurationPropertiesScan
 public class MsProductApplication {
 
 	public static void main(String[] args) {
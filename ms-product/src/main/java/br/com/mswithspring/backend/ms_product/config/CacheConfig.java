@@ -0,0 +1,34 @@
+package br.com.mswithspring.backend.ms_product.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String PRODUCTS_CACHE = "products";
+    public static final String PRODUCT_LIST_CACHE = "productList";
+
+    @Bean
+    public CacheManager cacheManager(ProductCacheProperties properties) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.registerCustomCache(PRODUCTS_CACHE, Caffeine.newBuilder()
+                .maximumSize(properties.maximumSize())
+                .expireAfterWrite(properties.ttl())
+                .recordStats()
+                .build());
+        cacheManager.registerCustomCache(PRODUCT_LIST_CACHE, Caffeine.newBuilder()
+                .maximumSize(1)
+                .expireAfterWrite(properties.listTtl())
+                .recordStats()
+                .build());
+        cacheManager.setAllowNullValues(false);
+        return new TransactionAwareCacheManagerProxy(cacheManager);
+    }
+}
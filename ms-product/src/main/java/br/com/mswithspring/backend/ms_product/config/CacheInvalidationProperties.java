@@ -0,0 +1,27 @@
+package br.com.mswithspring.backend.ms_product.config;
+
+import jakarta.validation.constraints.AssertTrue;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+@Validated
+@ConfigurationProperties(prefix = "ms-product.cache-invalidation")
+public record CacheInvalidationProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("MS-ORDER") String serviceId,
+        @DefaultValue("/internal/cache/products/invalidate") String path,
+        @DefaultValue("1s") Duration connectTimeout,
+        @DefaultValue("2s") Duration readTimeout,
+        String token
+) {
+
+    public static final String TOKEN_HEADER = "X-Internal-Token";
+
+    @AssertTrue(message = "O token da API interna (INTERNAL_API_TOKEN) deve ser informado quando a invalidação de cache estiver habilitada.")
+    public boolean isTokenConfigured() {
+        return !enabled || (token != null && !token.isBlank());
+    }
+}
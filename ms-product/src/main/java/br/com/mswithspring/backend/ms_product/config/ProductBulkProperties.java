@@ -0,0 +1,11 @@
+package br.com.mswithspring.backend.ms_product.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "ms-product.bulk")
+public record ProductBulkProperties(
+        @DefaultValue("500") int chunkSize,
+        @DefaultValue("10000") int maxItems
+) {
+}
@@ -0,0 +1,14 @@
+package br.com.mswithspring.backend.ms_product.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "ms-product.cache")
+public record ProductCacheProperties(
+        @DefaultValue("10000") long maximumSize,
+        @DefaultValue("10m") Duration ttl,
+        @DefaultValue("1m") Duration listTtl
+) {
+}
@@ -0,0 +1,11 @@
+package br.com.mswithspring.backend.ms_product.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "ms-product.export")
+public record ProductExportProperties(
+        @DefaultValue("4") int maxConcurrentExports,
+        @DefaultValue("65536") int bufferSize
+) {
+}
@@ -0,0 +1,16 @@
+package br.com.mswithspring.backend.ms_product.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+@Configuration
+public class ProductImportConfig {
+
+    @Bean(destroyMethod = "shutdownNow")
+    public ExecutorService productImportExecutor() {
+        return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("product-import-", 0).factory());
+    }
+}
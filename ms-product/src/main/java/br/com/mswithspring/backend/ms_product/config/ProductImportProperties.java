@@ -0,0 +1,18 @@
+package br.com.mswithspring.backend.ms_product.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "ms-product.import")
+public record ProductImportProperties(
+        @DefaultValue("1000") int batchSize,
+        @DefaultValue("4") int queueCapacity,
+        @DefaultValue("1000") int maxErrors,
+        @DefaultValue("2") int maxConcurrentJobs,
+        @DefaultValue("100") int maxRetainedJobs,
+        @DefaultValue("1h") Duration jobRetention,
+        String baseDir
+) {
+}
@@ -0,0 +1,22 @@
+package br.com.mswithspring.backend.ms_product.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "ms-product.search")
+public record ProductSearchProperties(
+        @DefaultValue("10") int defaultLimit,
+        @DefaultValue("50") int maxLimit,
+        @DefaultValue("2") int minQueryLength,
+        @DefaultValue("200ms") Duration statementTimeout
+) {
+
+    public int resolveLimit(Integer requestedLimit) {
+        if (requestedLimit == null || requestedLimit <= 0) {
+            return defaultLimit;
+        }
+        return Math.min(requestedLimit, maxLimit);
+    }
+}
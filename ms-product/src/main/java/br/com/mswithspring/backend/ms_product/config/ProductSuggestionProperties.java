@@ -0,0 +1,18 @@
+package br.com.mswithspring.backend.ms_product.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "ms-product.suggestions")
+public record ProductSuggestionProperties(
+        @DefaultValue("10") int defaultLimit,
+        @DefaultValue("20") int maxLimit
+) {
+
+    public int resolveLimit(Integer requestedLimit) {
+        if (requestedLimit == null || requestedLimit <= 0) {
+            return defaultLimit;
+        }
+        return Math.min(requestedLimit, maxLimit);
+    }
+}
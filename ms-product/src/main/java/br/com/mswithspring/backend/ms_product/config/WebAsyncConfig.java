@@ -0,0 +1,17 @@
+package br.com.mswithspring.backend.ms_product.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+public class WebAsyncConfig implements WebMvcConfigurer {
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("mvc-async-");
+        executor.setVirtualThreads(true);
+        configurer.setTaskExecutor(executor);
+    }
+}
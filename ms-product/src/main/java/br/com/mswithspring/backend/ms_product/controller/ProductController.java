@@ -1,16 +1,50 @@
 package br.com.mswithspring.backend.ms_product.controller;
 
+import br.com.mswithspring.backend.ms_product.model.dto.ProductBulkItemDto;
+import br.com.mswithspring.backend.ms_product.model.dto.ProductBulkResultDto;
 import br.com.mswithspring.backend.ms_product.model.dto.ProductDto;
+import br.com.mswithspring.backend.ms_product.model.dto.ProductPageDto;
+import br.com.mswithspring.backend.ms_product.model.dto.ProductSearchPageDto;
+import br.com.mswithspring.backend.ms_product.model.dto.ProductSuggestionDto;
+import br.com.mswithspring.backend.ms_product.model.dto.ProductSuggestionIndexStatsDto;
+import br.com.mswithspring.backend.ms_product.model.dto.ProductSummaryPageDto;
+import br.com.mswithspring.backend.ms_product.service.ProductBulkService;
+import br.com.mswithspring.backend.ms_product.service.ProductExportService;
+import br.com.mswithspring.backend.ms_product.service.ProductSearchService;
 import br.com.mswithspring.backend.ms_product.service.ProductService;
+import br.com.mswithspring.backend.ms_product.service.ProductSuggestionService;
+import br.com.mswithspring.backend.ms_product.service.exporter.ProductExport;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+import jakarta.validation.constraints.Size;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.time.Instant;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
 
 @RestController
 @RequestMapping("/products")
@@ -18,10 +52,22 @@ import java.util.List;
 public class ProductController {
 
     private final ProductService productService;
+    private final ProductBulkService productBulkService;
+    private final ProductExportService productExportService;
+    private final ProductSearchService productSearchService;
+    private final ProductSuggestionService productSuggestionService;
+    private final ObjectMapper objectMapper;
 
     @Autowired
-    public ProductController(ProductService productService) {
+    public ProductController(ProductService productService, ProductBulkService productBulkService,
+                             ProductExportService productExportService, ProductSearchService productSearchService,
+                             ProductSuggestionService productSuggestionService, ObjectMapper objectMapper) {
         this.productService = productService;
+        this.productBulkService = productBulkService;
+        this.productExportService = productExportService;
+        this.productSearchService = productSearchService;
+        this.productSuggestionService = productSuggestionService;
+        this.objectMapper = objectMapper;
     }
 
     @GetMapping
@@ -30,18 +76,124 @@ public class ProductController {
         return ResponseEntity.ok(products);
     }
 
+    @GetMapping("/page")
+    public ResponseEntity<ProductPageDto> findPage(
+            @RequestParam(required = false) @PositiveOrZero(message = "O cursor deve ser um número positivo ou zero.") Long afterId,
+            @RequestParam(required = false) @Positive(message = "O limite deve ser um número positivo.") Integer limit) {
+        ProductPageDto page = productService.findPage(afterId, limit);
+        return ResponseEntity.ok(page);
+    }
+
+    @GetMapping("/summaries")
+    public ResponseEntity<ProductSummaryPageDto> findSummaryPage(
+            @RequestParam(required = false) @PositiveOrZero(message = "O cursor deve ser um número positivo ou zero.") Long afterId,
+            @RequestParam(required = false) @Positive(message = "O limite deve ser um número positivo.") Integer limit) {
+        ProductSummaryPageDto page = productService.findSummaryPage(afterId, limit);
+        return ResponseEntity.ok(page);
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<ProductSearchPageDto> search(
+            @RequestParam @NotBlank(message = "O termo de busca não pode ser vazio.") @Size(max = 100, message = "O termo de busca não pode exceder 100 caracteres.") String q,
+            @RequestParam(required = false) @DecimalMin(value = "0.0", message = "O preço mínimo deve ser um valor positivo ou zero.") BigDecimal minPrice,
+            @RequestParam(required = false) @DecimalMin(value = "0.0", message = "O preço máximo deve ser um valor positivo ou zero.") BigDecimal maxPrice,
+            @RequestParam(required = false) @Positive(message = "O limite deve ser um número positivo.") Integer limit,
+            @RequestParam(required = false) String cursor) {
+        ProductSearchPageDto page = productSearchService.search(q, minPrice, maxPrice, limit, cursor);
+        return ResponseEntity.ok(page);
+    }
+
+    @GetMapping("/suggestions")
+    public ResponseEntity<List<ProductSuggestionDto>> suggest(
+            @RequestParam @NotBlank(message = "O prefixo não pode ser vazio.") @Size(max = 100, message = "O prefixo não pode exceder 100 caracteres.") String prefix,
+            @RequestParam(required = false) @Positive(message = "O limite deve ser um número positivo.") Integer limit) {
+        List<ProductSuggestionDto> suggestions = productSuggestionService.suggest(prefix, limit);
+        return ResponseEntity.ok(suggestions);
+    }
+
+    @GetMapping("/suggestions/stats")
+    public ResponseEntity<ProductSuggestionIndexStatsDto> suggestionStats() {
+        ProductSuggestionIndexStatsDto stats = productSuggestionService.stats();
+        return ResponseEntity.ok(stats);
+    }
+
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamAll() {
+        StreamingResponseBody body = outputStream -> productService.streamAll(productDto -> {
+            try {
+                outputStream.write(objectMapper.writeValueAsBytes(productDto));
+                outputStream.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> export(
+            @RequestParam(required = false) String format,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant changedSince,
+            HttpServletRequest request) {
+        ProductExport export = productExportService.prepareExport(format, changedSince);
+        try {
+            WebAsyncUtils.getAsyncManager(request).registerCallableInterceptor(ProductExport.class.getName(), new CallableProcessingInterceptor() {
+                @Override
+                public <T> void afterCompletion(NativeWebRequest webRequest, Callable<T> task) {
+                    export.release();
+                }
+            });
+            StreamingResponseBody body = export::writeTo;
+            return ResponseEntity.ok()
+                    .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(export.fileName()).build().toString())
+                    .contentType(MediaType.parseMediaType("application/gzip"))
+                    .body(body);
+        } catch (RuntimeException e) {
+            export.release();
+            throw e;
+        }
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<ProductDto> findById(@PathVariable @Positive(message = "O ID do produto deve ser um número positivo.") Long id) {
         ProductDto product = productService.findById(id);
         return ResponseEntity.ok(product);
     }
 
+    @PostMapping("/batch")
+    public ResponseEntity<Map<Long, ProductDto>> findAllById(
+            @RequestBody
+            @NotEmpty(message = "A lista de IDs não pode ser vazia.")
+            @Size(max = 1000, message = "A lista de IDs não pode exceder 1000 itens.")
+            List<@NotNull(message = "O ID do produto não pode ser nulo.") @Positive(message = "O ID do produto deve ser um número positivo.") Long> ids) {
+        Map<Long, ProductDto> products = productService.findAllById(ids);
+        return ResponseEntity.ok(products);
+    }
+
     @PostMapping
     public ResponseEntity<ProductDto> save(@Valid @RequestBody ProductDto productDto) {
         ProductDto savedProduct = productService.save(productDto);
         return ResponseEntity.status(HttpStatus.CREATED).body(savedProduct);
     }
 
+    @PostMapping("/bulk")
+    public ResponseEntity<ProductBulkResultDto> bulkUpsert(
+            @RequestBody
+            @NotEmpty(message = "A lista de produtos não pode ser vazia.")
+            List<@NotNull(message = "O item do lote não pode ser nulo.") @Valid ProductBulkItemDto> items) {
+        ProductBulkResultDto result = productBulkService.upsert(items);
+        return ResponseEntity.ok(result);
+    }
+
+    @PostMapping("/bulk-delete")
+    public ResponseEntity<ProductBulkResultDto> bulkDelete(
+            @RequestBody
+            @NotEmpty(message = "A lista de IDs não pode ser vazia.")
+            List<@NotNull(message = "O ID do produto não pode ser nulo.") @Positive(message = "O ID do produto deve ser um número positivo.") Long> ids) {
+        ProductBulkResultDto result = productBulkService.deleteAllById(ids);
+        return ResponseEntity.ok(result);
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<ProductDto> update(@PathVariable @Positive(message = "O ID do produto deve ser um número positivo.") Long id, @Valid @RequestBody ProductDto productDto) {
         ProductDto updatedProduct = productService.update(id, productDto);
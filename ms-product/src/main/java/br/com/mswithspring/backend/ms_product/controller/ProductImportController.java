@@ -0,0 +1,46 @@
+package br.com.mswithspring.backend.ms_product.controller;
+
+import br.com.mswithspring.backend.ms_product.model.dto.ProductImportJobDto;
+import br.com.mswithspring.backend.ms_product.service.ProductImportService;
+import jakarta.validation.constraints.NotBlank;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+@RestController
+@RequestMapping("/products/import")
+@Validated
+public class ProductImportController {
+
+    private final ProductImportService productImportService;
+
+    @Autowired
+    public ProductImportController(ProductImportService productImportService) {
+        this.productImportService = productImportService;
+    }
+
+    @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ProductImportJobDto> importFile(
+            @RequestPart("file") MultipartFile file,
+            @RequestParam(required = false) String format) {
+        ProductImportJobDto job = productImportService.importUpload(file, format);
+        return ResponseEntity.accepted().body(job);
+    }
+
+    @PostMapping("/local")
+    public ResponseEntity<ProductImportJobDto> importLocalFile(
+            @RequestParam @NotBlank(message = "O caminho do arquivo não pode ser vazio.") String path,
+            @RequestParam(required = false) String format) {
+        ProductImportJobDto job = productImportService.importLocalFile(path, format);
+        return ResponseEntity.accepted().body(job);
+    }
+
+    @GetMapping("/{jobId}")
+    public ResponseEntity<ProductImportJobDto> findJob(@PathVariable String jobId) {
+        ProductImportJobDto job = productImportService.findJob(jobId);
+        return ResponseEntity.ok(job);
+    }
+}
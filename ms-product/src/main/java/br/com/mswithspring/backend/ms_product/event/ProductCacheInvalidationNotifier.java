@@ -0,0 +1,57 @@
+package br.com.mswithspring.backend.ms_product.event;
+
+import br.com.mswithspring.backend.ms_product.config.CacheInvalidationProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.discovery.DiscoveryClient;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestClientException;
+
+
+@Component
+public class ProductCacheInvalidationNotifier {
+
+    private static final Logger log = LoggerFactory.getLogger(ProductCacheInvalidationNotifier.class);
+
+    private final DiscoveryClient discoveryClient;
+    private final CacheInvalidationProperties properties;
+    private final RestClient restClient;
+
+    @Autowired
+    public ProductCacheInvalidationNotifier(DiscoveryClient discoveryClient, CacheInvalidationProperties properties) {
+        this.discoveryClient = discoveryClient;
+        this.properties = properties;
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(properties.connectTimeout());
+        requestFactory.setReadTimeout(properties.readTimeout());
+        this.restClient = RestClient.builder().requestFactory(requestFactory).build();
+    }
+
+    @Async
+    @TransactionalEventListener
+    public void onProductsChanged(ProductsChangedEvent event) {
+        if (!properties.enabled() || event.changeType() == ProductsChangedEvent.ChangeType.CREATED) {
+            return;
+        }
+        for (ServiceInstance instance : discoveryClient.getInstances(properties.serviceId())) {
+            try {
+                restClient.post()
+                        .uri(instance.getUri().resolve(properties.path()))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .header(CacheInvalidationProperties.TOKEN_HEADER, properties.token())
+                        .body(event.productIds())
+                        .retrieve()
+                        .toBodilessEntity();
+            } catch (RestClientException e) {
+                log.warn("Falha ao invalidar o cache de produtos na instância {}: {}", instance.getUri(), e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package br.com.mswithspring.backend.ms_product.event;
+
+import java.util.List;
+
+public record ProductsChangedEvent(
+        List<Long> productIds,
+        ChangeType changeType
+) {
+
+    public enum ChangeType {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+
+    public static ProductsChangedEvent of(Long productId, ChangeType changeType) {
+        return new ProductsChangedEvent(List.of(productId), changeType);
+    }
+}
@@ -3,6 +3,8 @@ package br.com.mswithspring.backend.ms_product.exception;
 import jakarta.validation.ConstraintViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.CannotGetJdbcConnectionException;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -24,6 +26,51 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
     }
 
+    @ExceptionHandler(ProductImportJobNotFoundException.class)
+    public ResponseEntity<Map<String, String>> handleProductImportJobNotFoundException(ProductImportJobNotFoundException ex) {
+        Map<String, String> errorResponse = new HashMap<>();
+        errorResponse.put("error", "Not Found");
+        errorResponse.put("message", ex.getMessage());
+        errorResponse.put("status", String.valueOf(HttpStatus.NOT_FOUND.value()));
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
+    }
+
+    @ExceptionHandler(ProductImportRejectedException.class)
+    public ResponseEntity<Map<String, String>> handleProductImportRejectedException(ProductImportRejectedException ex) {
+        Map<String, String> errorResponse = new HashMap<>();
+        errorResponse.put("error", "Too Many Requests");
+        errorResponse.put("message", ex.getMessage());
+        errorResponse.put("status", String.valueOf(HttpStatus.TOO_MANY_REQUESTS.value()));
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).body(errorResponse);
+    }
+
+    @ExceptionHandler(ProductExportRejectedException.class)
+    public ResponseEntity<Map<String, String>> handleProductExportRejectedException(ProductExportRejectedException ex) {
+        Map<String, String> errorResponse = new HashMap<>();
+        errorResponse.put("error", "Too Many Requests");
+        errorResponse.put("message", ex.getMessage());
+        errorResponse.put("status", String.valueOf(HttpStatus.TOO_MANY_REQUESTS.value()));
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).body(errorResponse);
+    }
+
+    @ExceptionHandler(ProductSearchTimeoutException.class)
+    public ResponseEntity<Map<String, String>> handleProductSearchTimeoutException(ProductSearchTimeoutException ex) {
+        Map<String, String> errorResponse = new HashMap<>();
+        errorResponse.put("error", "Service Unavailable");
+        errorResponse.put("message", ex.getMessage());
+        errorResponse.put("status", String.valueOf(HttpStatus.SERVICE_UNAVAILABLE.value()));
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(errorResponse);
+    }
+
+    @ExceptionHandler({CannotCreateTransactionException.class, CannotGetJdbcConnectionException.class})
+    public ResponseEntity<Map<String, String>> handleConnectionUnavailableException(Exception ex) {
+        Map<String, String> errorResponse = new HashMap<>();
+        errorResponse.put("error", "Service Unavailable");
+        errorResponse.put("message", "Nenhuma conexão com o banco de dados disponível no momento. Tente novamente em instantes.");
+        errorResponse.put("status", String.valueOf(HttpStatus.SERVICE_UNAVAILABLE.value()));
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(errorResponse);
+    }
+
     @ExceptionHandler(IllegalArgumentException.class)
     public ResponseEntity<Map<String, String>> handleIllegalArgumentException(IllegalArgumentException ex) {
         Map<String, String> errorResponse = new HashMap<>();
@@ -65,7 +112,8 @@ public class GlobalExceptionHandler {
         Map<String, String> errors = ex.getConstraintViolations().stream()
                 .collect(Collectors.toMap(
                         violation -> violation.getPropertyPath().toString(),
-                        violation -> violation.getMessage()
+                        violation -> violation.getMessage(),
+                        (existingMessage, newMessage) -> existingMessage + "; " + newMessage
                 ));
         Map<String, String> errorResponse = new HashMap<>();
         errorResponse.put("error", "Validation Failed");
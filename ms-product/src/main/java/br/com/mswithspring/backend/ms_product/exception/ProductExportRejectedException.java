@@ -0,0 +1,7 @@
+package br.com.mswithspring.backend.ms_product.exception;
+
+public class ProductExportRejectedException extends RuntimeException {
+  public ProductExportRejectedException(int maxConcurrentExports) {
+    super(String.format("Já existem %d exportações em andamento. Tente novamente mais tarde.", maxConcurrentExports));
+  }
+}
@@ -0,0 +1,7 @@
+package br.com.mswithspring.backend.ms_product.exception;
+
+public class ProductImportJobNotFoundException extends RuntimeException {
+  public ProductImportJobNotFoundException(String jobId) {
+    super(String.format("Importação com ID %s não encontrada.", jobId));
+  }
+}
@@ -0,0 +1,7 @@
+package br.com.mswithspring.backend.ms_product.exception;
+
+public class ProductImportRejectedException extends RuntimeException {
+  public ProductImportRejectedException(int maxConcurrentJobs) {
+    super(String.format("Já existem %d importações em andamento. Tente novamente mais tarde.", maxConcurrentJobs));
+  }
+}
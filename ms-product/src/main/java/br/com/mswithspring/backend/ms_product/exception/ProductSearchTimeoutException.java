@@ -0,0 +1,7 @@
+package br.com.mswithspring.backend.ms_product.exception;
+
+public class ProductSearchTimeoutException extends RuntimeException {
+  public ProductSearchTimeoutException(long timeoutMillis) {
+    super(String.format("A busca de produtos excedeu o tempo limite de %d ms. Refine os termos da busca.", timeoutMillis));
+  }
+}
@@ -0,0 +1,15 @@
+package br.com.mswithspring.backend.ms_product.model.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+
+public record ProductBulkItemDto(
+        @Positive(message = "O ID do produto deve ser um número positivo.")
+        Long id,
+
+        @NotNull(message = "Os dados do produto não podem ser nulos.")
+        @Valid
+        ProductDto product
+) {
+}
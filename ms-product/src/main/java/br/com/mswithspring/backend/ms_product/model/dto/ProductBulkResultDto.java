@@ -0,0 +1,11 @@
+package br.com.mswithspring.backend.ms_product.model.dto;
+
+import java.util.List;
+
+public record ProductBulkResultDto(
+        int created,
+        int updated,
+        int deleted,
+        List<Long> notFoundIds
+) {
+}
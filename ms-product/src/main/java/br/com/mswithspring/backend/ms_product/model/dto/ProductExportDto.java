@@ -0,0 +1,13 @@
+package br.com.mswithspring.backend.ms_product.model.dto;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+public record ProductExportDto(
+        Long id,
+        String name,
+        String description,
+        BigDecimal price,
+        Instant updatedAt
+) {
+}
@@ -0,0 +1,7 @@
+package br.com.mswithspring.backend.ms_product.model.dto;
+
+public record ProductImportErrorDto(
+        long line,
+        String message
+) {
+}
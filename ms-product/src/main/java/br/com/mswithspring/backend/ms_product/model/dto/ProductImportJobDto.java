@@ -0,0 +1,28 @@
+package br.com.mswithspring.backend.ms_product.model.dto;
+
+import java.time.Instant;
+import java.util.List;
+
+public record ProductImportJobDto(
+        String jobId,
+        String format,
+        Status status,
+        long totalBytes,
+        long bytesRead,
+        long rowsRead,
+        long imported,
+        long rejected,
+        List<ProductImportErrorDto> errors,
+        boolean errorsTruncated,
+        String message,
+        Instant startedAt,
+        Instant finishedAt
+) {
+
+    public enum Status {
+        QUEUED,
+        RUNNING,
+        COMPLETED,
+        FAILED
+    }
+}
@@ -0,0 +1,9 @@
+package br.com.mswithspring.backend.ms_product.model.dto;
+
+import java.util.List;
+
+public record ProductPageDto(
+        List<ProductDto> items,
+        Long nextAfterId
+) {
+}
@@ -0,0 +1,11 @@
+package br.com.mswithspring.backend.ms_product.model.dto;
+
+import java.math.BigDecimal;
+
+public record ProductSearchHitDto(
+        Long id,
+        String name,
+        BigDecimal price,
+        float score
+) {
+}
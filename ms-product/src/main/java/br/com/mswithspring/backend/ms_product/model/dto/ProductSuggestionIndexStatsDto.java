@@ -0,0 +1,12 @@
+package br.com.mswithspring.backend.ms_product.model.dto;
+
+public record ProductSuggestionIndexStatsDto(
+        boolean ready,
+        int indexedNames,
+        int indexedKeys,
+        long trieNodes,
+        long estimatedBytes,
+        long estimatedBytesPerName,
+        long lastBuildMillis
+) {
+}
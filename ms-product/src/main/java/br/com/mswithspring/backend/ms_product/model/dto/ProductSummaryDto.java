@@ -0,0 +1,10 @@
+package br.com.mswithspring.backend.ms_product.model.dto;
+
+import java.math.BigDecimal;
+
+public record ProductSummaryDto(
+        Long id,
+        String name,
+        BigDecimal price
+) {
+}
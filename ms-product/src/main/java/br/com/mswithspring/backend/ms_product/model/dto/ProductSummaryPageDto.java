@@ -0,0 +1,9 @@
+package br.com.mswithspring.backend.ms_product.model.dto;
+
+import java.util.List;
+
+public record ProductSummaryPageDto(
+        List<ProductSummaryDto> items,
+        Long nextAfterId
+) {
+}
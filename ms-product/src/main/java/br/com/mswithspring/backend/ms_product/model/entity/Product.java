@@ -1,23 +1,35 @@
 package br.com.mswithspring.backend.ms_product.model.entity;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.UpdateTimestamp;
 
 import java.io.Serializable;
 import java.math.BigDecimal;
+import java.time.Instant;
 
 @SuppressWarnings("serial")
 @Entity
-@Table(name = "tb_products")
+@Table(name = "tb_products", indexes = {
+        @Index(name = "idx_tb_products_updated_at", columnList = "updated_at"),
+        @Index(name = "idx_tb_products_price", columnList = "price")
+})
 public class Product implements Serializable {
 
+    public static final String ID_SEQUENCE = "tb_products_seq";
+    public static final int ID_ALLOCATION_SIZE = 50;
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "product_id_generator")
+    @SequenceGenerator(name = "product_id_generator", sequenceName = ID_SEQUENCE, allocationSize = ID_ALLOCATION_SIZE)
     private Long id;
     private String name;
     @Column(columnDefinition = "TEXT")
     private String description;
     @Column(name = "price", precision = 10, scale = 2) // Exemplo: 99999999.99
     private BigDecimal price;
+    @UpdateTimestamp
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
 
     public Product() {
     }
@@ -57,6 +69,8 @@ public class Product implements Serializable {
 
     public void setPrice(BigDecimal price) { this.price = price; }
 
+    public Instant getUpdatedAt() { return updatedAt; }
+
     @java.lang.Override
     public java.lang.String toString() {
         return "Product{" +
@@ -64,6 +78,7 @@ public class Product implements Serializable {
                 ", name='" + name + '\'' +
                 ", description='" + description + '\'' +
                 ", price=" + price +
+                ", updatedAt=" + updatedAt +
                 '}';
     }
 }
\ No newline at end of file
@@ -0,0 +1,7 @@
+package br.com.mswithspring.backend.ms_product.model.projection;
+
+public record ProductNameView(
+        Long id,
+        String name
+) {
+}
@@ -0,0 +1,17 @@
+package br.com.mswithspring.backend.ms_product.model.projection;
+
+import br.com.mswithspring.backend.ms_product.model.dto.ProductDto;
+
+import java.math.BigDecimal;
+
+public record ProductView(
+        Long id,
+        String name,
+        String description,
+        BigDecimal price
+) {
+
+    public ProductDto toDto() {
+        return new ProductDto(name, description, price);
+    }
+}
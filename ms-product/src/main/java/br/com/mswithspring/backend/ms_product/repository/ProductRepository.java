@@ -1,9 +1,72 @@
 package br.com.mswithspring.backend.ms_product.repository;
 
+import br.com.mswithspring.backend.ms_product.model.dto.ProductDto;
+import br.com.mswithspring.backend.ms_product.model.dto.ProductExportDto;
+import br.com.mswithspring.backend.ms_product.model.dto.ProductSummaryDto;
 import br.com.mswithspring.backend.ms_product.model.entity.Product;
+import br.com.mswithspring.backend.ms_product.model.projection.ProductNameView;
+import br.com.mswithspring.backend.ms_product.model.projection.ProductView;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
 @Repository
 public interface ProductRepository extends JpaRepository<Product, Long> {
+
+    @Query("select new br.com.mswithspring.backend.ms_product.model.dto.ProductDto(p.name, p.description, p.price) " +
+            "from Product p where p.id = :id")
+    Optional<ProductDto> findDtoById(@Param("id") Long id);
+
+    @Query("select new br.com.mswithspring.backend.ms_product.model.dto.ProductDto(p.name, p.description, p.price) " +
+            "from Product p order by p.id asc")
+    List<ProductDto> findAllDtos();
+
+    @Query("select new br.com.mswithspring.backend.ms_product.model.projection.ProductView(p.id, p.name, p.description, p.price) " +
+            "from Product p where p.id in :ids")
+    List<ProductView> findViewsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("select new br.com.mswithspring.backend.ms_product.model.projection.ProductView(p.id, p.name, p.description, p.price) " +
+            "from Product p where p.id > :afterId order by p.id asc")
+    List<ProductView> findViewsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("select new br.com.mswithspring.backend.ms_product.model.dto.ProductSummaryDto(p.id, p.name, p.price) " +
+            "from Product p where p.id > :afterId order by p.id asc")
+    List<ProductSummaryDto> findSummariesAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("select p.id from Product p where p.id in :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("select new br.com.mswithspring.backend.ms_product.model.dto.ProductDto(p.name, p.description, p.price) " +
+            "from Product p order by p.id asc")
+    Stream<ProductDto> streamAllDtos();
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("select new br.com.mswithspring.backend.ms_product.model.dto.ProductExportDto(p.id, p.name, p.description, p.price, p.updatedAt) " +
+            "from Product p order by p.id asc")
+    Stream<ProductExportDto> streamExportDtos();
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("select new br.com.mswithspring.backend.ms_product.model.dto.ProductExportDto(p.id, p.name, p.description, p.price, p.updatedAt) " +
+            "from Product p where p.updatedAt >= :changedSince order by p.id asc")
+    Stream<ProductExportDto> streamExportDtosChangedSince(@Param("changedSince") Instant changedSince);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("select new br.com.mswithspring.backend.ms_product.model.projection.ProductNameView(p.id, p.name) from Product p")
+    Stream<ProductNameView> streamNames();
+
+    @Query("select new br.com.mswithspring.backend.ms_product.model.projection.ProductNameView(p.id, p.name) " +
+            "from Product p where p.id in :ids")
+    List<ProductNameView> findNamesByIdIn(@Param("ids") Collection<Long> ids);
 }
@@ -0,0 +1,146 @@
+package br.com.mswithspring.backend.ms_product.service;
+
+import br.com.mswithspring.backend.ms_product.config.CacheConfig;
+import br.com.mswithspring.backend.ms_product.config.ProductBulkProperties;
+import br.com.mswithspring.backend.ms_product.event.ProductsChangedEvent;
+import br.com.mswithspring.backend.ms_product.model.dto.ProductBulkItemDto;
+import br.com.mswithspring.backend.ms_product.model.dto.ProductBulkResultDto;
+import br.com.mswithspring.backend.ms_product.model.entity.Product;
+import br.com.mswithspring.backend.ms_product.repository.ProductRepository;
+import br.com.mswithspring.backend.ms_product.service.mapper.ProductMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+
+@Service
+public class ProductBulkService {
+
+    private final ProductRepository productRepository;
+    private final ProductMapper productMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ProductBulkProperties properties;
+    private final TransactionTemplate transactionTemplate;
+
+    @Autowired
+    public ProductBulkService(ProductRepository productRepository, ProductMapper productMapper, ApplicationEventPublisher eventPublisher,
+                              ProductBulkProperties properties, PlatformTransactionManager transactionManager) {
+        this.productRepository = productRepository;
+        this.productMapper = productMapper;
+        this.eventPublisher = eventPublisher;
+        this.properties = properties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @CacheEvict(cacheNames = {CacheConfig.PRODUCTS_CACHE, CacheConfig.PRODUCT_LIST_CACHE}, allEntries = true)
+    public ProductBulkResultDto upsert(List<ProductBulkItemDto> items) {
+        validateSize(items);
+        ProductBulkResultDto total = new ProductBulkResultDto(0, 0, 0, List.of());
+        for (List<ProductBulkItemDto> chunk : chunk(items)) {
+            total = merge(total, transactionTemplate.execute(status -> upsertChunk(chunk)));
+        }
+        return total;
+    }
+
+    @CacheEvict(cacheNames = {CacheConfig.PRODUCTS_CACHE, CacheConfig.PRODUCT_LIST_CACHE}, allEntries = true)
+    public ProductBulkResultDto deleteAllById(List<Long> ids) {
+        validateSize(ids);
+        ProductBulkResultDto total = new ProductBulkResultDto(0, 0, 0, List.of());
+        for (List<Long> chunk : chunk(ids.stream().distinct().toList())) {
+            total = merge(total, transactionTemplate.execute(status -> deleteChunk(chunk)));
+        }
+        return total;
+    }
+
+    private ProductBulkResultDto upsertChunk(List<ProductBulkItemDto> chunk) {
+        List<Long> ids = chunk.stream()
+                .map(ProductBulkItemDto::id)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+        Map<Long, Product> existingProducts = ids.isEmpty() ? Map.of() : productRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Product::getId, Function.identity()));
+
+        List<Product> createdProducts = new ArrayList<>();
+        Set<Long> updatedIds = new HashSet<>();
+        List<Long> notFoundIds = new ArrayList<>();
+        int updated = 0;
+        for (ProductBulkItemDto item : chunk) {
+            if (item.id() == null) {
+                createdProducts.add(productMapper.toEntity(item.product())
+                        .orElseThrow(() -> new IllegalStateException("Erro ao converter DTO para entidade Product.")));
+                continue;
+            }
+            Product existingProduct = existingProducts.get(item.id());
+            if (existingProduct == null) {
+                notFoundIds.add(item.id());
+                continue;
+            }
+            productMapper.updateEntityFromDto(existingProduct, item.product());
+            updatedIds.add(item.id());
+            updated++;
+        }
+
+        productRepository.saveAll(createdProducts);
+        if (!createdProducts.isEmpty()) {
+            eventPublisher.publishEvent(new ProductsChangedEvent(
+                    createdProducts.stream().map(Product::getId).toList(), ProductsChangedEvent.ChangeType.CREATED));
+        }
+        if (!updatedIds.isEmpty()) {
+            eventPublisher.publishEvent(new ProductsChangedEvent(List.copyOf(updatedIds), ProductsChangedEvent.ChangeType.UPDATED));
+        }
+        return new ProductBulkResultDto(createdProducts.size(), updated, 0, notFoundIds);
+    }
+
+    private ProductBulkResultDto deleteChunk(List<Long> chunk) {
+        List<Long> existingIds = productRepository.findExistingIds(chunk);
+        List<Long> notFoundIds = new ArrayList<>(chunk);
+        notFoundIds.removeAll(new HashSet<>(existingIds));
+        if (!existingIds.isEmpty()) {
+            productRepository.deleteAllByIdInBatch(existingIds);
+            eventPublisher.publishEvent(new ProductsChangedEvent(existingIds, ProductsChangedEvent.ChangeType.DELETED));
+        }
+        return new ProductBulkResultDto(0, 0, existingIds.size(), notFoundIds);
+    }
+
+    private void validateSize(List<?> items) {
+        if (items == null || items.isEmpty()) {
+            throw new IllegalArgumentException("A lista de produtos não pode ser vazia.");
+        }
+        if (items.size() > properties.maxItems()) {
+            throw new IllegalArgumentException(String.format("A operação em lote aceita no máximo %d itens.", properties.maxItems()));
+        }
+    }
+
+    private <T> List<List<T>> chunk(List<T> items) {
+        int chunkSize = Math.max(1, properties.chunkSize());
+        List<List<T>> chunks = new ArrayList<>();
+        for (int start = 0; start < items.size(); start += chunkSize) {
+            chunks.add(items.subList(start, Math.min(start + chunkSize, items.size())));
+        }
+        return chunks;
+    }
+
+    private ProductBulkResultDto merge(ProductBulkResultDto total, ProductBulkResultDto chunkResult) {
+        List<Long> notFoundIds = new ArrayList<>(total.notFoundIds());
+        notFoundIds.addAll(chunkResult.notFoundIds());
+        return new ProductBulkResultDto(
+                total.created() + chunkResult.created(),
+                total.updated() + chunkResult.updated(),
+                total.deleted() + chunkResult.deleted(),
+                notFoundIds
+        );
+    }
+}
@@ -0,0 +1,112 @@
+package br.com.mswithspring.backend.ms_product.service;
+
+import br.com.mswithspring.backend.ms_product.config.ProductExportProperties;
+import br.com.mswithspring.backend.ms_product.exception.ProductExportRejectedException;
+import br.com.mswithspring.backend.ms_product.model.dto.ProductExportDto;
+import br.com.mswithspring.backend.ms_product.repository.ProductRepository;
+import br.com.mswithspring.backend.ms_product.service.exporter.ProductExport;
+import br.com.mswithspring.backend.ms_product.service.exporter.ProductExportFormat;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.Semaphore;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+
+@Service
+public class ProductExportService {
+
+    private static final String CSV_HEADER = "id,name,description,price,updatedAt\n";
+    private static final DateTimeFormatter FILE_NAME_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'").withZone(ZoneOffset.UTC);
+
+    private final ProductRepository productRepository;
+    private final ObjectMapper objectMapper;
+    private final ProductExportProperties properties;
+    private final TransactionTemplate transactionTemplate;
+    private final Semaphore runningExports;
+
+    @Autowired
+    public ProductExportService(ProductRepository productRepository, ObjectMapper objectMapper, ProductExportProperties properties,
+                                PlatformTransactionManager transactionManager) {
+        this.productRepository = productRepository;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.runningExports = new Semaphore(properties.maxConcurrentExports());
+    }
+
+    public ProductExport prepareExport(String format, Instant changedSince) {
+        ProductExportFormat exportFormat = ProductExportFormat.resolve(format);
+        if (!runningExports.tryAcquire()) {
+            throw new ProductExportRejectedException(properties.maxConcurrentExports());
+        }
+        String fileName = exportFormat.fileName("products-" + FILE_NAME_TIMESTAMP.format(Instant.now()));
+        return new ProductExport(fileName, outputStream -> write(exportFormat, changedSince, outputStream), runningExports::release);
+    }
+
+    private void write(ProductExportFormat format, Instant changedSince, OutputStream outputStream) throws IOException {
+        GZIPOutputStream gzipOutputStream = new GZIPOutputStream(outputStream, properties.bufferSize());
+        Writer writer = new BufferedWriter(new OutputStreamWriter(gzipOutputStream, StandardCharsets.UTF_8), properties.bufferSize());
+        if (format == ProductExportFormat.CSV) {
+            writer.write(CSV_HEADER);
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                try (Stream<ProductExportDto> products = changedSince == null
+                        ? productRepository.streamExportDtos()
+                        : productRepository.streamExportDtosChangedSince(changedSince)) {
+                    products.forEach(product -> writeRow(format, product, writer));
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        writer.flush();
+        gzipOutputStream.finish();
+    }
+
+    private void writeRow(ProductExportFormat format, ProductExportDto product, Writer writer) {
+        try {
+            if (format == ProductExportFormat.CSV) {
+                writer.write(String.valueOf(product.id()));
+                writer.write(',');
+                writer.write(csvField(product.name()));
+                writer.write(',');
+                writer.write(csvField(product.description()));
+                writer.write(',');
+                writer.write(product.price() == null ? "" : product.price().toPlainString());
+                writer.write(',');
+                writer.write(product.updatedAt() == null ? "" : product.updatedAt().toString());
+            } else {
+                writer.write(objectMapper.writeValueAsString(product));
+            }
+            writer.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String csvField(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,255 @@
+package br.com.mswithspring.backend.ms_product.service;
+
+import br.com.mswithspring.backend.ms_product.config.ProductImportProperties;
+import br.com.mswithspring.backend.ms_product.exception.ProductImportJobNotFoundException;
+import br.com.mswithspring.backend.ms_product.exception.ProductImportRejectedException;
+import br.com.mswithspring.backend.ms_product.model.dto.ProductDto;
+import br.com.mswithspring.backend.ms_product.model.dto.ProductImportJobDto;
+import br.com.mswithspring.backend.ms_product.service.importer.CountingInputStream;
+import br.com.mswithspring.backend.ms_product.service.importer.CsvProductImportReader;
+import br.com.mswithspring.backend.ms_product.service.importer.NdjsonProductImportReader;
+import br.com.mswithspring.backend.ms_product.service.importer.ProductImportFormat;
+import br.com.mswithspring.backend.ms_product.service.importer.ProductImportJob;
+import br.com.mswithspring.backend.ms_product.service.importer.ProductImportReader;
+import br.com.mswithspring.backend.ms_product.service.importer.ProductImportRow;
+import br.com.mswithspring.backend.ms_product.service.importer.ProductImportWriter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+@Service
+public class ProductImportService {
+
+    private static final Logger log = LoggerFactory.getLogger(ProductImportService.class);
+    private static final List<ProductDto> END_OF_IMPORT = List.of();
+
+    private final ProductImportWriter productImportWriter;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final ProductImportProperties properties;
+    private final ExecutorService executor;
+    private final Semaphore runningJobs;
+    private final Cache<String, ProductImportJob> jobs;
+
+    @Autowired
+    public ProductImportService(ProductImportWriter productImportWriter, Validator validator, ObjectMapper objectMapper,
+                                ProductImportProperties properties, @Qualifier("productImportExecutor") ExecutorService executor) {
+        this.productImportWriter = productImportWriter;
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        this.executor = executor;
+        this.runningJobs = new Semaphore(properties.maxConcurrentJobs());
+        this.jobs = Caffeine.newBuilder()
+                .maximumSize(properties.maxRetainedJobs())
+                .expireAfterWrite(properties.jobRetention())
+                .build();
+    }
+
+    public ProductImportJobDto importUpload(MultipartFile file, String format) {
+        if (file == null || file.isEmpty()) {
+            throw new IllegalArgumentException("O arquivo de importação não pode ser vazio.");
+        }
+        ProductImportFormat importFormat = ProductImportFormat.resolve(format, file.getOriginalFilename());
+        acquireSlot();
+        try {
+            Path tempFile = Files.createTempFile("product-import-", importFormat.extension());
+            try {
+                file.transferTo(tempFile);
+                return submit(tempFile, importFormat, true);
+            } catch (IOException | RuntimeException e) {
+                Files.deleteIfExists(tempFile);
+                throw e;
+            }
+        } catch (IOException e) {
+            runningJobs.release();
+            throw new UncheckedIOException(e);
+        } catch (RuntimeException e) {
+            runningJobs.release();
+            throw e;
+        }
+    }
+
+    public ProductImportJobDto importLocalFile(String path, String format) {
+        Path file = resolveLocalFile(path);
+        ProductImportFormat importFormat = ProductImportFormat.resolve(format, file.getFileName().toString());
+        acquireSlot();
+        try {
+            return submit(file, importFormat, false);
+        } catch (RuntimeException e) {
+            runningJobs.release();
+            throw e;
+        }
+    }
+
+    public ProductImportJobDto findJob(String jobId) {
+        return Optional.ofNullable(jobs.getIfPresent(jobId))
+                .map(ProductImportJob::toDto)
+                .orElseThrow(() -> new ProductImportJobNotFoundException(jobId));
+    }
+
+    private void acquireSlot() {
+        if (!runningJobs.tryAcquire()) {
+            throw new ProductImportRejectedException(properties.maxConcurrentJobs());
+        }
+    }
+
+    private ProductImportJobDto submit(Path file, ProductImportFormat format, boolean deleteAfterImport) throws IOException {
+        ProductImportJob job = new ProductImportJob(format, Files.size(file), properties.maxErrors());
+        jobs.put(job.getId(), job);
+        executor.execute(() -> run(job, file, deleteAfterImport));
+        return job.toDto();
+    }
+
+    private void run(ProductImportJob job, Path file, boolean deleteAfterImport) {
+        job.start();
+        BlockingQueue<List<ProductDto>> queue = new ArrayBlockingQueue<>(Math.max(1, properties.queueCapacity()));
+        Future<Void> consumer = executor.submit(() -> consume(job, queue));
+        try (ProductImportReader reader = openReader(job, file)) {
+            produce(job, reader, queue, consumer);
+            consumer.get();
+            job.complete();
+        } catch (ExecutionException e) {
+            fail(job, e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            consumer.cancel(true);
+            fail(job, e);
+        } catch (Exception e) {
+            consumer.cancel(true);
+            fail(job, e);
+        } finally {
+            jobs.put(job.getId(), job);
+            runningJobs.release();
+            if (deleteAfterImport) {
+                deleteQuietly(file);
+            }
+        }
+    }
+
+    private void produce(ProductImportJob job, ProductImportReader reader, BlockingQueue<List<ProductDto>> queue,
+                         Future<Void> consumer) throws IOException, InterruptedException, ExecutionException {
+        int batchSize = Math.max(1, properties.batchSize());
+        List<ProductDto> batch = new ArrayList<>(batchSize);
+        ProductImportRow row;
+        while ((row = reader.read()) != null) {
+            job.rowRead();
+            String error = row.error() != null ? row.error() : validate(row.product());
+            if (error != null) {
+                job.reject(row.line(), error);
+                continue;
+            }
+            batch.add(row.product());
+            if (batch.size() == batchSize) {
+                enqueue(queue, batch, consumer);
+                batch = new ArrayList<>(batchSize);
+            }
+        }
+        if (!batch.isEmpty()) {
+            enqueue(queue, batch, consumer);
+        }
+        enqueue(queue, END_OF_IMPORT, consumer);
+    }
+
+    private Void consume(ProductImportJob job, BlockingQueue<List<ProductDto>> queue) throws InterruptedException {
+        List<ProductDto> batch;
+        while ((batch = queue.take()) != END_OF_IMPORT) {
+            job.addImported(productImportWriter.insert(batch).size());
+        }
+        return null;
+    }
+
+    private void enqueue(BlockingQueue<List<ProductDto>> queue, List<ProductDto> batch, Future<Void> consumer)
+            throws InterruptedException, ExecutionException {
+        while (!queue.offer(batch, 1, TimeUnit.SECONDS)) {
+            if (consumer.isDone()) {
+                consumer.get();
+                throw new IllegalStateException("A gravação dos lotes foi interrompida.");
+            }
+        }
+    }
+
+    private String validate(ProductDto product) {
+        Set<ConstraintViolation<ProductDto>> violations = validator.validate(product);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining("; "));
+    }
+
+    private ProductImportReader openReader(ProductImportJob job, Path file) throws IOException {
+        InputStream inputStream = new CountingInputStream(new BufferedInputStream(Files.newInputStream(file)), job::addBytesRead);
+        Reader reader = new InputStreamReader(inputStream, StandardCharsets.UTF_8);
+        try {
+            return switch (job.getFormat()) {
+                case CSV -> new CsvProductImportReader(reader);
+                case NDJSON -> new NdjsonProductImportReader(reader, objectMapper);
+            };
+        } catch (IOException | RuntimeException e) {
+            reader.close();
+            throw e;
+        }
+    }
+
+    private Path resolveLocalFile(String path) {
+        if (properties.baseDir() == null || properties.baseDir().isBlank()) {
+            throw new IllegalArgumentException("A importação por caminho local está desabilitada.");
+        }
+        try {
+            Path baseDir = Path.of(properties.baseDir()).toRealPath();
+            Path file = baseDir.resolve(path).normalize();
+            if (Files.isRegularFile(file) && file.toRealPath().startsWith(baseDir)) {
+                return file;
+            }
+        } catch (IOException | RuntimeException e) {
+            log.debug("Caminho de importação inválido: {}", path, e);
+        }
+        throw new IllegalArgumentException(String.format("Arquivo '%s' não encontrado no diretório de importação.", path));
+    }
+
+    private void fail(ProductImportJob job, Throwable cause) {
+        log.warn("Importação {} falhou.", job.getId(), cause);
+        job.fail(cause.getMessage() != null ? cause.getMessage() : cause.getClass().getSimpleName());
+    }
+
+    private void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Não foi possível remover o arquivo temporário {}.", file, e);
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package br.com.mswithspring.backend.ms_product.service;
+
+import br.com.mswithspring.backend.ms_product.config.ProductSearchProperties;
+import br.com.mswithspring.backend.ms_product.exception.ProductSearchTimeoutException;
+import br.com.mswithspring.backend.ms_product.model.dto.ProductSearchHitDto;
+import br.com.mswithspring.backend.ms_product.model.dto.ProductSearchPageDto;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+@Service
+public class ProductSearchService {
+
+    private static final String SEARCH_SQL_TEMPLATE = """
+            SELECT id, name, price, score FROM (
+                SELECT p.id, p.name, p.price,
+                       CAST(ts_rank_cd(p.search_vector, query) + CASE WHEN lower(p.name) LIKE :namePrefix THEN 1 ELSE 0 END AS real) AS score
+                FROM tb_products p, to_tsquery('portuguese', :tsQuery) query
+                WHERE (p.search_vector @@ query OR lower(p.name) LIKE :namePrefix)%s
+            ) ranked%s
+            ORDER BY score DESC, id ASC
+            LIMIT :limit
+            """;
+
+    private static final String QUERY_CANCELED_SQL_STATE = "57014";
+
+    private static final RowMapper<ProductSearchHitDto> HIT_ROW_MAPPER = (rs, rowNum) -> new ProductSearchHitDto(
+            rs.getLong("id"),
+            rs.getString("name"),
+            rs.getBigDecimal("price"),
+            rs.getFloat("score")
+    );
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final ProductSearchProperties properties;
+    private final TransactionTemplate transactionTemplate;
+
+    @Autowired
+    public ProductSearchService(NamedParameterJdbcTemplate jdbcTemplate, ProductSearchProperties properties,
+                                PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.properties = properties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+    }
+
+    public ProductSearchPageDto search(String query, BigDecimal minPrice, BigDecimal maxPrice, Integer limit, String cursor) {
+        String normalizedQuery = query == null ? "" : query.strip();
+        if (normalizedQuery.length() < properties.minQueryLength()) {
+            throw new IllegalArgumentException(String.format("A busca deve ter ao menos %d caracteres.", properties.minQueryLength()));
+        }
+        if (minPrice != null && maxPrice != null && minPrice.compareTo(maxPrice) > 0) {
+            throw new IllegalArgumentException("O preço mínimo não pode ser maior que o preço máximo.");
+        }
+        int pageSize = properties.resolveLimit(limit);
+
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("tsQuery", toPrefixTsQuery(normalizedQuery))
+                .addValue("namePrefix", escapeLike(normalizedQuery.toLowerCase(Locale.ROOT)) + "%")
+                .addValue("limit", pageSize + 1);
+        StringBuilder filters = new StringBuilder();
+        if (minPrice != null) {
+            filters.append(" AND p.price >= :minPrice");
+            parameters.addValue("minPrice", minPrice);
+        }
+        if (maxPrice != null) {
+            filters.append(" AND p.price <= :maxPrice");
+            parameters.addValue("maxPrice", maxPrice);
+        }
+        String keyset = "";
+        if (cursor != null && !cursor.isBlank()) {
+            SearchCursor searchCursor = SearchCursor.decode(cursor);
+            keyset = " WHERE score < :afterScore OR (score = :afterScore AND id > :afterId)";
+            parameters.addValue("afterScore", searchCursor.score());
+            parameters.addValue("afterId", searchCursor.id());
+        }
+        String sql = SEARCH_SQL_TEMPLATE.formatted(filters, keyset);
+
+        List<ProductSearchHitDto> hits;
+        try {
+            hits = transactionTemplate.execute(status -> {
+                jdbcTemplate.getJdbcOperations().execute("SET LOCAL statement_timeout = " + properties.statementTimeout().toMillis());
+                return jdbcTemplate.query(sql, parameters, HIT_ROW_MAPPER);
+            });
+        } catch (QueryTimeoutException e) {
+            throw new ProductSearchTimeoutException(properties.statementTimeout().toMillis());
+        } catch (DataAccessException e) {
+            // Conforme o tradutor, o cancelamento por statement_timeout (SQLState 57014) chega como
+            // DataAccessResourceFailureException, PessimisticLockingFailureException ou UncategorizedSQLException.
+            if (isStatementTimeout(e)) {
+                throw new ProductSearchTimeoutException(properties.statementTimeout().toMillis());
+            }
+            throw e;
+        }
+
+        boolean hasNext = hits.size() > pageSize;
+        List<ProductSearchHitDto> page = hasNext ? hits.subList(0, pageSize) : hits;
+        String nextCursor = null;
+        if (hasNext) {
+            ProductSearchHitDto last = page.get(page.size() - 1);
+            nextCursor = new SearchCursor(last.score(), last.id()).encode();
+        }
+        return new ProductSearchPageDto(List.copyOf(page), nextCursor);
+    }
+
+    private static boolean isStatementTimeout(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLException sqlException && QUERY_CANCELED_SQL_STATE.equals(sqlException.getSQLState())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    static String toPrefixTsQuery(String query) {
+        List<String> terms = Arrays.stream(query.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+"))
+                .filter(term -> !term.isEmpty())
+                .toList();
+        if (terms.isEmpty()) {
+            throw new IllegalArgumentException("A busca deve conter ao menos uma letra ou número.");
+        }
+        return IntStream.range(0, terms.size())
+                .mapToObj(index -> index == terms.size() - 1 ? terms.get(index) + ":*" : terms.get(index))
+                .collect(Collectors.joining(" & "));
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
+    private record SearchCursor(float score, long id) {
+
+        String encode() {
+            String value = score + ":" + id;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+        }
+
+        static SearchCursor decode(String cursor) {
+            try {
+                String value = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+                int separator = value.indexOf(':');
+                return new SearchCursor(Float.parseFloat(value.substring(0, separator)), Long.parseLong(value.substring(separator + 1)));
+            } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+                throw new IllegalArgumentException("O cursor de busca é inválido.");
+            }
+        }
+    }
+}
@@ -1,46 +1,108 @@
 package br.com.mswithspring.backend.ms_product.service;
 
+import br.com.mswithspring.backend.ms_product.config.CacheConfig;
+import br.com.mswithspring.backend.ms_product.config.PaginationProperties;
+import br.com.mswithspring.backend.ms_product.event.ProductsChangedEvent;
 import br.com.mswithspring.backend.ms_product.exception.ProductNotFoundException;
 import br.com.mswithspring.backend.ms_product.model.dto.ProductDto;
+import br.com.mswithspring.backend.ms_product.model.dto.ProductPageDto;
+import br.com.mswithspring.backend.ms_product.model.dto.ProductSummaryDto;
+import br.com.mswithspring.backend.ms_product.model.dto.ProductSummaryPageDto;
 import br.com.mswithspring.backend.ms_product.model.entity.Product;
+import br.com.mswithspring.backend.ms_product.model.projection.ProductView;
 import br.com.mswithspring.backend.ms_product.repository.ProductRepository;
 import br.com.mswithspring.backend.ms_product.service.mapper.ProductMapper;
+import io.micrometer.observation.annotation.Observed;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 
+@Observed(name = "product.service")
 @Service
 public class ProductService {
 
     private final ProductRepository productRepository;
     private final ProductMapper productMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PaginationProperties paginationProperties;
 
     @Autowired
-    public ProductService(ProductRepository productRepository, ProductMapper productMapper) {
+    public ProductService(ProductRepository productRepository, ProductMapper productMapper, ApplicationEventPublisher eventPublisher,
+                          PaginationProperties paginationProperties) {
         this.productRepository = productRepository;
         this.productMapper = productMapper;
+        this.eventPublisher = eventPublisher;
+        this.paginationProperties = paginationProperties;
     }
 
+    @Cacheable(cacheNames = CacheConfig.PRODUCT_LIST_CACHE)
     @Transactional(readOnly = true)
     public List<ProductDto> findAll() {
-        return productRepository.findAll().stream()
-                .map(productMapper::toDto)
-                .flatMap(Optional::stream)
-                .collect(Collectors.toList());
+        return productRepository.findAllDtos();
     }
 
+    @Transactional(readOnly = true)
+    public ProductPageDto findPage(Long afterId, Integer limit) {
+        int pageSize = paginationProperties.resolveLimit(limit);
+        List<ProductView> views = productRepository.findViewsAfter(resolveCursor(afterId), PageRequest.of(0, pageSize + 1));
+        boolean hasNext = views.size() > pageSize;
+        List<ProductView> page = hasNext ? views.subList(0, pageSize) : views;
+        List<ProductDto> items = page.stream()
+                .map(ProductView::toDto)
+                .toList();
+        Long nextAfterId = hasNext ? page.get(page.size() - 1).id() : null;
+        return new ProductPageDto(items, nextAfterId);
+    }
+
+    @Transactional(readOnly = true)
+    public ProductSummaryPageDto findSummaryPage(Long afterId, Integer limit) {
+        int pageSize = paginationProperties.resolveLimit(limit);
+        List<ProductSummaryDto> summaries = productRepository.findSummariesAfter(resolveCursor(afterId), PageRequest.of(0, pageSize + 1));
+        boolean hasNext = summaries.size() > pageSize;
+        List<ProductSummaryDto> page = hasNext ? summaries.subList(0, pageSize) : summaries;
+        Long nextAfterId = hasNext ? page.get(page.size() - 1).id() : null;
+        return new ProductSummaryPageDto(List.copyOf(page), nextAfterId);
+    }
+
+    @Transactional(readOnly = true)
+    public void streamAll(Consumer<ProductDto> consumer) {
+        try (Stream<ProductDto> products = productRepository.streamAllDtos()) {
+            products.forEach(consumer);
+        }
+    }
+
+    @Cacheable(cacheNames = CacheConfig.PRODUCTS_CACHE, key = "#id", sync = true)
     @Transactional(readOnly = true)
     public ProductDto findById(Long id) {
-        Product product = productRepository.findById(id)
+        return productRepository.findDtoById(id)
                 .orElseThrow(() -> new ProductNotFoundException(id));
-        return productMapper.toDto(product)
-                .orElseThrow(() -> new IllegalStateException("Erro ao mapear produto para DTO."));
     }
 
+    @Transactional(readOnly = true)
+    public Map<Long, ProductDto> findAllById(Collection<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            throw new IllegalArgumentException("A lista de IDs não pode ser vazia.");
+        }
+        Map<Long, ProductDto> products = new LinkedHashMap<>();
+        for (ProductView view : productRepository.findViewsByIdIn(ids.stream().distinct().toList())) {
+            products.put(view.id(), view.toDto());
+        }
+        return products;
+    }
+
+    @CacheEvict(cacheNames = CacheConfig.PRODUCT_LIST_CACHE, allEntries = true)
     @Transactional
     public ProductDto save(ProductDto productDto) {
         if (productDto == null) {
@@ -52,10 +114,15 @@ public class ProductService {
         Product product = productMapper.toEntity(productDto)
                 .orElseThrow(() -> new IllegalStateException("Erro ao converter DTO para entidade Product."));
         Product savedProduct = productRepository.save(product);
+        eventPublisher.publishEvent(ProductsChangedEvent.of(savedProduct.getId(), ProductsChangedEvent.ChangeType.CREATED));
         return productMapper.toDto(savedProduct)
                 .orElseThrow(() -> new IllegalStateException("Erro ao mapear produto salvo para DTO."));
     }
 
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.PRODUCTS_CACHE, key = "#id"),
+            @CacheEvict(cacheNames = CacheConfig.PRODUCT_LIST_CACHE, allEntries = true)
+    })
     @Transactional
     public ProductDto update(Long id, ProductDto productDto) {
         if (productDto == null) {
@@ -65,15 +132,25 @@ public class ProductService {
                 .orElseThrow(() -> new ProductNotFoundException(id));
         Product updatedProduct = productMapper.updateEntityFromDto(existingProduct, productDto);
         Product savedProduct = productRepository.save(updatedProduct);
+        eventPublisher.publishEvent(ProductsChangedEvent.of(id, ProductsChangedEvent.ChangeType.UPDATED));
         return productMapper.toDto(savedProduct)
                 .orElseThrow(() -> new IllegalStateException("Erro ao mapear produto atualizado para DTO."));
     }
 
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.PRODUCTS_CACHE, key = "#id"),
+            @CacheEvict(cacheNames = CacheConfig.PRODUCT_LIST_CACHE, allEntries = true)
+    })
     @Transactional
     public void deleteById(Long id) {
         if (!productRepository.existsById(id)) {
             throw new ProductNotFoundException(id);
         }
         productRepository.deleteById(id);
+        eventPublisher.publishEvent(ProductsChangedEvent.of(id, ProductsChangedEvent.ChangeType.DELETED));
+    }
+
+    private long resolveCursor(Long afterId) {
+        return afterId == null ? 0L : afterId;
     }
 }
\ No newline at end of file
@@ -0,0 +1,127 @@
+package br.com.mswithspring.backend.ms_product.service;
+
+import br.com.mswithspring.backend.ms_product.config.ProductSuggestionProperties;
+import br.com.mswithspring.backend.ms_product.event.ProductsChangedEvent;
+import br.com.mswithspring.backend.ms_product.model.dto.ProductSuggestionDto;
+import br.com.mswithspring.backend.ms_product.model.dto.ProductSuggestionIndexStatsDto;
+import br.com.mswithspring.backend.ms_product.model.projection.ProductNameView;
+import br.com.mswithspring.backend.ms_product.repository.ProductRepository;
+import br.com.mswithspring.backend.ms_product.service.suggestion.ProductNameNormalizer;
+import br.com.mswithspring.backend.ms_product.service.suggestion.ProductNameTrie;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+@Service
+public class ProductSuggestionService {
+
+    private static final Logger log = LoggerFactory.getLogger(ProductSuggestionService.class);
+    // Estimativa, não medição: HashMap.Node + Long + String + cabeçalho do byte[] + slot da tabela (compressed oops)
+    private static final int NAME_ENTRY_OVERHEAD_BYTES = 32 + 16 + 24 + 16 + 4;
+
+    private final ProductRepository productRepository;
+    private final ProductSuggestionProperties properties;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final ProductNameTrie trie = new ProductNameTrie();
+    private final Map<Long, String> names = new HashMap<>();
+    private volatile boolean ready;
+    private volatile long lastBuildMillis;
+
+    @Autowired
+    public ProductSuggestionService(ProductRepository productRepository, ProductSuggestionProperties properties) {
+        this.productRepository = productRepository;
+        this.properties = properties;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        long start = System.nanoTime();
+        lock.writeLock().lock();
+        try (Stream<ProductNameView> products = productRepository.streamNames()) {
+            trie.clear();
+            names.clear();
+            products.forEach(product -> put(product.id(), product.name()));
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        lastBuildMillis = (System.nanoTime() - start) / 1_000_000;
+        log.info("Índice de sugestões construído com {} nomes em {} ms.", names.size(), lastBuildMillis);
+    }
+
+    @TransactionalEventListener
+    public void onProductsChanged(ProductsChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            List<ProductNameView> changedProducts = event.changeType() == ProductsChangedEvent.ChangeType.DELETED
+                    ? List.of()
+                    : productRepository.findNamesByIdIn(event.productIds());
+            event.productIds().forEach(this::remove);
+            changedProducts.forEach(product -> put(product.id(), product.name()));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public List<ProductSuggestionDto> suggest(String prefix, Integer limit) {
+        String normalizedPrefix = ProductNameNormalizer.normalize(prefix);
+        if (normalizedPrefix.isEmpty()) {
+            throw new IllegalArgumentException("O prefixo deve conter ao menos uma letra ou número.");
+        }
+        int maxResults = properties.resolveLimit(limit);
+        lock.readLock().lock();
+        try {
+            return trie.findByPrefix(normalizedPrefix, maxResults).stream()
+                    .map(id -> new ProductSuggestionDto(id, names.get(id)))
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public ProductSuggestionIndexStatsDto stats() {
+        lock.readLock().lock();
+        try {
+            long nameBytes = names.values().stream()
+                    .mapToLong(name -> NAME_ENTRY_OVERHEAD_BYTES + ProductNameTrie.align(name.length()))
+                    .sum();
+            long estimatedBytes = trie.estimatedBytes() + nameBytes;
+            return new ProductSuggestionIndexStatsDto(
+                    ready,
+                    names.size(),
+                    trie.keyCount(),
+                    trie.nodeCount(),
+                    estimatedBytes,
+                    names.isEmpty() ? 0 : estimatedBytes / names.size(),
+                    lastBuildMillis
+            );
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void put(Long id, String name) {
+        names.put(id, name);
+        ProductNameNormalizer.indexKeys(name).forEach(key -> trie.insert(key, id));
+    }
+
+    private void remove(Long id) {
+        String name = names.remove(id);
+        if (name != null) {
+            ProductNameNormalizer.indexKeys(name).forEach(key -> trie.remove(key, id));
+        }
+    }
+}
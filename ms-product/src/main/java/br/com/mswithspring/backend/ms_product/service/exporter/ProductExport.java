@@ -0,0 +1,47 @@
+package br.com.mswithspring.backend.ms_product.service.exporter;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+public final class ProductExport {
+
+    private final String fileName;
+    private final Body body;
+    private final Runnable onRelease;
+    private final AtomicBoolean released = new AtomicBoolean();
+
+    public ProductExport(String fileName, Body body) {
+        this(fileName, body, () -> {
+        });
+    }
+
+    public ProductExport(String fileName, Body body, Runnable onRelease) {
+        this.fileName = fileName;
+        this.body = body;
+        this.onRelease = onRelease;
+    }
+
+    @FunctionalInterface
+    public interface Body {
+        void writeTo(OutputStream outputStream) throws IOException;
+    }
+
+    public String fileName() {
+        return fileName;
+    }
+
+    public void writeTo(OutputStream outputStream) throws IOException {
+        try {
+            body.writeTo(outputStream);
+        } finally {
+            release();
+        }
+    }
+
+    public void release() {
+        if (released.compareAndSet(false, true)) {
+            onRelease.run();
+        }
+    }
+}
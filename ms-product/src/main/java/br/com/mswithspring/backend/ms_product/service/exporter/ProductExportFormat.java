@@ -0,0 +1,29 @@
+package br.com.mswithspring.backend.ms_product.service.exporter;
+
+import java.util.Locale;
+
+public enum ProductExportFormat {
+    CSV(".csv"),
+    NDJSON(".ndjson");
+
+    private final String extension;
+
+    ProductExportFormat(String extension) {
+        this.extension = extension;
+    }
+
+    public String fileName(String baseName) {
+        return baseName + extension + ".gz";
+    }
+
+    public static ProductExportFormat resolve(String format) {
+        if (format == null || format.isBlank()) {
+            return NDJSON;
+        }
+        return switch (format.trim().toLowerCase(Locale.ROOT)) {
+            case "csv" -> CSV;
+            case "ndjson", "jsonl" -> NDJSON;
+            default -> throw new IllegalArgumentException(String.format("Formato de exportação '%s' não suportado. Use 'csv' ou 'ndjson'.", format));
+        };
+    }
+}
@@ -0,0 +1,43 @@
+package br.com.mswithspring.backend.ms_product.service.importer;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.function.LongConsumer;
+
+public class CountingInputStream extends FilterInputStream {
+
+    private final LongConsumer bytesReadListener;
+
+    public CountingInputStream(InputStream in, LongConsumer bytesReadListener) {
+        super(in);
+        this.bytesReadListener = bytesReadListener;
+    }
+
+    @Override
+    public int read() throws IOException {
+        int value = super.read();
+        if (value != -1) {
+            bytesReadListener.accept(1);
+        }
+        return value;
+    }
+
+    @Override
+    public int read(byte[] buffer, int offset, int length) throws IOException {
+        int count = super.read(buffer, offset, length);
+        if (count > 0) {
+            bytesReadListener.accept(count);
+        }
+        return count;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        long skipped = super.skip(n);
+        if (skipped > 0) {
+            bytesReadListener.accept(skipped);
+        }
+        return skipped;
+    }
+}
@@ -0,0 +1,125 @@
+package br.com.mswithspring.backend.ms_product.service.importer;
+
+import br.com.mswithspring.backend.ms_product.model.dto.ProductDto;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+public class CsvProductImportReader implements ProductImportReader {
+
+    private final BufferedReader reader;
+    private final int columnCount;
+    private final int nameIndex;
+    private final int descriptionIndex;
+    private final int priceIndex;
+    private long line = 1;
+
+    public CsvProductImportReader(Reader reader) throws IOException {
+        this.reader = reader instanceof BufferedReader bufferedReader ? bufferedReader : new BufferedReader(reader);
+        List<String> header = readRecord();
+        if (header == null) {
+            throw new IllegalArgumentException("O arquivo CSV está vazio.");
+        }
+        List<String> columns = header.stream()
+                .map(column -> column.replace("\uFEFF", "").trim().toLowerCase(Locale.ROOT))
+                .toList();
+        this.columnCount = columns.size();
+        this.nameIndex = columns.indexOf("name");
+        this.descriptionIndex = columns.indexOf("description");
+        this.priceIndex = columns.indexOf("price");
+        if (nameIndex < 0 || priceIndex < 0) {
+            throw new IllegalArgumentException("O cabeçalho CSV deve conter as colunas 'name' e 'price'.");
+        }
+    }
+
+    @Override
+    public ProductImportRow read() throws IOException {
+        while (true) {
+            long recordLine = line;
+            List<String> record = readRecord();
+            if (record == null) {
+                return null;
+            }
+            if (record.size() == 1 && record.get(0).isBlank()) {
+                continue;
+            }
+            if (record.size() != columnCount) {
+                return ProductImportRow.rejected(recordLine, String.format("Esperadas %d colunas, encontradas %d.", columnCount, record.size()));
+            }
+            String price = blankToNull(record.get(priceIndex));
+            BigDecimal parsedPrice;
+            try {
+                parsedPrice = price == null ? null : new BigDecimal(price.trim());
+            } catch (NumberFormatException e) {
+                return ProductImportRow.rejected(recordLine, String.format("Preço inválido: '%s'.", price));
+            }
+            String description = descriptionIndex < 0 ? null : blankToNull(record.get(descriptionIndex));
+            return ProductImportRow.accepted(recordLine, new ProductDto(record.get(nameIndex), description, parsedPrice));
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private List<String> readRecord() throws IOException {
+        int current = reader.read();
+        if (current == -1) {
+            return null;
+        }
+        long recordLine = line;
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        int length = 0;
+        while (current != -1) {
+            if (++length > MAX_RECORD_LENGTH) {
+                throw new IllegalArgumentException(String.format("O registro CSV iniciado na linha %d excede %d caracteres.", recordLine, MAX_RECORD_LENGTH));
+            }
+            char character = (char) current;
+            if (quoted) {
+                if (character == '"') {
+                    reader.mark(1);
+                    if (reader.read() == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        reader.reset();
+                    }
+                } else {
+                    if (character == '\n') {
+                        line++;
+                    }
+                    field.append(character);
+                }
+            } else if (character == '"') {
+                quoted = true;
+            } else if (character == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (character == '\n') {
+                line++;
+                fields.add(field.toString());
+                return fields;
+            } else if (character != '\r') {
+                field.append(character);
+            }
+            current = reader.read();
+        }
+        if (quoted) {
+            throw new IllegalArgumentException(String.format("Aspas não fechadas no registro CSV iniciado na linha %d.", recordLine));
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value;
+    }
+}
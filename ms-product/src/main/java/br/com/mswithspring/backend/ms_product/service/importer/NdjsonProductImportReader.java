@@ -0,0 +1,65 @@
+package br.com.mswithspring.backend.ms_product.service.importer;
+
+import br.com.mswithspring.backend.ms_product.model.dto.ProductDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+
+public class NdjsonProductImportReader implements ProductImportReader {
+
+    private final BufferedReader reader;
+    private final ObjectMapper objectMapper;
+    private long line;
+
+    public NdjsonProductImportReader(Reader reader, ObjectMapper objectMapper) {
+        this.reader = reader instanceof BufferedReader bufferedReader ? bufferedReader : new BufferedReader(reader);
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public ProductImportRow read() throws IOException {
+        String value;
+        while ((value = readLine()) != null) {
+            line++;
+            if (value.isBlank()) {
+                continue;
+            }
+            try {
+                ProductDto product = objectMapper.readValue(value, ProductDto.class);
+                if (product == null) {
+                    return ProductImportRow.rejected(line, "O registro não pode ser nulo.");
+                }
+                return ProductImportRow.accepted(line, product);
+            } catch (JsonProcessingException e) {
+                return ProductImportRow.rejected(line, "JSON inválido: " + e.getOriginalMessage());
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private String readLine() throws IOException {
+        int current = reader.read();
+        if (current == -1) {
+            return null;
+        }
+        StringBuilder value = new StringBuilder();
+        while (current != -1 && current != '\n') {
+            if (current != '\r') {
+                if (value.length() == MAX_RECORD_LENGTH) {
+                    throw new IllegalArgumentException(String.format("O registro NDJSON da linha %d excede %d caracteres.", line + 1, MAX_RECORD_LENGTH));
+                }
+                value.append((char) current);
+            }
+            current = reader.read();
+        }
+        return value.toString();
+    }
+}
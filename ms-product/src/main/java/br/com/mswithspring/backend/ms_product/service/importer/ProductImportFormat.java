@@ -0,0 +1,36 @@
+package br.com.mswithspring.backend.ms_product.service.importer;
+
+import java.util.Locale;
+
+public enum ProductImportFormat {
+    CSV(".csv"),
+    NDJSON(".ndjson");
+
+    private final String extension;
+
+    ProductImportFormat(String extension) {
+        this.extension = extension;
+    }
+
+    public String extension() {
+        return extension;
+    }
+
+    public static ProductImportFormat resolve(String format, String fileName) {
+        if (format != null && !format.isBlank()) {
+            return switch (format.trim().toLowerCase(Locale.ROOT)) {
+                case "csv" -> CSV;
+                case "ndjson", "jsonl" -> NDJSON;
+                default -> throw new IllegalArgumentException(String.format("Formato de importação '%s' não suportado. Use 'csv' ou 'ndjson'.", format));
+            };
+        }
+        String lowerCaseName = fileName == null ? "" : fileName.toLowerCase(Locale.ROOT);
+        if (lowerCaseName.endsWith(".csv")) {
+            return CSV;
+        }
+        if (lowerCaseName.endsWith(".ndjson") || lowerCaseName.endsWith(".jsonl")) {
+            return NDJSON;
+        }
+        throw new IllegalArgumentException("Formato de importação não informado. Use o parâmetro 'format' com 'csv' ou 'ndjson'.");
+    }
+}
@@ -0,0 +1,99 @@
+package br.com.mswithspring.backend.ms_product.service.importer;
+
+import br.com.mswithspring.backend.ms_product.model.dto.ProductImportErrorDto;
+import br.com.mswithspring.backend.ms_product.model.dto.ProductImportJobDto;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class ProductImportJob {
+
+    private final String id = UUID.randomUUID().toString();
+    private final ProductImportFormat format;
+    private final long totalBytes;
+    private final int maxErrors;
+    private final AtomicLong bytesRead = new AtomicLong();
+    private final AtomicLong rowsRead = new AtomicLong();
+    private final AtomicLong imported = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicInteger storedErrors = new AtomicInteger();
+    private final Queue<ProductImportErrorDto> errors = new ConcurrentLinkedQueue<>();
+    private volatile ProductImportJobDto.Status status = ProductImportJobDto.Status.QUEUED;
+    private volatile String message;
+    private volatile Instant startedAt;
+    private volatile Instant finishedAt;
+
+    public ProductImportJob(ProductImportFormat format, long totalBytes, int maxErrors) {
+        this.format = format;
+        this.totalBytes = totalBytes;
+        this.maxErrors = maxErrors;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public ProductImportFormat getFormat() {
+        return format;
+    }
+
+    public void start() {
+        startedAt = Instant.now();
+        status = ProductImportJobDto.Status.RUNNING;
+    }
+
+    public void complete() {
+        finishedAt = Instant.now();
+        status = ProductImportJobDto.Status.COMPLETED;
+    }
+
+    public void fail(String reason) {
+        message = String.format("Falha na importação: %s. Os lotes já gravados foram mantidos.", reason);
+        finishedAt = Instant.now();
+        status = ProductImportJobDto.Status.FAILED;
+    }
+
+    public void addBytesRead(long count) {
+        bytesRead.addAndGet(count);
+    }
+
+    public void rowRead() {
+        rowsRead.incrementAndGet();
+    }
+
+    public void addImported(int count) {
+        imported.addAndGet(count);
+    }
+
+    public void reject(long line, String error) {
+        rejected.incrementAndGet();
+        if (storedErrors.incrementAndGet() <= maxErrors) {
+            errors.add(new ProductImportErrorDto(line, error));
+        }
+    }
+
+    public ProductImportJobDto toDto() {
+        List<ProductImportErrorDto> currentErrors = List.copyOf(errors);
+        long currentRejected = rejected.get();
+        return new ProductImportJobDto(
+                id,
+                format.name(),
+                status,
+                totalBytes,
+                bytesRead.get(),
+                rowsRead.get(),
+                imported.get(),
+                currentRejected,
+                currentErrors,
+                currentRejected > currentErrors.size(),
+                message,
+                startedAt,
+                finishedAt
+        );
+    }
+}
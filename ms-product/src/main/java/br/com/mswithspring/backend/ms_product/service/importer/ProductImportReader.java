@@ -0,0 +1,11 @@
+package br.com.mswithspring.backend.ms_product.service.importer;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+public interface ProductImportReader extends Closeable {
+
+    int MAX_RECORD_LENGTH = 64 * 1024;
+
+    ProductImportRow read() throws IOException;
+}
@@ -0,0 +1,18 @@
+package br.com.mswithspring.backend.ms_product.service.importer;
+
+import br.com.mswithspring.backend.ms_product.model.dto.ProductDto;
+
+public record ProductImportRow(
+        long line,
+        ProductDto product,
+        String error
+) {
+
+    public static ProductImportRow accepted(long line, ProductDto product) {
+        return new ProductImportRow(line, product, null);
+    }
+
+    public static ProductImportRow rejected(long line, String error) {
+        return new ProductImportRow(line, null, error);
+    }
+}
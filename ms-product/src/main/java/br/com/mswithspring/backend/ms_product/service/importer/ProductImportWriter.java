@@ -0,0 +1,71 @@
+package br.com.mswithspring.backend.ms_product.service.importer;
+
+import br.com.mswithspring.backend.ms_product.config.CacheConfig;
+import br.com.mswithspring.backend.ms_product.event.ProductsChangedEvent;
+import br.com.mswithspring.backend.ms_product.model.dto.ProductDto;
+import br.com.mswithspring.backend.ms_product.model.entity.Product;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+@Component
+public class ProductImportWriter {
+
+    private static final String INSERT_SQL = "INSERT INTO tb_products (id, name, description, price, updated_at) VALUES (?, ?, ?, ?, CURRENT_TIMESTAMP)";
+    private static final String ALLOCATE_IDS_SQL = "SELECT nextval('" + Product.ID_SEQUENCE + "') FROM generate_series(1, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    public ProductImportWriter(JdbcTemplate jdbcTemplate, ApplicationEventPublisher eventPublisher) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Transactional
+    @CacheEvict(cacheNames = CacheConfig.PRODUCT_LIST_CACHE, allEntries = true)
+    public List<Long> insert(List<ProductDto> products) {
+        List<Long> ids = allocateIds(products.size());
+        jdbcTemplate.batchUpdate(INSERT_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                ProductDto product = products.get(i);
+                ps.setLong(1, ids.get(i));
+                ps.setString(2, product.name());
+                ps.setString(3, product.description());
+                ps.setBigDecimal(4, product.price());
+            }
+
+            @Override
+            public int getBatchSize() {
+                return products.size();
+            }
+        });
+        eventPublisher.publishEvent(new ProductsChangedEvent(ids, ProductsChangedEvent.ChangeType.CREATED));
+        return ids;
+    }
+
+    // Mesma semântica do otimizador pooled do Hibernate: cada nextval reserva o bloco (hi - allocationSize, hi].
+    private List<Long> allocateIds(int count) {
+        List<Long> ids = new ArrayList<>(count);
+        while (ids.size() < count) {
+            int blocks = (count - ids.size() + Product.ID_ALLOCATION_SIZE - 1) / Product.ID_ALLOCATION_SIZE;
+            for (Long hi : jdbcTemplate.queryForList(ALLOCATE_IDS_SQL, Long.class, blocks)) {
+                for (long id = Math.max(1, hi - Product.ID_ALLOCATION_SIZE + 1); id <= hi && ids.size() < count; id++) {
+                    ids.add(id);
+                }
+            }
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,37 @@
+package br.com.mswithspring.backend.ms_product.service.suggestion;
+
+import java.text.Normalizer;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+public final class ProductNameNormalizer {
+
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private ProductNameNormalizer() {
+    }
+
+    public static String normalize(String value) {
+        if (value == null) {
+            return "";
+        }
+        String withoutAccents = COMBINING_MARKS.matcher(Normalizer.normalize(value, Normalizer.Form.NFD)).replaceAll("");
+        return SEPARATORS.matcher(withoutAccents.toLowerCase(Locale.ROOT)).replaceAll(" ").strip();
+    }
+
+    public static Set<String> indexKeys(String name) {
+        String normalized = normalize(name);
+        Set<String> keys = new LinkedHashSet<>();
+        if (normalized.isEmpty()) {
+            return keys;
+        }
+        keys.add(normalized);
+        for (int index = normalized.indexOf(' '); index >= 0; index = normalized.indexOf(' ', index + 1)) {
+            keys.add(normalized.substring(index + 1));
+        }
+        return keys;
+    }
+}
@@ -0,0 +1,199 @@
+package br.com.mswithspring.backend.ms_product.service.suggestion;
+
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+public class ProductNameTrie {
+
+    private static final char[] NO_KEYS = new char[0];
+    private static final Node[] NO_CHILDREN = new Node[0];
+    private static final long[] NO_IDS = new long[0];
+
+    private static final int OBJECT_HEADER_BYTES = 12;
+    private static final int REFERENCE_BYTES = 4;
+    private static final int ARRAY_HEADER_BYTES = 16;
+
+    private Node root = new Node();
+    private int keyCount;
+
+    public void insert(String key, long id) {
+        Node node = root;
+        for (int i = 0; i < key.length(); i++) {
+            node = node.childOrCreate(key.charAt(i));
+        }
+        if (node.addId(id)) {
+            keyCount++;
+        }
+    }
+
+    public void remove(String key, long id) {
+        Node[] path = new Node[key.length() + 1];
+        path[0] = root;
+        for (int i = 0; i < key.length(); i++) {
+            Node child = path[i].child(key.charAt(i));
+            if (child == null) {
+                return;
+            }
+            path[i + 1] = child;
+        }
+        if (!path[key.length()].removeId(id)) {
+            return;
+        }
+        keyCount--;
+        for (int i = key.length(); i > 0 && path[i].isEmpty(); i--) {
+            path[i - 1].removeChild(key.charAt(i - 1));
+        }
+    }
+
+    public Set<Long> findByPrefix(String prefix, int limit) {
+        Set<Long> ids = new LinkedHashSet<>();
+        Node node = root;
+        for (int i = 0; i < prefix.length() && node != null; i++) {
+            node = node.child(prefix.charAt(i));
+        }
+        if (node != null) {
+            collect(node, limit, ids);
+        }
+        return ids;
+    }
+
+    public void clear() {
+        root = new Node();
+        keyCount = 0;
+    }
+
+    public int keyCount() {
+        return keyCount;
+    }
+
+    public long nodeCount() {
+        return root.countNodes();
+    }
+
+    public long estimatedBytes() {
+        return root.estimateBytes();
+    }
+
+    private void collect(Node node, int limit, Set<Long> ids) {
+        for (long id : node.ids) {
+            if (ids.size() >= limit) {
+                return;
+            }
+            ids.add(id);
+        }
+        for (Node child : node.children) {
+            if (ids.size() >= limit) {
+                return;
+            }
+            collect(child, limit, ids);
+        }
+    }
+
+    public static long align(long bytes) {
+        return (bytes + 7) & ~7L;
+    }
+
+    private static final class Node {
+
+        private char[] keys = NO_KEYS;
+        private Node[] children = NO_CHILDREN;
+        private long[] ids = NO_IDS;
+
+        Node child(char key) {
+            int index = Arrays.binarySearch(keys, key);
+            return index >= 0 ? children[index] : null;
+        }
+
+        Node childOrCreate(char key) {
+            int index = Arrays.binarySearch(keys, key);
+            if (index >= 0) {
+                return children[index];
+            }
+            int insertAt = -index - 1;
+            Node child = new Node();
+            char[] newKeys = new char[keys.length + 1];
+            Node[] newChildren = new Node[children.length + 1];
+            System.arraycopy(keys, 0, newKeys, 0, insertAt);
+            System.arraycopy(children, 0, newChildren, 0, insertAt);
+            newKeys[insertAt] = key;
+            newChildren[insertAt] = child;
+            System.arraycopy(keys, insertAt, newKeys, insertAt + 1, keys.length - insertAt);
+            System.arraycopy(children, insertAt, newChildren, insertAt + 1, children.length - insertAt);
+            keys = newKeys;
+            children = newChildren;
+            return child;
+        }
+
+        void removeChild(char key) {
+            int index = Arrays.binarySearch(keys, key);
+            if (index < 0) {
+                return;
+            }
+            if (keys.length == 1) {
+                keys = NO_KEYS;
+                children = NO_CHILDREN;
+                return;
+            }
+            char[] newKeys = new char[keys.length - 1];
+            Node[] newChildren = new Node[children.length - 1];
+            System.arraycopy(keys, 0, newKeys, 0, index);
+            System.arraycopy(children, 0, newChildren, 0, index);
+            System.arraycopy(keys, index + 1, newKeys, index, keys.length - index - 1);
+            System.arraycopy(children, index + 1, newChildren, index, children.length - index - 1);
+            keys = newKeys;
+            children = newChildren;
+        }
+
+        boolean addId(long id) {
+            for (long existing : ids) {
+                if (existing == id) {
+                    return false;
+                }
+            }
+            ids = Arrays.copyOf(ids, ids.length + 1);
+            ids[ids.length - 1] = id;
+            return true;
+        }
+
+        boolean removeId(long id) {
+            for (int i = 0; i < ids.length; i++) {
+                if (ids[i] == id) {
+                    long[] newIds = new long[ids.length - 1];
+                    System.arraycopy(ids, 0, newIds, 0, i);
+                    System.arraycopy(ids, i + 1, newIds, i, ids.length - i - 1);
+                    ids = newIds.length == 0 ? NO_IDS : newIds;
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        boolean isEmpty() {
+            return keys.length == 0 && ids.length == 0;
+        }
+
+        long countNodes() {
+            long count = 1;
+            for (Node child : children) {
+                count += child.countNodes();
+            }
+            return count;
+        }
+
+        long estimateBytes() {
+            long bytes = align(OBJECT_HEADER_BYTES + 3L * REFERENCE_BYTES);
+            if (keys.length > 0) {
+                bytes += align(ARRAY_HEADER_BYTES + 2L * keys.length)
+                        + align(ARRAY_HEADER_BYTES + (long) REFERENCE_BYTES * children.length);
+            }
+            if (ids.length > 0) {
+                bytes += align(ARRAY_HEADER_BYTES + 8L * ids.length);
+            }
+            for (Node child : children) {
+                bytes += child.estimateBytes();
+            }
+            return bytes;
+        }
+    }
+}
@@ -1,11 +1,14 @@
-INSERT INTO tb_products (name, description, price) VALUES
-('Smartphone X', 'Smartphone de última geração com câmera de alta resolução.', 1299.99),
-('Notebook Gamer Pro', 'Notebook potente para jogos e trabalho pesado.', 4500.00),
-('Fone de Ouvido Bluetooth', 'Fone sem fio com cancelamento de ruído e bateria de longa duração.', 250.50),
-('Smart TV 55 polegadas', 'TV 4K com sistema operacional inteligente e acesso a streaming.', 3200.00),
-('Webcam Full HD', 'Webcam para videochamadas com resolução 1080p e microfone embutido.', 120.00),
-('Smartwatch Fit Pro', 'Relógio inteligente com monitor de batimentos cardíacos e GPS integrado.', 799.90),
-('Mouse Sem Fio Ergonômico', 'Mouse confortável para uso prolongado, com bateria de longa duração.', 85.25),
-('Teclado Mecânico RGB', 'Teclado com switches táteis e iluminação RGB personalizável.', 399.00),
-('Câmera de Segurança IP', 'Câmera com visão noturna, detecção de movimento e acesso remoto.', 180.75),
-('Power Bank 20000mAh', 'Carregador portátil de alta capacidade para múltiplos dispositivos.', 150.00);
\ No newline at end of file
+INSERT INTO tb_products (id, name, description, price, updated_at) VALUES
+(1, 'Smartphone X', 'Smartphone de última geração com câmera de alta resolução.', 1299.99, CURRENT_TIMESTAMP),
+(2, 'Notebook Gamer Pro', 'Notebook potente para jogos e trabalho pesado.', 4500.00, CURRENT_TIMESTAMP),
+(3, 'Fone de Ouvido Bluetooth', 'Fone sem fio com cancelamento de ruído e bateria de longa duração.', 250.50, CURRENT_TIMESTAMP),
+(4, 'Smart TV 55 polegadas', 'TV 4K com sistema operacional inteligente e acesso a streaming.', 3200.00, CURRENT_TIMESTAMP),
+(5, 'Webcam Full HD', 'Webcam para videochamadas com resolução 1080p e microfone embutido.', 120.00, CURRENT_TIMESTAMP),
+(6, 'Smartwatch Fit Pro', 'Relógio inteligente com monitor de batimentos cardíacos e GPS integrado.', 799.90, CURRENT_TIMESTAMP),
+(7, 'Mouse Sem Fio Ergonômico', 'Mouse confortável para uso prolongado, com bateria de longa duração.', 85.25, CURRENT_TIMESTAMP),
+(8, 'Teclado Mecânico RGB', 'Teclado com switches táteis e iluminação RGB personalizável.', 399.00, CURRENT_TIMESTAMP),
+(9, 'Câmera de Segurança IP', 'Câmera com visão noturna, detecção de movimento e acesso remoto.', 180.75, CURRENT_TIMESTAMP),
+(10, 'Power Bank 20000mAh', 'Carregador portátil de alta capacidade para múltiplos dispositivos.', 150.00, CURRENT_TIMESTAMP);
+
+-- pooled optimizer (allocationSize 50): o próximo bloco de IDs gerado pelo Hibernate será 11..60
+ALTER SEQUENCE tb_products_seq RESTART WITH 60;
\ No newline at end of file
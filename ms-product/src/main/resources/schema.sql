@@ -0,0 +1,9 @@
+-- Executado após o ddl-auto do Hibernate (defer-datasource-initialization).
+ALTER TABLE tb_products ADD COLUMN IF NOT EXISTS search_vector tsvector
+    GENERATED ALWAYS AS (
+        setweight(to_tsvector('portuguese', coalesce(name, '')), 'A') ||
+        setweight(to_tsvector('portuguese', coalesce(description, '')), 'B')
+    ) STORED;
+
+CREATE INDEX IF NOT EXISTS idx_tb_products_search_vector ON tb_products USING GIN (search_vector);
+CREATE INDEX IF NOT EXISTS idx_tb_products_name_prefix ON tb_products (lower(name) text_pattern_ops);
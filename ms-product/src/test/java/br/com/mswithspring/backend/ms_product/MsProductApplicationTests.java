@@ -3,7 +3,7 @@ package br.com.mswithspring.backend.ms_product;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
 
-@SpringBootTest
+@SpringBootTest(properties = "ms-product.cache-invalidation.token=test-internal-token")
 class MsProductApplicationTests {
 
 	@Test
@@ -0,0 +1,48 @@
+package br.com.mswithspring.backend.ms_product.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.validation.BindValidationException;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.core.NestedExceptionUtils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+@DisplayName("Testes para CacheInvalidationProperties")
+class CacheInvalidationPropertiesTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withUserConfiguration(TestConfig.class);
+
+    @Test
+    @DisplayName("Deve impedir a inicialização quando a invalidação estiver habilitada sem token")
+    void shouldFailStartupWhenEnabledWithoutToken() {
+        contextRunner.withPropertyValues("ms-product.cache-invalidation.token=")
+                .run(context -> {
+                    Throwable cause = NestedExceptionUtils.getMostSpecificCause(context.getStartupFailure());
+
+                    assertInstanceOf(BindValidationException.class, cause);
+                    assertTrue(cause.getMessage().contains("deve ser informado quando a invalidação de cache estiver habilitada"));
+                });
+    }
+
+    @Test
+    @DisplayName("Deve inicializar sem token quando a invalidação estiver desabilitada")
+    void shouldAllowMissingTokenWhenDisabled() {
+        contextRunner.withPropertyValues("ms-product.cache-invalidation.enabled=false")
+                .run(context -> assertNull(context.getStartupFailure()));
+    }
+
+    @Test
+    @DisplayName("Deve inicializar quando o token for informado")
+    void shouldBindConfiguredToken() {
+        contextRunner.withPropertyValues("ms-product.cache-invalidation.token=segredo")
+                .run(context -> assertEquals("segredo", context.getBean(CacheInvalidationProperties.class).token()));
+    }
+
+    @EnableConfigurationProperties(CacheInvalidationProperties.class)
+    static class TestConfig {
+    }
+}
@@ -1,8 +1,22 @@
 package br.com.mswithspring.backend.ms_product.controller;
 
+import br.com.mswithspring.backend.ms_product.exception.ProductExportRejectedException;
 import br.com.mswithspring.backend.ms_product.exception.ProductNotFoundException;
+import br.com.mswithspring.backend.ms_product.model.dto.ProductBulkItemDto;
+import br.com.mswithspring.backend.ms_product.model.dto.ProductBulkResultDto;
 import br.com.mswithspring.backend.ms_product.model.dto.ProductDto;
+import br.com.mswithspring.backend.ms_product.model.dto.ProductPageDto;
+import br.com.mswithspring.backend.ms_product.model.dto.ProductSearchHitDto;
+import br.com.mswithspring.backend.ms_product.model.dto.ProductSearchPageDto;
+import br.com.mswithspring.backend.ms_product.model.dto.ProductSuggestionDto;
+import br.com.mswithspring.backend.ms_product.model.dto.ProductSummaryDto;
+import br.com.mswithspring.backend.ms_product.model.dto.ProductSummaryPageDto;
+import br.com.mswithspring.backend.ms_product.service.ProductBulkService;
+import br.com.mswithspring.backend.ms_product.service.ProductExportService;
+import br.com.mswithspring.backend.ms_product.service.ProductSearchService;
 import br.com.mswithspring.backend.ms_product.service.ProductService;
+import br.com.mswithspring.backend.ms_product.service.ProductSuggestionService;
+import br.com.mswithspring.backend.ms_product.service.exporter.ProductExport;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -11,18 +25,28 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
+import org.springframework.jdbc.CannotGetJdbcConnectionException;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.CannotCreateTransactionException;
 // import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 // import org.springframework.web.context.WebApplicationContext;
 
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
 import java.util.Arrays;
 //import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -40,6 +64,18 @@ class ProductControllerTest {
     @MockBean
     private ProductService productService;
 
+    @MockBean
+    private ProductBulkService productBulkService;
+
+    @MockBean
+    private ProductExportService productExportService;
+
+    @MockBean
+    private ProductSearchService productSearchService;
+
+    @MockBean
+    private ProductSuggestionService productSuggestionService;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -69,6 +105,162 @@ class ProductControllerTest {
                 .andExpect(jsonPath("$[1].name").value("Notebook Gamer"));
     }
 
+    @Test
+    @DisplayName("Deve retornar uma página de produtos com o cursor da próxima página")
+    void shouldReturnProductPage() throws Exception {
+        given(productService.findPage(0L, 2)).willReturn(new ProductPageDto(Arrays.asList(productDto1, productDto2), 2L));
+
+        mockMvc.perform(get("/products/page")
+                        .param("afterId", "0")
+                        .param("limit", "2")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(2))
+                .andExpect(jsonPath("$.items[0].name").value("Smartphone X"))
+                .andExpect(jsonPath("$.nextAfterId").value(2));
+    }
+
+    @Test
+    @DisplayName("Deve retornar 400 Bad Request quando o limite da página for negativo")
+    void shouldReturnBadRequestWhenPageLimitIsNegative() throws Exception {
+        mockMvc.perform(get("/products/page")
+                        .param("limit", "-1")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andDo(print())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("Validation Failed"));
+    }
+
+    @Test
+    @DisplayName("Deve retornar uma página de resumos de produtos sem descrição")
+    void shouldReturnProductSummaryPage() throws Exception {
+        ProductSummaryDto summary = new ProductSummaryDto(1L, "Smartphone X", new BigDecimal("1299.99"));
+        given(productService.findSummaryPage(null, null)).willReturn(new ProductSummaryPageDto(List.of(summary), null));
+
+        mockMvc.perform(get("/products/summaries")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].id").value(1))
+                .andExpect(jsonPath("$.items[0].name").value("Smartphone X"))
+                .andExpect(jsonPath("$.items[0].description").doesNotExist())
+                .andExpect(jsonPath("$.nextAfterId").isEmpty());
+    }
+
+    @Test
+    @DisplayName("Deve transmitir todos os produtos em NDJSON")
+    @SuppressWarnings("unchecked")
+    void shouldStreamAllProductsAsNdjson() throws Exception {
+        doAnswer(invocation -> {
+            Consumer<ProductDto> consumer = invocation.getArgument(0);
+            consumer.accept(productDto1);
+            consumer.accept(productDto2);
+            return null;
+        }).when(productService).streamAll(any(Consumer.class));
+
+        MvcResult mvcResult = mockMvc.perform(get("/products/stream"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andExpect(content().string(
+                        objectMapper.writeValueAsString(productDto1) + "\n" + objectMapper.writeValueAsString(productDto2) + "\n"));
+    }
+
+    @Test
+    @DisplayName("Deve buscar produtos por termo e faixa de preço com status 200 OK")
+    void shouldSearchProducts() throws Exception {
+        ProductSearchPageDto page = new ProductSearchPageDto(
+                List.of(new ProductSearchHitDto(1L, "Smartphone X", new BigDecimal("1299.99"), 1.5f)), "MS41OjE");
+
+        given(productSearchService.search("smart", new BigDecimal("100"), null, 5, null)).willReturn(page);
+
+        mockMvc.perform(get("/products/search")
+                        .param("q", "smart")
+                        .param("minPrice", "100")
+                        .param("limit", "5"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].name").value("Smartphone X"))
+                .andExpect(jsonPath("$.nextCursor").value("MS41OjE"));
+    }
+
+    @Test
+    @DisplayName("Deve retornar 400 Bad Request ao buscar com preço mínimo negativo")
+    void shouldReturnBadRequestWhenSearchMinPriceIsNegative() throws Exception {
+        mockMvc.perform(get("/products/search")
+                        .param("q", "smart")
+                        .param("minPrice", "-1"))
+                .andDo(print())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("Validation Failed"));
+    }
+
+    @Test
+    @DisplayName("Deve retornar sugestões de produtos pelo prefixo com status 200 OK")
+    void shouldReturnSuggestionsByPrefix() throws Exception {
+        given(productSuggestionService.suggest("cam", null)).willReturn(List.of(new ProductSuggestionDto(9L, "Câmera de Segurança IP")));
+
+        mockMvc.perform(get("/products/suggestions").param("prefix", "cam"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(9))
+                .andExpect(jsonPath("$[0].name").value("Câmera de Segurança IP"));
+    }
+
+    @Test
+    @DisplayName("Deve exportar os produtos alterados desde a data informada como anexo compactado")
+    void shouldExportProductsChangedSinceAsAttachment() throws Exception {
+        Instant changedSince = Instant.parse("2025-01-01T00:00:00Z");
+
+        given(productExportService.prepareExport("csv", changedSince)).willReturn(new ProductExport("products.csv.gz",
+                outputStream -> outputStream.write("conteudo".getBytes(StandardCharsets.UTF_8))));
+
+        MvcResult mvcResult = mockMvc.perform(get("/products/export")
+                        .param("format", "csv")
+                        .param("changedSince", "2025-01-01T00:00:00Z"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/gzip"))
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"products.csv.gz\""))
+                .andExpect(content().string("conteudo"));
+    }
+
+    @Test
+    @DisplayName("Deve liberar a vaga de exportação uma única vez ao concluir o processamento assíncrono")
+    void shouldReleaseExportSlotOnceWhenAsyncProcessingCompletes() throws Exception {
+        AtomicInteger releases = new AtomicInteger();
+        given(productExportService.prepareExport(null, null)).willReturn(new ProductExport("products.csv.gz",
+                outputStream -> outputStream.write("conteudo".getBytes(StandardCharsets.UTF_8)), releases::incrementAndGet));
+
+        MvcResult mvcResult = mockMvc.perform(get("/products/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk());
+        assertEquals(1, releases.get());
+    }
+
+    @Test
+    @DisplayName("Deve retornar 429 Too Many Requests quando o limite de exportações for atingido")
+    void shouldReturnTooManyRequestsWhenExportIsRejected() throws Exception {
+        given(productExportService.prepareExport(null, null)).willThrow(new ProductExportRejectedException(4));
+
+        mockMvc.perform(get("/products/export"))
+                .andDo(print())
+                .andExpect(status().isTooManyRequests())
+                .andExpect(jsonPath("$.error").value("Too Many Requests"));
+    }
+
     @Test
     @DisplayName("Deve retornar um produto pelo ID com status 200 OK")
     void shouldReturnProductById() throws Exception {
@@ -98,6 +290,32 @@ class ProductControllerTest {
                 .andExpect(jsonPath("$.message").value("Produto com ID " + nonExistentId + " não encontrado."));
     }
 
+    @Test
+    @DisplayName("Deve retornar 503 Service Unavailable quando não houver conexão disponível para abrir a transação")
+    void shouldReturnServiceUnavailableWhenTransactionCannotBeCreated() throws Exception {
+        given(productService.findById(anyLong())).willThrow(new CannotCreateTransactionException("Could not open JPA EntityManager for transaction"));
+
+        mockMvc.perform(get("/products/{id}", 1L)
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andDo(print())
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(jsonPath("$.error").value("Service Unavailable"))
+                .andExpect(jsonPath("$.message").value("Nenhuma conexão com o banco de dados disponível no momento. Tente novamente em instantes."));
+    }
+
+    @Test
+    @DisplayName("Deve retornar 503 Service Unavailable quando o pool de conexões JDBC estiver esgotado")
+    void shouldReturnServiceUnavailableWhenJdbcConnectionIsUnavailable() throws Exception {
+        given(productService.findAll()).willThrow(new CannotGetJdbcConnectionException("Connection is not available, request timed out after 2000ms."));
+
+        mockMvc.perform(get("/products")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andDo(print())
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(jsonPath("$.error").value("Service Unavailable"))
+                .andExpect(jsonPath("$.status").value("503"));
+    }
+
     @Test
     @DisplayName("Deve retornar 400 Bad Request quando o ID for negativo")
     void shouldReturnBadRequestWhenIdIsNegative() throws Exception {
@@ -112,6 +330,34 @@ class ProductControllerTest {
                 .andExpect(jsonPath("$.details").exists());
     }
 
+    @Test
+    @DisplayName("Deve retornar os produtos encontrados em lote indexados pelo ID com status 200 OK")
+    void shouldReturnProductsByIdsInBatch() throws Exception {
+        List<Long> ids = List.of(1L, 2L);
+
+        given(productService.findAllById(ids)).willReturn(Map.of(1L, productDto1, 2L, productDto2));
+
+        mockMvc.perform(post("/products/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(ids)))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$['1'].name").value("Smartphone X"))
+                .andExpect(jsonPath("$['2'].name").value("Notebook Gamer"));
+    }
+
+    @Test
+    @DisplayName("Deve retornar 400 Bad Request ao buscar produtos em lote com lista vazia")
+    void shouldReturnBadRequestWhenBatchIdsAreEmpty() throws Exception {
+        mockMvc.perform(post("/products/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[]"))
+                .andDo(print())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("Validation Failed"));
+    }
+
     @Test
     @DisplayName("Deve criar um novo produto com status 201 Created")
     void shouldCreateNewProduct() throws Exception {
@@ -172,6 +418,52 @@ class ProductControllerTest {
                 .andExpect(jsonPath("$.details").exists());
     }
 
+    @Test
+    @DisplayName("Deve criar e atualizar produtos em lote com status 200 OK")
+    void shouldBulkUpsertProducts() throws Exception {
+        List<ProductBulkItemDto> items = List.of(new ProductBulkItemDto(null, productDto1), new ProductBulkItemDto(2L, productDto2));
+
+        given(productBulkService.upsert(items)).willReturn(new ProductBulkResultDto(1, 1, 0, List.of()));
+
+        mockMvc.perform(post("/products/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(items)))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.created").value(1))
+                .andExpect(jsonPath("$.updated").value(1))
+                .andExpect(jsonPath("$.notFoundIds.length()").value(0));
+    }
+
+    @Test
+    @DisplayName("Deve retornar 400 Bad Request ao enviar item inválido no lote")
+    void shouldReturnBadRequestWhenBulkItemIsInvalid() throws Exception {
+        List<ProductBulkItemDto> items = List.of(new ProductBulkItemDto(null, new ProductDto("", "Descrição.", new BigDecimal("10.00"))));
+
+        mockMvc.perform(post("/products/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(items)))
+                .andDo(print())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("Validation Failed"));
+    }
+
+    @Test
+    @DisplayName("Deve deletar produtos em lote e informar os IDs não encontrados")
+    void shouldBulkDeleteProducts() throws Exception {
+        List<Long> ids = List.of(1L, 99L);
+
+        given(productBulkService.deleteAllById(ids)).willReturn(new ProductBulkResultDto(0, 0, 1, List.of(99L)));
+
+        mockMvc.perform(post("/products/bulk-delete")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(ids)))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.deleted").value(1))
+                .andExpect(jsonPath("$.notFoundIds[0]").value(99));
+    }
+
     @Test
     @DisplayName("Deve atualizar um produto existente com status 200 OK")
     void shouldUpdateExistingProduct() throws Exception {
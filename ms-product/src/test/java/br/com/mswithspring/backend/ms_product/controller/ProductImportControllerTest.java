@@ -0,0 +1,76 @@
+package br.com.mswithspring.backend.ms_product.controller;
+
+import br.com.mswithspring.backend.ms_product.exception.ProductImportJobNotFoundException;
+import br.com.mswithspring.backend.ms_product.exception.ProductImportRejectedException;
+import br.com.mswithspring.backend.ms_product.model.dto.ProductImportJobDto;
+import br.com.mswithspring.backend.ms_product.service.ProductImportService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+
+@WebMvcTest(ProductImportController.class)
+@DisplayName("Testes para ProductImportController")
+class ProductImportControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private ProductImportService productImportService;
+
+    @Test
+    @DisplayName("Deve aceitar o upload de um arquivo de importação com status 202 Accepted")
+    void shouldAcceptImportUpload() throws Exception {
+        MockMultipartFile file = new MockMultipartFile("file", "products.csv", "text/csv",
+                "name,description,price\nSmartphone X,,1299.99\n".getBytes());
+
+        given(productImportService.importUpload(any(), eq("csv"))).willReturn(queuedJob());
+
+        mockMvc.perform(multipart("/products/import").file(file).param("format", "csv"))
+                .andDo(print())
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.jobId").value("job-1"))
+                .andExpect(jsonPath("$.status").value("QUEUED"));
+    }
+
+    @Test
+    @DisplayName("Deve retornar 429 Too Many Requests quando o limite de importações for atingido")
+    void shouldReturnTooManyRequestsWhenImportIsRejected() throws Exception {
+        given(productImportService.importLocalFile("products.csv", null)).willThrow(new ProductImportRejectedException(2));
+
+        mockMvc.perform(post("/products/import/local").param("path", "products.csv"))
+                .andDo(print())
+                .andExpect(status().isTooManyRequests())
+                .andExpect(jsonPath("$.error").value("Too Many Requests"));
+    }
+
+    @Test
+    @DisplayName("Deve retornar 404 Not Found para importação inexistente")
+    void shouldReturnNotFoundForUnknownImportJob() throws Exception {
+        given(productImportService.findJob("unknown")).willThrow(new ProductImportJobNotFoundException("unknown"));
+
+        mockMvc.perform(get("/products/import/{jobId}", "unknown"))
+                .andDo(print())
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.message").value("Importação com ID unknown não encontrada."));
+    }
+
+    private ProductImportJobDto queuedJob() {
+        return new ProductImportJobDto("job-1", "CSV", ProductImportJobDto.Status.QUEUED, 42, 0, 0, 0, 0,
+                List.of(), false, null, null, null);
+    }
+}
@@ -0,0 +1,115 @@
+package br.com.mswithspring.backend.ms_product.event;
+
+import br.com.mswithspring.backend.ms_product.config.CacheInvalidationProperties;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cloud.client.DefaultServiceInstance;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.discovery.DiscoveryClient;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes para ProductCacheInvalidationNotifier")
+class ProductCacheInvalidationNotifierTest {
+
+    private static final String PATH = "/internal/cache/products/invalidate";
+
+    @Mock
+    private DiscoveryClient discoveryClient;
+
+    private HttpServer server;
+    private final List<String> receivedBodies = new CopyOnWriteArrayList<>();
+    private final List<String> receivedTokens = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext(PATH, exchange -> {
+            receivedBodies.add(new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8));
+            receivedTokens.add(exchange.getRequestHeaders().getFirst(CacheInvalidationProperties.TOKEN_HEADER));
+            exchange.sendResponseHeaders(204, -1);
+            exchange.close();
+        });
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    @DisplayName("Deve enviar os IDs alterados com o token interno para todas as instâncias do MS-ORDER")
+    void shouldNotifyEveryOrderInstanceWithToken() {
+        when(discoveryClient.getInstances("MS-ORDER")).thenReturn(List.of(instance("ms-order-1"), instance("ms-order-2")));
+
+        notifier(true).onProductsChanged(new ProductsChangedEvent(List.of(1L, 2L), ProductsChangedEvent.ChangeType.UPDATED));
+
+        assertEquals(List.of("[1,2]", "[1,2]"), receivedBodies);
+        assertEquals(List.of("segredo", "segredo"), receivedTokens);
+    }
+
+    @Test
+    @DisplayName("Deve continuar notificando as demais instâncias quando uma delas estiver inacessível")
+    void shouldKeepNotifyingWhenOneInstanceFails() {
+        ServiceInstance unreachable = new DefaultServiceInstance("ms-order-0", "MS-ORDER", "localhost", unusedPort(), false);
+        when(discoveryClient.getInstances("MS-ORDER")).thenReturn(List.of(unreachable, instance("ms-order-1")));
+
+        notifier(true).onProductsChanged(ProductsChangedEvent.of(3L, ProductsChangedEvent.ChangeType.DELETED));
+
+        assertEquals(List.of("[3]"), receivedBodies);
+    }
+
+    @Test
+    @DisplayName("Não deve notificar o MS-ORDER quando produtos forem apenas criados")
+    void shouldSkipNotificationForCreatedProducts() {
+        notifier(true).onProductsChanged(ProductsChangedEvent.of(1L, ProductsChangedEvent.ChangeType.CREATED));
+
+        verifyNoInteractions(discoveryClient);
+        assertTrue(receivedBodies.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Não deve notificar o MS-ORDER quando a invalidação estiver desabilitada")
+    void shouldSkipNotificationWhenDisabled() {
+        notifier(false).onProductsChanged(ProductsChangedEvent.of(1L, ProductsChangedEvent.ChangeType.UPDATED));
+
+        verifyNoInteractions(discoveryClient);
+        assertTrue(receivedBodies.isEmpty());
+    }
+
+    private ProductCacheInvalidationNotifier notifier(boolean enabled) {
+        CacheInvalidationProperties properties = new CacheInvalidationProperties(enabled, "MS-ORDER", PATH,
+                Duration.ofSeconds(1), Duration.ofSeconds(1), "segredo");
+        return new ProductCacheInvalidationNotifier(discoveryClient, properties);
+    }
+
+    private ServiceInstance instance(String instanceId) {
+        return new DefaultServiceInstance(instanceId, "MS-ORDER", "localhost", server.getAddress().getPort(), false);
+    }
+
+    private static int unusedPort() {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
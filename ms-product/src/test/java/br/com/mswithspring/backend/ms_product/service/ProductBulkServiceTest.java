@@ -0,0 +1,112 @@
+package br.com.mswithspring.backend.ms_product.service;
+
+import br.com.mswithspring.backend.ms_product.config.ProductBulkProperties;
+import br.com.mswithspring.backend.ms_product.event.ProductsChangedEvent;
+import br.com.mswithspring.backend.ms_product.model.dto.ProductBulkItemDto;
+import br.com.mswithspring.backend.ms_product.model.dto.ProductBulkResultDto;
+import br.com.mswithspring.backend.ms_product.model.dto.ProductDto;
+import br.com.mswithspring.backend.ms_product.model.entity.Product;
+import br.com.mswithspring.backend.ms_product.repository.ProductRepository;
+import br.com.mswithspring.backend.ms_product.service.mapper.ProductMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes para ProductBulkService")
+class ProductBulkServiceTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private ProductMapper productMapper;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ProductBulkService productBulkService;
+
+    private ProductDto productDto1;
+    private ProductDto productDto2;
+
+    @BeforeEach
+    void setUp() {
+        productBulkService = new ProductBulkService(productRepository, productMapper, eventPublisher,
+                new ProductBulkProperties(2, 3), transactionManager);
+        productDto1 = new ProductDto("Smartphone X", "Smartphone de última geração.", new BigDecimal("1299.99"));
+        productDto2 = new ProductDto("Notebook Gamer", "Notebook potente para jogos.", new BigDecimal("4500.00"));
+    }
+
+    @Test
+    @DisplayName("Deve criar, atualizar e reportar IDs inexistentes em transações por lote")
+    void shouldUpsertProductsInChunkedTransactions() {
+        Product newProduct = new Product(null, "Smartphone X", "Smartphone de última geração.", new BigDecimal("1299.99"));
+        Product existingProduct = new Product(2L, "Notebook", "Descrição antiga.", new BigDecimal("4000.00"));
+        when(productMapper.toEntity(productDto1)).thenReturn(Optional.of(newProduct));
+        when(productRepository.findAllById(List.of(2L))).thenReturn(List.of(existingProduct));
+        when(productRepository.findAllById(List.of(99L))).thenReturn(Collections.emptyList());
+        when(productRepository.saveAll(any())).thenAnswer(invocation -> {
+            List<Product> products = invocation.getArgument(0);
+            products.forEach(product -> product.setId(11L));
+            return products;
+        });
+
+        ProductBulkResultDto result = productBulkService.upsert(List.of(
+                new ProductBulkItemDto(null, productDto1),
+                new ProductBulkItemDto(2L, productDto2),
+                new ProductBulkItemDto(99L, productDto2)));
+
+        assertEquals(1, result.created());
+        assertEquals(1, result.updated());
+        assertEquals(List.of(99L), result.notFoundIds());
+        verify(productMapper, times(1)).updateEntityFromDto(existingProduct, productDto2);
+        verify(transactionManager, times(2)).commit(any());
+        verify(eventPublisher, times(1)).publishEvent(new ProductsChangedEvent(List.of(11L), ProductsChangedEvent.ChangeType.CREATED));
+        verify(eventPublisher, times(1)).publishEvent(new ProductsChangedEvent(List.of(2L), ProductsChangedEvent.ChangeType.UPDATED));
+    }
+
+    @Test
+    @DisplayName("Deve deletar em lote apenas os IDs existentes")
+    void shouldDeleteOnlyExistingIdsInBatch() {
+        when(productRepository.findExistingIds(List.of(1L, 99L))).thenReturn(List.of(1L));
+
+        ProductBulkResultDto result = productBulkService.deleteAllById(List.of(1L, 99L, 1L));
+
+        assertEquals(1, result.deleted());
+        assertEquals(List.of(99L), result.notFoundIds());
+        verify(productRepository, times(1)).deleteAllByIdInBatch(List.of(1L));
+        verify(eventPublisher, times(1)).publishEvent(new ProductsChangedEvent(List.of(1L), ProductsChangedEvent.ChangeType.DELETED));
+    }
+
+    @Test
+    @DisplayName("Deve lançar IllegalArgumentException quando o lote exceder o máximo de itens")
+    void shouldThrowIllegalArgumentExceptionWhenBatchExceedsMaxItems() {
+        IllegalArgumentException thrown = assertThrows(IllegalArgumentException.class, () -> {
+            productBulkService.deleteAllById(List.of(1L, 2L, 3L, 4L));
+        });
+
+        assertEquals("A operação em lote aceita no máximo 3 itens.", thrown.getMessage());
+
+        verifyNoInteractions(productRepository);
+        verifyNoInteractions(transactionManager);
+    }
+}
@@ -0,0 +1,127 @@
+package br.com.mswithspring.backend.ms_product.service;
+
+import br.com.mswithspring.backend.ms_product.config.ProductExportProperties;
+import br.com.mswithspring.backend.ms_product.exception.ProductExportRejectedException;
+import br.com.mswithspring.backend.ms_product.model.dto.ProductExportDto;
+import br.com.mswithspring.backend.ms_product.repository.ProductRepository;
+import br.com.mswithspring.backend.ms_product.service.exporter.ProductExport;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes para ProductExportService")
+class ProductExportServiceTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ProductExportService productExportService;
+
+    private ProductExportDto product1;
+    private ProductExportDto product2;
+
+    @BeforeEach
+    void setUp() {
+        productExportService = new ProductExportService(productRepository, new ObjectMapper().findAndRegisterModules(),
+                new ProductExportProperties(1, 512), transactionManager);
+        product1 = new ProductExportDto(1L, "Smartphone X", "Câmera 50MP, \"pro\"", new BigDecimal("1299.99"), Instant.parse("2025-01-02T10:15:30Z"));
+        product2 = new ProductExportDto(2L, "Notebook Gamer", null, new BigDecimal("4500.00"), Instant.parse("2025-01-03T08:00:00Z"));
+    }
+
+    @Test
+    @DisplayName("Deve exportar todos os produtos em CSV compactado com gzip")
+    void shouldExportAllProductsAsGzipCsv() throws IOException {
+        when(productRepository.streamExportDtos()).thenReturn(Stream.of(product1, product2));
+
+        ProductExport export = productExportService.prepareExport("csv", null);
+        String content = gunzip(export);
+
+        assertTrue(export.fileName().endsWith(".csv.gz"));
+        assertEquals("""
+                id,name,description,price,updatedAt
+                1,Smartphone X,"Câmera 50MP, ""pro\""",1299.99,2025-01-02T10:15:30Z
+                2,Notebook Gamer,,4500.00,2025-01-03T08:00:00Z
+                """, content);
+        verify(productRepository, never()).streamExportDtosChangedSince(any());
+    }
+
+    @Test
+    @DisplayName("Deve exportar apenas os produtos alterados desde a data informada em NDJSON")
+    void shouldExportChangedProductsAsGzipNdjson() throws IOException {
+        Instant changedSince = Instant.parse("2025-01-03T00:00:00Z");
+        when(productRepository.streamExportDtosChangedSince(changedSince)).thenReturn(Stream.of(product2));
+
+        ProductExport export = productExportService.prepareExport(null, changedSince);
+        String content = gunzip(export);
+
+        assertTrue(export.fileName().endsWith(".ndjson.gz"));
+        assertEquals(1, content.lines().count());
+        assertTrue(content.startsWith("{\"id\":2,\"name\":\"Notebook Gamer\""));
+        verify(productRepository, never()).streamExportDtos();
+    }
+
+    @Test
+    @DisplayName("Deve lançar ProductExportRejectedException quando o limite de exportações simultâneas for atingido")
+    void shouldRejectExportWhenLimitIsReached() throws IOException {
+        ProductExport runningExport = productExportService.prepareExport("csv", null);
+
+        assertThrows(ProductExportRejectedException.class, () -> productExportService.prepareExport("csv", null));
+
+        when(productRepository.streamExportDtos()).thenReturn(Stream.empty());
+        runningExport.writeTo(new ByteArrayOutputStream());
+        assertNotNull(productExportService.prepareExport("csv", null));
+    }
+
+    @Test
+    @DisplayName("Deve liberar a vaga uma única vez quando a exportação for abandonada antes do streaming")
+    void shouldReleaseSlotOnceWhenExportIsAbandoned() {
+        ProductExport abandonedExport = productExportService.prepareExport("csv", null);
+
+        abandonedExport.release();
+        abandonedExport.release();
+
+        assertNotNull(productExportService.prepareExport("csv", null));
+        assertThrows(ProductExportRejectedException.class, () -> productExportService.prepareExport("csv", null));
+    }
+
+    @Test
+    @DisplayName("Deve lançar IllegalArgumentException para formato de exportação não suportado")
+    void shouldThrowIllegalArgumentExceptionForUnsupportedFormat() {
+        IllegalArgumentException thrown = assertThrows(IllegalArgumentException.class, () -> {
+            productExportService.prepareExport("xml", null);
+        });
+
+        assertEquals("Formato de exportação 'xml' não suportado. Use 'csv' ou 'ndjson'.", thrown.getMessage());
+        verifyNoInteractions(productRepository);
+    }
+
+    private String gunzip(ProductExport export) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        export.writeTo(outputStream);
+        try (GZIPInputStream inputStream = new GZIPInputStream(new ByteArrayInputStream(outputStream.toByteArray()))) {
+            return new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package br.com.mswithspring.backend.ms_product.service;
+
+import br.com.mswithspring.backend.ms_product.config.ProductImportProperties;
+import br.com.mswithspring.backend.ms_product.exception.ProductImportRejectedException;
+import br.com.mswithspring.backend.ms_product.model.dto.ProductDto;
+import br.com.mswithspring.backend.ms_product.model.dto.ProductImportJobDto;
+import br.com.mswithspring.backend.ms_product.service.importer.ProductImportReader;
+import br.com.mswithspring.backend.ms_product.service.importer.ProductImportWriter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes para ProductImportService")
+class ProductImportServiceTest {
+
+    @Mock
+    private ProductImportWriter productImportWriter;
+
+    @TempDir
+    private Path baseDir;
+
+    private ValidatorFactory validatorFactory;
+    private ExecutorService executor;
+    private ProductImportService productImportService;
+
+    @BeforeEach
+    void setUp() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+        productImportService = new ProductImportService(productImportWriter, validatorFactory.getValidator(), new ObjectMapper(),
+                new ProductImportProperties(2, 1, 1, 1, 10, Duration.ofMinutes(1), baseDir.toString()), executor);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+        validatorFactory.close();
+    }
+
+    @Test
+    @DisplayName("Deve importar CSV em lotes e reportar as linhas inválidas")
+    void shouldImportCsvInBatchesAndReportInvalidRows() throws Exception {
+        Files.writeString(baseDir.resolve("products.csv"), """
+                name,description,price
+                Smartphone X,"Smartphone de última geração, 128GB.",1299.99
+                Notebook Gamer,,4500.00
+                ab,Nome curto,10.00
+                Fone Bluetooth,Preço inválido,abc
+                Teclado Mecânico,"Switches ""blue""",350.00
+                """);
+        when(productImportWriter.insert(anyList())).thenAnswer(invocation -> {
+            List<ProductDto> batch = invocation.getArgument(0);
+            return LongStream.rangeClosed(1, batch.size()).boxed().toList();
+        });
+
+        ProductImportJobDto job = awaitCompletion(productImportService.importLocalFile("products.csv", null));
+
+        assertEquals(ProductImportJobDto.Status.COMPLETED, job.status());
+        assertEquals(5, job.rowsRead());
+        assertEquals(3, job.imported());
+        assertEquals(2, job.rejected());
+        assertEquals(1, job.errors().size());
+        assertEquals(4, job.errors().get(0).line());
+        assertTrue(job.errorsTruncated());
+        assertEquals(job.totalBytes(), job.bytesRead());
+        verify(productImportWriter, times(1)).insert(List.of(
+                new ProductDto("Smartphone X", "Smartphone de última geração, 128GB.", new BigDecimal("1299.99")),
+                new ProductDto("Notebook Gamer", null, new BigDecimal("4500.00"))));
+        verify(productImportWriter, times(1)).insert(List.of(
+                new ProductDto("Teclado Mecânico", "Switches \"blue\"", new BigDecimal("350.00"))));
+    }
+
+    @Test
+    @DisplayName("Deve marcar a importação NDJSON como falha quando a gravação de um lote falhar")
+    void shouldFailNdjsonImportWhenWriterFails() throws Exception {
+        Files.writeString(baseDir.resolve("products.ndjson"), """
+                {"name":"Smartphone X","description":"Smartphone.","price":1299.99}
+                {"name":"Notebook Gamer","description":"Notebook.","price":4500.00}
+                """);
+        when(productImportWriter.insert(anyList())).thenThrow(new IllegalStateException("conexão perdida"));
+
+        ProductImportJobDto job = awaitCompletion(productImportService.importLocalFile("products.ndjson", null));
+
+        assertEquals(ProductImportJobDto.Status.FAILED, job.status());
+        assertEquals(0, job.imported());
+        assertTrue(job.message().contains("conexão perdida"));
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar a importação NDJSON quando uma linha exceder o tamanho máximo de registro")
+    void shouldRejectOversizedNdjsonLine() throws Exception {
+        Files.writeString(baseDir.resolve("products.ndjson"),
+                "{\"name\":\"Smartphone X\",\"description\":\"Smartphone.\",\"price\":1299.99}\n"
+                        + "{\"name\":\"" + "x".repeat(ProductImportReader.MAX_RECORD_LENGTH) + "\",\"price\":10.00}\n");
+
+        ProductImportJobDto job = awaitCompletion(productImportService.importLocalFile("products.ndjson", null));
+
+        assertEquals(ProductImportJobDto.Status.FAILED, job.status());
+        assertTrue(job.message().contains("O registro NDJSON da linha 2 excede 65536 caracteres."));
+        verifyNoInteractions(productImportWriter);
+    }
+
+    @Test
+    @DisplayName("Deve lançar IllegalArgumentException para caminho fora do diretório de importação")
+    void shouldRejectPathOutsideBaseDir() throws IOException {
+        Path outside = Files.createTempFile("products", ".csv");
+        try {
+            IllegalArgumentException thrown = assertThrows(IllegalArgumentException.class, () -> {
+                productImportService.importLocalFile("../" + outside.getFileName(), "csv");
+            });
+
+            assertTrue(thrown.getMessage().contains("não encontrado no diretório de importação"));
+            verifyNoInteractions(productImportWriter);
+        } finally {
+            Files.deleteIfExists(outside);
+        }
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar nova importação quando o limite de importações simultâneas for atingido")
+    void shouldRejectImportWhenConcurrencyLimitIsReached() throws Exception {
+        Files.writeString(baseDir.resolve("products.csv"), """
+                name,description,price
+                Smartphone X,Smartphone.,1299.99
+                """);
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(productImportWriter.insert(anyList())).thenAnswer(invocation -> {
+            writing.countDown();
+            release.await();
+            return List.of(1L);
+        });
+
+        ProductImportJobDto running = productImportService.importLocalFile("products.csv", null);
+        assertTrue(writing.await(10, TimeUnit.SECONDS));
+
+        ProductImportRejectedException thrown = assertThrows(ProductImportRejectedException.class,
+                () -> productImportService.importLocalFile("products.csv", null));
+        assertEquals("Já existem 1 importações em andamento. Tente novamente mais tarde.", thrown.getMessage());
+
+        release.countDown();
+        assertEquals(ProductImportJobDto.Status.COMPLETED, awaitCompletion(running).status());
+        ProductImportJobDto next = awaitCompletion(productImportService.importLocalFile("products.csv", null));
+        assertEquals(ProductImportJobDto.Status.COMPLETED, next.status());
+    }
+
+    private ProductImportJobDto awaitCompletion(ProductImportJobDto job) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        ProductImportJobDto current = job;
+        while (current.finishedAt() == null && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+            current = productImportService.findJob(job.jobId());
+        }
+        return current;
+    }
+}
@@ -0,0 +1,83 @@
+package br.com.mswithspring.backend.ms_product.service;
+
+import br.com.mswithspring.backend.ms_product.config.ProductSearchProperties;
+import br.com.mswithspring.backend.ms_product.exception.ProductSearchTimeoutException;
+import br.com.mswithspring.backend.ms_product.model.dto.ProductSearchPageDto;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+@DisplayName("Testes de integração para ProductSearchService com PostgreSQL")
+class ProductSearchServicePostgresTest {
+
+    private static final ProductSearchProperties PROPERTIES = new ProductSearchProperties(10, 50, 2, Duration.ofMillis(100));
+
+    private static EmbeddedPostgres postgres;
+    private static DataSource productsDataSource;
+    private static DataSource slowProductsDataSource;
+
+    @BeforeAll
+    static void startPostgres() throws IOException {
+        postgres = EmbeddedPostgres.builder().start();
+        JdbcTemplate admin = new JdbcTemplate(postgres.getPostgresDatabase());
+        admin.execute("CREATE DATABASE ms_product_db");
+        admin.execute("CREATE DATABASE ms_product_slow_db");
+
+        productsDataSource = postgres.getDatabase("postgres", "ms_product_db");
+        JdbcTemplate products = new JdbcTemplate(productsDataSource);
+        products.execute("CREATE TABLE tb_products (id BIGSERIAL PRIMARY KEY, name VARCHAR(255) NOT NULL, description TEXT, price NUMERIC(10, 2))");
+        new ResourceDatabasePopulator(new ClassPathResource("schema.sql")).execute(productsDataSource);
+        products.update("INSERT INTO tb_products (name, description, price) VALUES ('Smartphone X', 'Smartphone de última geração.', 1299.99)");
+
+        // A view dorme antes de devolver as linhas, forçando o cancelamento pelo statement_timeout da busca.
+        slowProductsDataSource = postgres.getDatabase("postgres", "ms_product_slow_db");
+        JdbcTemplate slowProducts = new JdbcTemplate(slowProductsDataSource);
+        slowProducts.execute("CREATE TABLE tb_products_data (id BIGINT PRIMARY KEY, name VARCHAR(255) NOT NULL, price NUMERIC(10, 2), "
+                + "search_vector tsvector GENERATED ALWAYS AS (to_tsvector('portuguese', name)) STORED)");
+        slowProducts.execute("CREATE VIEW tb_products AS SELECT * FROM tb_products_data WHERE (SELECT count(*) FROM pg_sleep(5)) = 1");
+        slowProducts.update("INSERT INTO tb_products_data (id, name, price) VALUES (1, 'Smartphone X', 1299.99)");
+    }
+
+    @AfterAll
+    static void stopPostgres() throws IOException {
+        postgres.close();
+    }
+
+    @Test
+    @DisplayName("Deve buscar produtos aplicando o statement_timeout local à transação")
+    void shouldSearchProducts() {
+        ProductSearchPageDto page = service(productsDataSource).search("smart", null, null, null, null);
+
+        assertEquals(1, page.items().size());
+        assertEquals("Smartphone X", page.items().get(0).name());
+    }
+
+    @Test
+    @DisplayName("Deve lançar ProductSearchTimeoutException quando o PostgreSQL cancelar a busca por statement_timeout")
+    void shouldThrowProductSearchTimeoutExceptionWhenPostgresCancelsQuery() {
+        ProductSearchService slowService = service(slowProductsDataSource);
+
+        ProductSearchTimeoutException thrown = assertTimeoutPreemptively(Duration.ofSeconds(3),
+                () -> assertThrows(ProductSearchTimeoutException.class, () -> slowService.search("smart", null, null, null, null)));
+
+        assertEquals("A busca de produtos excedeu o tempo limite de 100 ms. Refine os termos da busca.", thrown.getMessage());
+    }
+
+    private static ProductSearchService service(DataSource dataSource) {
+        return new ProductSearchService(new NamedParameterJdbcTemplate(dataSource), PROPERTIES, new DataSourceTransactionManager(dataSource));
+    }
+}
@@ -0,0 +1,164 @@
+package br.com.mswithspring.backend.ms_product.service;
+
+import br.com.mswithspring.backend.ms_product.config.ProductSearchProperties;
+import br.com.mswithspring.backend.ms_product.exception.ProductSearchTimeoutException;
+import br.com.mswithspring.backend.ms_product.model.dto.ProductSearchHitDto;
+import br.com.mswithspring.backend.ms_product.model.dto.ProductSearchPageDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.JdbcOperations;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes para ProductSearchService")
+class ProductSearchServiceTest {
+
+    @Mock
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Mock
+    private JdbcOperations jdbcOperations;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ProductSearchService productSearchService;
+
+    private ProductSearchHitDto hit1;
+    private ProductSearchHitDto hit2;
+    private ProductSearchHitDto hit3;
+
+    @BeforeEach
+    void setUp() {
+        productSearchService = new ProductSearchService(jdbcTemplate, new ProductSearchProperties(2, 5, 2, Duration.ofMillis(150)), transactionManager);
+        hit1 = new ProductSearchHitDto(1L, "Smartphone X", new BigDecimal("1299.99"), 1.5f);
+        hit2 = new ProductSearchHitDto(6L, "Smartwatch Fit Pro", new BigDecimal("799.90"), 1.2f);
+        hit3 = new ProductSearchHitDto(8L, "Teclado Smart", new BigDecimal("399.00"), 0.1f);
+    }
+
+    @Test
+    @DisplayName("Deve buscar com prefixo no último termo, filtros de preço e cursor para a próxima página")
+    @SuppressWarnings("unchecked")
+    void shouldSearchWithPrefixQueryPriceFiltersAndNextCursor() {
+        when(jdbcTemplate.getJdbcOperations()).thenReturn(jdbcOperations);
+        ArgumentCaptor<String> sqlCaptor = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<MapSqlParameterSource> parametersCaptor = ArgumentCaptor.forClass(MapSqlParameterSource.class);
+        when(jdbcTemplate.query(sqlCaptor.capture(), parametersCaptor.capture(), any(RowMapper.class))).thenReturn(List.of(hit1, hit2, hit3));
+
+        ProductSearchPageDto page = productSearchService.search(" Câmera smart", new BigDecimal("100.00"), new BigDecimal("2000.00"), null, null);
+
+        assertEquals(List.of(hit1, hit2), page.items());
+        assertNotNull(page.nextCursor());
+        MapSqlParameterSource parameters = parametersCaptor.getValue();
+        assertEquals("câmera & smart:*", parameters.getValue("tsQuery"));
+        assertEquals("câmera smart%", parameters.getValue("namePrefix"));
+        assertEquals(3, parameters.getValue("limit"));
+        assertTrue(sqlCaptor.getValue().contains("p.price >= :minPrice"));
+        assertTrue(sqlCaptor.getValue().contains("p.price <= :maxPrice"));
+        verify(jdbcOperations, times(1)).execute("SET LOCAL statement_timeout = 150");
+    }
+
+    @Test
+    @DisplayName("Deve continuar a busca a partir do cursor retornado")
+    @SuppressWarnings("unchecked")
+    void shouldContinueSearchFromCursor() {
+        when(jdbcTemplate.getJdbcOperations()).thenReturn(jdbcOperations);
+        when(jdbcTemplate.query(anyString(), any(MapSqlParameterSource.class), any(RowMapper.class))).thenReturn(List.of(hit1, hit2, hit3));
+        String cursor = productSearchService.search("smart", null, null, null, null).nextCursor();
+
+        ArgumentCaptor<String> sqlCaptor = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<MapSqlParameterSource> parametersCaptor = ArgumentCaptor.forClass(MapSqlParameterSource.class);
+        when(jdbcTemplate.query(sqlCaptor.capture(), parametersCaptor.capture(), any(RowMapper.class))).thenReturn(List.of(hit3));
+
+        ProductSearchPageDto page = productSearchService.search("smart", null, null, null, cursor);
+
+        assertEquals(List.of(hit3), page.items());
+        assertNull(page.nextCursor());
+        assertEquals(1.2f, parametersCaptor.getValue().getValue("afterScore"));
+        assertEquals(6L, parametersCaptor.getValue().getValue("afterId"));
+        assertTrue(sqlCaptor.getValue().contains("score < :afterScore"));
+    }
+
+    @Test
+    @DisplayName("Deve lançar ProductSearchTimeoutException quando a busca exceder o tempo limite")
+    @SuppressWarnings("unchecked")
+    void shouldThrowProductSearchTimeoutExceptionWhenQueryTimesOut() {
+        when(jdbcTemplate.getJdbcOperations()).thenReturn(jdbcOperations);
+        when(jdbcTemplate.query(anyString(), any(MapSqlParameterSource.class), any(RowMapper.class)))
+                .thenThrow(new QueryTimeoutException("canceling statement due to statement timeout"));
+
+        ProductSearchTimeoutException thrown = assertThrows(ProductSearchTimeoutException.class, () -> {
+            productSearchService.search("smart", null, null, null, null);
+        });
+
+        assertEquals("A busca de produtos excedeu o tempo limite de 150 ms. Refine os termos da busca.", thrown.getMessage());
+    }
+
+    @Test
+    @DisplayName("Deve lançar ProductSearchTimeoutException quando o cancelamento por statement_timeout for traduzido como falha de recurso")
+    @SuppressWarnings("unchecked")
+    void shouldThrowProductSearchTimeoutExceptionWhenStatementTimeoutIsTranslatedAsResourceFailure() {
+        when(jdbcTemplate.getJdbcOperations()).thenReturn(jdbcOperations);
+        when(jdbcTemplate.query(anyString(), any(MapSqlParameterSource.class), any(RowMapper.class)))
+                .thenThrow(new DataAccessResourceFailureException("canceling statement due to statement timeout",
+                        new SQLException("ERROR: canceling statement due to statement timeout", "57014")));
+
+        ProductSearchTimeoutException thrown = assertThrows(ProductSearchTimeoutException.class, () -> {
+            productSearchService.search("smart", null, null, null, null);
+        });
+
+        assertEquals("A busca de produtos excedeu o tempo limite de 150 ms. Refine os termos da busca.", thrown.getMessage());
+    }
+
+    @Test
+    @DisplayName("Deve propagar falhas de acesso a dados que não sejam cancelamento por tempo limite")
+    @SuppressWarnings("unchecked")
+    void shouldPropagateDataAccessFailuresOtherThanStatementTimeout() {
+        DataAccessResourceFailureException failure = new DataAccessResourceFailureException("connection refused",
+                new SQLException("Connection refused", "08001"));
+        when(jdbcTemplate.getJdbcOperations()).thenReturn(jdbcOperations);
+        when(jdbcTemplate.query(anyString(), any(MapSqlParameterSource.class), any(RowMapper.class))).thenThrow(failure);
+
+        DataAccessResourceFailureException thrown = assertThrows(DataAccessResourceFailureException.class, () -> {
+            productSearchService.search("smart", null, null, null, null);
+        });
+
+        assertSame(failure, thrown);
+    }
+
+    @Test
+    @DisplayName("Deve lançar IllegalArgumentException para cursor inválido ou faixa de preço invertida")
+    void shouldThrowIllegalArgumentExceptionForInvalidCursorOrPriceRange() {
+        IllegalArgumentException invalidCursor = assertThrows(IllegalArgumentException.class, () -> {
+            productSearchService.search("smart", null, null, null, "cursor-invalido");
+        });
+        IllegalArgumentException invalidRange = assertThrows(IllegalArgumentException.class, () -> {
+            productSearchService.search("smart", new BigDecimal("10.00"), new BigDecimal("5.00"), null, null);
+        });
+
+        assertEquals("O cursor de busca é inválido.", invalidCursor.getMessage());
+        assertEquals("O preço mínimo não pode ser maior que o preço máximo.", invalidRange.getMessage());
+        verifyNoInteractions(jdbcTemplate);
+    }
+}
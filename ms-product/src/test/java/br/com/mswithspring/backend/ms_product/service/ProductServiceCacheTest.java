@@ -0,0 +1,151 @@
+package br.com.mswithspring.backend.ms_product.service;
+
+import br.com.mswithspring.backend.ms_product.config.CacheConfig;
+import br.com.mswithspring.backend.ms_product.config.PaginationProperties;
+import br.com.mswithspring.backend.ms_product.config.ProductCacheProperties;
+import br.com.mswithspring.backend.ms_product.model.dto.ProductDto;
+import br.com.mswithspring.backend.ms_product.repository.ProductRepository;
+import br.com.mswithspring.backend.ms_product.service.mapper.ProductMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+
+@SpringJUnitConfig(ProductServiceCacheTest.TestConfig.class)
+@TestPropertySource(properties = {
+        "ms-product.cache.maximum-size=2",
+        "ms-product.cache.ttl=5m",
+        "ms-product.cache.list-ttl=30s"
+})
+@DisplayName("Testes de cache para ProductService")
+class ProductServiceCacheTest {
+
+    @MockBean
+    private ProductRepository productRepository;
+
+    @MockBean
+    private ProductMapper productMapper;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    private ProductDto productDto;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+        productDto = new ProductDto("Smartphone X", "Smartphone.", new BigDecimal("1299.99"));
+    }
+
+    @Test
+    @DisplayName("Deve consultar o repositório uma única vez para falhas de cache concorrentes do mesmo ID")
+    void shouldLoadOnceForConcurrentMisses() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(productRepository.findDtoById(1L)).thenAnswer(invocation -> {
+            loading.countDown();
+            release.await();
+            return Optional.of(productDto);
+        });
+
+        List<Future<ProductDto>> results = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            results.add(executor.submit(() -> productService.findById(1L)));
+            loading.await();
+            for (int i = 0; i < 9; i++) {
+                results.add(executor.submit(() -> productService.findById(1L)));
+            }
+            Thread.sleep(50);
+            release.countDown();
+
+            for (Future<ProductDto> result : results) {
+                assertEquals(productDto, result.get());
+            }
+        }
+        verify(productRepository, times(1)).findDtoById(1L);
+    }
+
+    @Test
+    @DisplayName("Deve servir a segunda busca pelo mesmo ID a partir do cache")
+    void shouldServeSecondFindByIdFromCache() {
+        when(productRepository.findDtoById(1L)).thenReturn(Optional.of(productDto));
+        long hitsBefore = nativeCache(CacheConfig.PRODUCTS_CACHE).stats().hitCount();
+
+        ProductDto first = productService.findById(1L);
+        ProductDto second = productService.findById(1L);
+
+        assertEquals(productDto, first);
+        assertEquals(productDto, second);
+        verify(productRepository, times(1)).findDtoById(1L);
+        assertEquals(hitsBefore + 1, nativeCache(CacheConfig.PRODUCTS_CACHE).stats().hitCount());
+    }
+
+    @Test
+    @DisplayName("Deve aplicar o tamanho máximo e o TTL configurados em ms-product.cache")
+    void shouldApplyConfiguredCacheSpec() {
+        Cache<Object, Object> products = nativeCache(CacheConfig.PRODUCTS_CACHE);
+        Cache<Object, Object> productList = nativeCache(CacheConfig.PRODUCT_LIST_CACHE);
+
+        assertEquals(2, products.policy().eviction().orElseThrow().getMaximum());
+        assertEquals(300, products.policy().expireAfterWrite().orElseThrow().getExpiresAfter(TimeUnit.SECONDS));
+        assertEquals(30, productList.policy().expireAfterWrite().orElseThrow().getExpiresAfter(TimeUnit.SECONDS));
+    }
+
+    @Test
+    @DisplayName("Deve respeitar o tamanho máximo do cache ao buscar mais produtos do que o limite")
+    void shouldEvictBeyondMaximumSize() {
+        when(productRepository.findDtoById(anyLong())).thenReturn(Optional.of(productDto));
+
+        for (long id = 1; id <= 5; id++) {
+            productService.findById(id);
+        }
+        Cache<Object, Object> products = nativeCache(CacheConfig.PRODUCTS_CACHE);
+        products.cleanUp();
+
+        assertTrue(products.estimatedSize() <= 2);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Cache<Object, Object> nativeCache(String name) {
+        return (Cache<Object, Object>) cacheManager.getCache(name).getNativeCache();
+    }
+
+    @Configuration
+    @Import(CacheConfig.class)
+    @EnableConfigurationProperties(ProductCacheProperties.class)
+    static class TestConfig {
+
+        @Bean
+        ProductService productService(ProductRepository productRepository, ProductMapper productMapper, ApplicationEventPublisher eventPublisher) {
+            return new ProductService(productRepository, productMapper, eventPublisher, new PaginationProperties(50, 500));
+        }
+    }
+}
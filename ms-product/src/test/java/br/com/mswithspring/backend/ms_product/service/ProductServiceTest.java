@@ -1,23 +1,33 @@
 package br.com.mswithspring.backend.ms_product.service;
 
+import br.com.mswithspring.backend.ms_product.config.PaginationProperties;
+import br.com.mswithspring.backend.ms_product.event.ProductsChangedEvent;
 import br.com.mswithspring.backend.ms_product.exception.ProductNotFoundException;
 import br.com.mswithspring.backend.ms_product.model.dto.ProductDto;
+import br.com.mswithspring.backend.ms_product.model.dto.ProductPageDto;
+import br.com.mswithspring.backend.ms_product.model.dto.ProductSummaryDto;
+import br.com.mswithspring.backend.ms_product.model.dto.ProductSummaryPageDto;
 import br.com.mswithspring.backend.ms_product.model.entity.Product;
+import br.com.mswithspring.backend.ms_product.model.projection.ProductView;
 import br.com.mswithspring.backend.ms_product.repository.ProductRepository;
 import br.com.mswithspring.backend.ms_product.service.mapper.ProductMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 //import static org.mockito.ArgumentMatchers.any;
@@ -35,29 +45,30 @@ class ProductServiceTest {
     @Mock
     private ProductMapper productMapper;
 
-    @InjectMocks
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     private ProductService productService;
 
-    private Product product1;
     private ProductDto productDto1;
-    private Product product2;
     private ProductDto productDto2;
+    private ProductView view1;
+    private ProductView view2;
 
     @BeforeEach
     void setUp() {
-        product1 = new Product(1L, "Smartphone X", "Smartphone de última geração.", new BigDecimal("1299.99"));
+        productService = new ProductService(productRepository, productMapper, eventPublisher, new PaginationProperties(2, 3));
         productDto1 = new ProductDto("Smartphone X", "Smartphone de última geração.", new BigDecimal("1299.99"));
-        product2 = new Product(2L, "Notebook Gamer", "Notebook potente para jogos.", new BigDecimal("4500.00"));
         productDto2 = new ProductDto("Notebook Gamer", "Notebook potente para jogos.", new BigDecimal("4500.00"));
+        view1 = new ProductView(1L, "Smartphone X", "Smartphone de última geração.", new BigDecimal("1299.99"));
+        view2 = new ProductView(2L, "Notebook Gamer", "Notebook potente para jogos.", new BigDecimal("4500.00"));
     }
 
     @Test
     @DisplayName("Deve retornar todos os produtos DTOs")
     void shouldReturnAllProductDtos() {
 
-        when(productRepository.findAll()).thenReturn(Arrays.asList(product1, product2));
-        when(productMapper.toDto(product1)).thenReturn(Optional.of(productDto1));
-        when(productMapper.toDto(product2)).thenReturn(Optional.of(productDto2));
+        when(productRepository.findAllDtos()).thenReturn(Arrays.asList(productDto1, productDto2));
 
         List<ProductDto> result = productService.findAll();
 
@@ -66,23 +77,74 @@ class ProductServiceTest {
         assertEquals(productDto1.name(), result.get(0).name());
         assertEquals(productDto2.name(), result.get(1).name());
 
-        verify(productRepository, times(1)).findAll();
-        verify(productMapper, times(1)).toDto(product1);
-        verify(productMapper, times(1)).toDto(product2);
+        verify(productRepository, times(1)).findAllDtos();
+        verify(productRepository, never()).findAll();
+        verifyNoInteractions(productMapper);
     }
 
     @Test
     @DisplayName("Deve retornar lista vazia quando não houver produtos")
     void shouldReturnEmptyListWhenNoProducts() {
-        when(productRepository.findAll()).thenReturn(Collections.emptyList());
+        when(productRepository.findAllDtos()).thenReturn(Collections.emptyList());
 
         List<ProductDto> result = productService.findAll();
 
         assertNotNull(result);
         assertTrue(result.isEmpty());
 
-        verify(productRepository, times(1)).findAll();
+        verify(productRepository, times(1)).findAllDtos();
+
+        verifyNoInteractions(productMapper);
+    }
+
+    @Test
+    @DisplayName("Deve retornar a página de produtos com o cursor da próxima página")
+    void shouldReturnProductPageWithNextCursor() {
+        ProductView view3 = new ProductView(3L, "Webcam Full HD", "Webcam para videochamadas.", new BigDecimal("120.00"));
+        when(productRepository.findViewsAfter(0L, PageRequest.of(0, 3))).thenReturn(Arrays.asList(view1, view2, view3));
+
+        ProductPageDto result = productService.findPage(null, null);
+
+        assertEquals(List.of(productDto1, productDto2), result.items());
+        assertEquals(2L, result.nextAfterId());
+        verifyNoInteractions(productMapper);
+    }
+
+    @Test
+    @DisplayName("Deve limitar o tamanho da página e não retornar cursor na última página")
+    void shouldClampPageSizeAndReturnNoCursorOnLastPage() {
+        when(productRepository.findViewsAfter(1L, PageRequest.of(0, 4))).thenReturn(List.of(view2));
+
+        ProductPageDto result = productService.findPage(1L, 1000);
+
+        assertEquals(List.of(productDto2), result.items());
+        assertNull(result.nextAfterId());
+        verify(productRepository, times(1)).findViewsAfter(1L, PageRequest.of(0, 4));
+    }
+
+    @Test
+    @DisplayName("Deve retornar a página de resumos de produtos sem descrição")
+    void shouldReturnProductSummaryPage() {
+        ProductSummaryDto summary1 = new ProductSummaryDto(1L, "Smartphone X", new BigDecimal("1299.99"));
+        ProductSummaryDto summary2 = new ProductSummaryDto(2L, "Notebook Gamer", new BigDecimal("4500.00"));
+        ProductSummaryDto summary3 = new ProductSummaryDto(3L, "Webcam Full HD", new BigDecimal("120.00"));
+        when(productRepository.findSummariesAfter(0L, PageRequest.of(0, 3))).thenReturn(List.of(summary1, summary2, summary3));
+
+        ProductSummaryPageDto result = productService.findSummaryPage(0L, 2);
 
+        assertEquals(List.of(summary1, summary2), result.items());
+        assertEquals(2L, result.nextAfterId());
+    }
+
+    @Test
+    @DisplayName("Deve percorrer todos os produtos em stream")
+    void shouldStreamAllProducts() {
+        when(productRepository.streamAllDtos()).thenReturn(Stream.of(productDto1, productDto2));
+        List<ProductDto> streamed = new ArrayList<>();
+
+        productService.streamAll(streamed::add);
+
+        assertEquals(List.of(productDto1, productDto2), streamed);
         verifyNoInteractions(productMapper);
     }
 
@@ -90,16 +152,16 @@ class ProductServiceTest {
     @DisplayName("Deve retornar ProductDto pelo ID")
     void shouldReturnProductDtoById() {
         Long productId = 1L;
-        when(productRepository.findById(productId)).thenReturn(Optional.of(product1));
-        when(productMapper.toDto(product1)).thenReturn(Optional.of(productDto1));
+        when(productRepository.findDtoById(productId)).thenReturn(Optional.of(productDto1));
 
         ProductDto result = productService.findById(productId);
 
         assertNotNull(result);
         assertEquals(productDto1.name(), result.name());
 
-        verify(productRepository, times(1)).findById(productId);
-        verify(productMapper, times(1)).toDto(product1);
+        verify(productRepository, times(1)).findDtoById(productId);
+        verify(productRepository, never()).findById(anyLong());
+        verifyNoInteractions(productMapper);
     }
 
     @Test
@@ -107,7 +169,7 @@ class ProductServiceTest {
     void shouldThrowProductNotFoundExceptionWhenProductNotFoundById() {
         Long nonExistentId = 99L;
 
-        when(productRepository.findById(nonExistentId)).thenReturn(Optional.empty());
+        when(productRepository.findDtoById(nonExistentId)).thenReturn(Optional.empty());
 
         ProductNotFoundException thrown = assertThrows(ProductNotFoundException.class, () -> {
             productService.findById(nonExistentId);
@@ -115,27 +177,37 @@ class ProductServiceTest {
 
         assertEquals("Produto com ID " + nonExistentId + " não encontrado.", thrown.getMessage());
 
-        verify(productRepository, times(1)).findById(nonExistentId);
+        verify(productRepository, times(1)).findDtoById(nonExistentId);
         verifyNoInteractions(productMapper);
     }
 
     @Test
-    @DisplayName("Deve lançar IllegalStateException quando o mapeamento de entidade para DTO falhar em findById")
-    void shouldThrowIllegalStateExceptionWhenMapperFailsInFindById() {
-        Long productId = 1L;
+    @DisplayName("Deve retornar os ProductDtos encontrados em lote indexados pelo ID")
+    void shouldReturnProductDtosByIdsInBatch() {
+        when(productRepository.findViewsByIdIn(List.of(1L, 2L, 99L))).thenReturn(Arrays.asList(view1, view2));
 
-        when(productRepository.findById(productId)).thenReturn(Optional.of(product1));
+        Map<Long, ProductDto> result = productService.findAllById(List.of(1L, 2L, 2L, 99L));
 
-        when(productMapper.toDto(product1)).thenReturn(Optional.empty());
+        assertEquals(2, result.size());
+        assertEquals(productDto1, result.get(1L));
+        assertEquals(productDto2, result.get(2L));
+        assertFalse(result.containsKey(99L));
 
-        IllegalStateException thrown = assertThrows(IllegalStateException.class, () -> {
-            productService.findById(productId);
+        verify(productRepository, times(1)).findViewsByIdIn(List.of(1L, 2L, 99L));
+        verifyNoInteractions(productMapper);
+    }
+
+    @Test
+    @DisplayName("Deve lançar IllegalArgumentException quando a lista de IDs for vazia em findAllById")
+    void shouldThrowIllegalArgumentExceptionWhenIdsAreEmptyInFindAllById() {
+        IllegalArgumentException thrown = assertThrows(IllegalArgumentException.class, () -> {
+            productService.findAllById(Collections.emptyList());
         });
 
-        assertEquals("Erro ao mapear produto para DTO.", thrown.getMessage());
+        assertEquals("A lista de IDs não pode ser vazia.", thrown.getMessage());
 
-        verify(productRepository, times(1)).findById(productId);
-        verify(productMapper, times(1)).toDto(product1);
+        verifyNoInteractions(productRepository);
+        verifyNoInteractions(productMapper);
     }
 
     @Test
@@ -267,6 +339,7 @@ class ProductServiceTest {
         verify(productMapper, times(1)).updateEntityFromDto(existingProduct, updatedProductDto);
         verify(productRepository, times(1)).save(productAfterUpdate);
         verify(productMapper, times(1)).toDto(productAfterUpdate);
+        verify(eventPublisher, times(1)).publishEvent(ProductsChangedEvent.of(productId, ProductsChangedEvent.ChangeType.UPDATED));
     }
 
     @Test
@@ -341,6 +414,7 @@ class ProductServiceTest {
 
         verify(productRepository, times(1)).existsById(productId);
         verify(productRepository, times(1)).deleteById(productId);
+        verify(eventPublisher, times(1)).publishEvent(ProductsChangedEvent.of(productId, ProductsChangedEvent.ChangeType.DELETED));
     }
 
     @Test
@@ -358,5 +432,6 @@ class ProductServiceTest {
 
         verify(productRepository, times(1)).existsById(nonExistentId);
         verify(productRepository, never()).deleteById(anyLong());
+        verifyNoInteractions(eventPublisher);
     }
 }
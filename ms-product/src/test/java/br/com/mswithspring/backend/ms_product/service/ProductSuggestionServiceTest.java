@@ -0,0 +1,88 @@
+package br.com.mswithspring.backend.ms_product.service;
+
+import br.com.mswithspring.backend.ms_product.config.ProductSuggestionProperties;
+import br.com.mswithspring.backend.ms_product.event.ProductsChangedEvent;
+import br.com.mswithspring.backend.ms_product.model.dto.ProductSuggestionDto;
+import br.com.mswithspring.backend.ms_product.model.dto.ProductSuggestionIndexStatsDto;
+import br.com.mswithspring.backend.ms_product.model.projection.ProductNameView;
+import br.com.mswithspring.backend.ms_product.repository.ProductRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes para ProductSuggestionService")
+class ProductSuggestionServiceTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    private ProductSuggestionService productSuggestionService;
+
+    @BeforeEach
+    void setUp() {
+        productSuggestionService = new ProductSuggestionService(productRepository, new ProductSuggestionProperties(10, 20));
+        when(productRepository.streamNames()).thenReturn(Stream.of(
+                new ProductNameView(1L, "Smartphone X"),
+                new ProductNameView(6L, "Smartwatch Fit Pro"),
+                new ProductNameView(9L, "Câmera de Segurança IP")));
+        productSuggestionService.rebuild();
+    }
+
+    @Test
+    @DisplayName("Deve sugerir produtos por prefixo ignorando acentos e maiúsculas")
+    void shouldSuggestByPrefixIgnoringAccentsAndCase() {
+        assertEquals(List.of(new ProductSuggestionDto(9L, "Câmera de Segurança IP")), productSuggestionService.suggest("CAME", null));
+        assertEquals(List.of(new ProductSuggestionDto(9L, "Câmera de Segurança IP")), productSuggestionService.suggest("seguranç", null));
+        assertEquals(List.of(1L, 6L), productSuggestionService.suggest("smart", null).stream().map(ProductSuggestionDto::id).toList());
+        assertEquals(1, productSuggestionService.suggest("smart", 1).size());
+    }
+
+    @Test
+    @DisplayName("Deve atualizar o índice incrementalmente ao criar, atualizar e deletar produtos")
+    void shouldUpdateIndexIncrementally() {
+        when(productRepository.findNamesByIdIn(List.of(11L))).thenReturn(List.of(new ProductNameView(11L, "Smart TV 65 polegadas")));
+        when(productRepository.findNamesByIdIn(List.of(1L))).thenReturn(List.of(new ProductNameView(1L, "Celular Y")));
+
+        productSuggestionService.onProductsChanged(ProductsChangedEvent.of(11L, ProductsChangedEvent.ChangeType.CREATED));
+        productSuggestionService.onProductsChanged(ProductsChangedEvent.of(1L, ProductsChangedEvent.ChangeType.UPDATED));
+        productSuggestionService.onProductsChanged(ProductsChangedEvent.of(6L, ProductsChangedEvent.ChangeType.DELETED));
+
+        assertEquals(List.of(new ProductSuggestionDto(11L, "Smart TV 65 polegadas")), productSuggestionService.suggest("smart", null));
+        assertEquals(List.of(new ProductSuggestionDto(1L, "Celular Y")), productSuggestionService.suggest("cel", null));
+        assertTrue(productSuggestionService.suggest("fit", null).isEmpty());
+        verify(productRepository, never()).findNamesByIdIn(List.of(6L));
+    }
+
+    @Test
+    @DisplayName("Deve reportar o tamanho estimado do índice por nome indexado")
+    void shouldReportIndexFootprint() {
+        ProductSuggestionIndexStatsDto stats = productSuggestionService.stats();
+
+        assertTrue(stats.ready());
+        assertEquals(3, stats.indexedNames());
+        assertEquals(9, stats.indexedKeys());
+        assertTrue(stats.trieNodes() > 0);
+        assertEquals(stats.estimatedBytes() / 3, stats.estimatedBytesPerName());
+    }
+
+    @Test
+    @DisplayName("Deve lançar IllegalArgumentException para prefixo sem letras ou números")
+    void shouldThrowIllegalArgumentExceptionForEmptyPrefix() {
+        IllegalArgumentException thrown = assertThrows(IllegalArgumentException.class, () -> {
+            productSuggestionService.suggest("--", null);
+        });
+
+        assertEquals("O prefixo deve conter ao menos uma letra ou número.", thrown.getMessage());
+    }
+}
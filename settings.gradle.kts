@@ -3,4 +3,6 @@ rootProject.name = "dio_desafio_ntt_data"
 include("eureka")
 include("gateway")
 include("ms-product")
-include("ms-order")
\ No newline at end of file
+include("ms-order")
+include("benchmarks")
+include("loadtest")
\ No newline at end of file